@@ -0,0 +1,8 @@
+package br.com.lukinhasssss.admin.catalogo.application;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncUnitUseCase<IN> {
+
+    public abstract CompletableFuture<Void> execute(IN anIn);
+}
@@ -0,0 +1,19 @@
+package br.com.lukinhasssss.admin.catalogo.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Contrapartida do UseCase que não bloqueia quem chama: as falhas vêm no próprio CompletableFuture
+ */
+public abstract class AsyncUseCase<IN, OUT> {
+
+    public abstract CompletableFuture<OUT> execute(IN anIn);
+
+    /**
+     * As etapas encadeadas (thenApply, thenCompose...) recebem a falha de uma etapa anterior embrulhada em CompletionException
+     */
+    protected static Throwable unwrap(final Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+}
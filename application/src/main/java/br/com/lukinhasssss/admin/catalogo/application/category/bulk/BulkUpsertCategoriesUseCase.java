@@ -0,0 +1,11 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.bulk;
+
+import br.com.lukinhasssss.admin.catalogo.application.UseCase;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class BulkUpsertCategoriesUseCase
+    extends UseCase<List<UpsertCategoryCommand>, List<Either<Notification, UpsertCategoryOutput>>> {
+}
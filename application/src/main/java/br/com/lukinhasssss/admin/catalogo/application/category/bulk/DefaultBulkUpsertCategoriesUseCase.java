@@ -0,0 +1,120 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.bulk;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+public class DefaultBulkUpsertCategoriesUseCase extends BulkUpsertCategoriesUseCase {
+
+    public static final int MAX_ITEMS = 1000;
+
+    // Tamanho da coluna category.id
+    private static final int ID_MAX_LENGTH = 36;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBulkUpsertCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Cada item é validado isoladamente e recebe a sua própria Notification.
+     * Um item com id é atualizado quando a categoria existe e criado com esse id quando não existe.
+     * As categorias válidas são gravadas de uma vez (um createAll e um updateAll numa única transação, ver
+     * CategoryGateway.saveAll) para que o gateway consiga agrupar os INSERTs/UPDATEs em batch, ao invés de uma ida
+     * ao banco por item. Se o banco rejeitar a escrita nada é gravado, e todos os itens válidos recebem a Notification
+     * da falha: os itens inválidos nunca impedem a gravação dos outros, mas a gravação dos válidos é tudo ou nada
+     */
+    @Override
+    public List<Either<Notification, UpsertCategoryOutput>> execute(final List<UpsertCategoryCommand> aCommands) {
+        if (aCommands.size() > MAX_ITEMS)
+            throw DomainException.with(new Error("'items' must have at most %d categories".formatted(MAX_ITEMS)));
+
+        final var existing = findExisting(aCommands);
+        final var seenIds = new HashSet<String>();
+
+        final var prepared = aCommands.stream()
+            .map(aCommand -> prepare(aCommand, existing, seenIds))
+            .toList();
+
+        final var toCreate = new ArrayList<Category>();
+        final var toUpdate = new ArrayList<Category>();
+
+        for (final var anItem : prepared)
+            anItem.forEach(aCategory -> (existing.containsKey(aCategory.getId()) ? toUpdate : toCreate).add(aCategory));
+
+        final var failure = toCreate.isEmpty() && toUpdate.isEmpty()
+            ? null
+            : Try.run(() -> categoryGateway.saveAll(toCreate, toUpdate)).fold(Notification::create, ignored -> null);
+
+        return prepared.stream()
+            .map(anItem -> anItem.flatMap(aCategory -> failure != null
+                ? Left(failure)
+                : Right(existing.containsKey(aCategory.getId())
+                    ? UpsertCategoryOutput.updated(aCategory)
+                    : UpsertCategoryOutput.created(aCategory))
+            ))
+            .toList();
+    }
+
+    private Map<CategoryID, Category> findExisting(final List<UpsertCategoryCommand> aCommands) {
+        final Set<CategoryID> ids = aCommands.stream()
+            .filter(UpsertCategoryCommand::hasId)
+            .map(aCommand -> CategoryID.from(aCommand.id()))
+            .collect(Collectors.toSet());
+
+        if (ids.isEmpty())
+            return Map.of();
+
+        return categoryGateway.findAllByIds(ids).stream()
+            .collect(Collectors.toMap(Category::getId, Function.identity()));
+    }
+
+    private Either<Notification, Category> prepare(
+        final UpsertCategoryCommand aCommand,
+        final Map<CategoryID, Category> existing,
+        final Set<String> seenIds
+    ) {
+        final var notification = Notification.create();
+        final Category aCategory;
+
+        if (aCommand.hasId()) {
+            final var anId = CategoryID.from(aCommand.id());
+
+            if (aCommand.id().isBlank() || aCommand.id().length() > ID_MAX_LENGTH)
+                return Left(Notification.create(new Error("'id' must be between 1 and %d characters".formatted(ID_MAX_LENGTH))));
+
+            if (!seenIds.add(aCommand.id()))
+                return Left(Notification.create(new Error("'id' %s is duplicated in the request".formatted(aCommand.id()))));
+
+            final var current = existing.get(anId);
+
+            aCategory = current != null
+                ? Category.with(current).update(aCommand.name(), aCommand.description(), aCommand.isActive())
+                : Category.newCategory(anId, aCommand.name(), aCommand.description(), aCommand.isActive());
+        } else {
+            aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+        }
+
+        aCategory.validate(notification);
+
+        return notification.hasError() ? Left(notification) : Right(aCategory);
+    }
+}
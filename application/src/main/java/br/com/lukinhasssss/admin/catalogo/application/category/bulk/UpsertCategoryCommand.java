@@ -0,0 +1,33 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.bulk;
+
+public record UpsertCategoryCommand(
+    String id,
+    String name,
+    String description,
+    boolean isActive
+) {
+
+    public static UpsertCategoryCommand with(
+        final String aName,
+        final String aDescription,
+        final boolean isActive
+    ) {
+        return with(null, aName, aDescription, isActive);
+    }
+
+    public static UpsertCategoryCommand with(
+        final String anId,
+        final String aName,
+        final String aDescription,
+        final boolean isActive
+    ) {
+        return new UpsertCategoryCommand(anId, aName, aDescription, isActive);
+    }
+
+    /**
+     * Com id o item atualiza a categoria existente ou, quando ela não existe, a cria com esse id
+     */
+    public boolean hasId() {
+        return id != null;
+    }
+}
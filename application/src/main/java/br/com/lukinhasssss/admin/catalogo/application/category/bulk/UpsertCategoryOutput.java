@@ -0,0 +1,17 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.bulk;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+
+public record UpsertCategoryOutput(
+    String id,
+    boolean created
+) {
+
+    public static UpsertCategoryOutput created(final Category aCategory) {
+        return new UpsertCategoryOutput(aCategory.getId().getValue(), true);
+    }
+
+    public static UpsertCategoryOutput updated(final Category aCategory) {
+        return new UpsertCategoryOutput(aCategory.getId().getValue(), false);
+    }
+}
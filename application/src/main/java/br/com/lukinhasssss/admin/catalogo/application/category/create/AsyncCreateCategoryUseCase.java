@@ -0,0 +1,8 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.create;
+
+import br.com.lukinhasssss.admin.catalogo.application.AsyncUseCase;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class AsyncCreateCategoryUseCase
+    extends AsyncUseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> { }
@@ -0,0 +1,41 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.create;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+public class DefaultAsyncCreateCategoryUseCase extends AsyncCreateCategoryUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncCreateCategoryUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletableFuture<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand aCommand) {
+        final var notification = Notification.create();
+
+        final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+        aCategory.validate(notification);
+
+        return notification.hasError() ? CompletableFuture.completedFuture(Left(notification)) : create(aCategory);
+    }
+
+    /**
+     * Assim como no DefaultCreateCategoryUseCase, uma falha do gateway vira uma notificação
+     */
+    private CompletableFuture<Either<Notification, CreateCategoryOutput>> create(final Category aCategory) {
+        return this.categoryGateway.create(aCategory)
+            .handle((created, ex) -> ex != null
+                ? Left(Notification.create(unwrap(ex)))
+                : Right(CreateCategoryOutput.from(created)));
+    }
+}
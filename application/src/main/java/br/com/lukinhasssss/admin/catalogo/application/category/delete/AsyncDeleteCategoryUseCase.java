@@ -0,0 +1,6 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.delete;
+
+import br.com.lukinhasssss.admin.catalogo.application.AsyncUnitUseCase;
+
+public abstract class AsyncDeleteCategoryUseCase
+    extends AsyncUnitUseCase<String> { }
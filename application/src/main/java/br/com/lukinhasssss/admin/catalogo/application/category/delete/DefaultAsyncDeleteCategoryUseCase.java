@@ -0,0 +1,21 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.delete;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class DefaultAsyncDeleteCategoryUseCase extends AsyncDeleteCategoryUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncDeleteCategoryUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(final String anIn) {
+        return this.categoryGateway.deleteById(CategoryID.from(anIn));
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.importing.ImportCategoriesOutput.ImportCategoryError;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultImportCategoriesUseCase extends ImportCategoriesUseCase {
+
+    public static final int BATCH_SIZE = 500;
+    public static final int MAX_ERRORS = 100;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultImportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Os registros são consumidos um a um do iterator e gravados em lotes de BATCH_SIZE, assim
+     * a memória utilizada não depende do tamanho do arquivo. Das falhas de validação guardamos
+     * apenas as MAX_ERRORS primeiras, as demais entram somente na contagem.
+     * Um registro que não pôde ser lido (o iterator lança DomainException no next) também conta como falha
+     * e o import segue nos próximos, assim os lotes já gravados nunca ficam em um job marcado como falho
+     */
+    @Override
+    public ImportCategoriesOutput execute(final ImportCategoriesCommand aCommand) {
+        final var records = aCommand.records();
+        final var batch = new ArrayList<Category>(BATCH_SIZE);
+        final var errors = new ArrayList<ImportCategoryError>();
+
+        long processed = 0;
+        long imported = 0;
+        long failed = 0;
+
+        while (records.hasNext()) {
+            processed++;
+
+            final var notification = Notification.create();
+
+            try {
+                final var aRecord = records.next();
+                final var aCategory = Category.newCategory(aRecord.name(), aRecord.description(), aRecord.isActive());
+                aCategory.validate(notification);
+
+                if (!notification.hasError())
+                    batch.add(aCategory);
+            } catch (final DomainException ex) {
+                ex.getErrors().forEach(notification::append);
+            }
+
+            if (notification.hasError()) {
+                failed++;
+
+                if (errors.size() < MAX_ERRORS)
+                    errors.add(new ImportCategoryError(processed, notification.getErrors()));
+            }
+
+            if (batch.size() == BATCH_SIZE) {
+                imported += flush(batch);
+                aCommand.onProgress().accept(new ImportCategoriesOutput(processed, imported, failed, List.copyOf(errors)));
+            }
+        }
+
+        imported += flush(batch);
+
+        final var output = new ImportCategoriesOutput(processed, imported, failed, List.copyOf(errors));
+        aCommand.onProgress().accept(output);
+
+        return output;
+    }
+
+    private int flush(final List<Category> batch) {
+        if (batch.isEmpty())
+            return 0;
+
+        final var size = batch.size();
+
+        categoryGateway.createAll(List.copyOf(batch));
+        batch.clear();
+
+        return size;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryCommand;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * @param records O next pode lançar DomainException quando um registro não pôde ser lido, a leitura segue no próximo
+ */
+public record ImportCategoriesCommand(
+    Iterator<CreateCategoryCommand> records,
+    Consumer<ImportCategoriesOutput> onProgress
+) {
+
+    public static ImportCategoriesCommand with(final Iterator<CreateCategoryCommand> records) {
+        return with(records, progress -> {});
+    }
+
+    public static ImportCategoriesCommand with(
+        final Iterator<CreateCategoryCommand> records,
+        final Consumer<ImportCategoriesOutput> onProgress
+    ) {
+        return new ImportCategoriesCommand(records, onProgress);
+    }
+}
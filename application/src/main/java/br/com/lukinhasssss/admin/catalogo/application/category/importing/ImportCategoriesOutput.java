@@ -0,0 +1,19 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record ImportCategoriesOutput(
+    long processed,
+    long imported,
+    long failed,
+    List<ImportCategoryError> errors
+) {
+
+    public static ImportCategoriesOutput empty() {
+        return new ImportCategoriesOutput(0, 0, 0, List.of());
+    }
+
+    public record ImportCategoryError(long record, List<Error> errors) {}
+}
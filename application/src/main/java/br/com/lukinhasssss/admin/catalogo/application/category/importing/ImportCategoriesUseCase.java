@@ -0,0 +1,7 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.application.UseCase;
+
+public abstract class ImportCategoriesUseCase
+    extends UseCase<ImportCategoriesCommand, ImportCategoriesOutput> {
+}
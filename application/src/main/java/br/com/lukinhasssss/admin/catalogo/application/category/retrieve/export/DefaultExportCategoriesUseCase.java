@@ -0,0 +1,24 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.export;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Entrega as categorias uma a uma para o consumer, sem montar uma lista ou uma Pagination
+     */
+    @Override
+    public void execute(final Consumer<CategoryOutput> aConsumer) {
+        categoryGateway.streamAll(aCategory -> aConsumer.accept(CategoryOutput.from(aCategory)));
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.export;
+
+import br.com.lukinhasssss.admin.catalogo.application.UnitUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase
+    extends UnitUseCase<Consumer<CategoryOutput>> {
+}
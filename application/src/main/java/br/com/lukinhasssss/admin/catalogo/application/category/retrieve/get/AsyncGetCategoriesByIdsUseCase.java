@@ -0,0 +1,8 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import br.com.lukinhasssss.admin.catalogo.application.AsyncUseCase;
+
+import java.util.List;
+
+public abstract class AsyncGetCategoriesByIdsUseCase
+    extends AsyncUseCase<List<String>, CategoriesByIdsOutput> { }
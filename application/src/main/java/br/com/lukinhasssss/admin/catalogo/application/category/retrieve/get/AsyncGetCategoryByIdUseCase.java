@@ -0,0 +1,6 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import br.com.lukinhasssss.admin.catalogo.application.AsyncUseCase;
+
+public abstract class AsyncGetCategoryByIdUseCase
+    extends AsyncUseCase<String, CategoryOutput> { }
@@ -0,0 +1,10 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+
+import java.util.List;
+
+public record CategoriesByIdsOutput(
+    List<CategoryOutput> items,
+    List<CategoryID> missing
+) {}
@@ -0,0 +1,33 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public class DefaultAsyncGetCategoryByIdUseCase extends AsyncGetCategoryByIdUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncGetCategoryByIdUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CompletableFuture<CategoryOutput> execute(final String anIn) {
+        final var anCategoryID = CategoryID.from(anIn);
+
+        return this.categoryGateway.findById(anCategoryID)
+            .thenApply(aCategory -> aCategory
+                .map(CategoryOutput::from)
+                .orElseThrow(notFound(anCategoryID)));
+    }
+
+    private static Supplier<NotFoundException> notFound(final CategoryID anId) {
+        return () -> NotFoundException.with(Category.class, anId);
+    }
+}
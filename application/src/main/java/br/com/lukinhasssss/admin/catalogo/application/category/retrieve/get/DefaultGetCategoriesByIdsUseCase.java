@@ -0,0 +1,50 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+
+    public static final int MAX_IDS = 100;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Todos os ids são buscados de uma vez no gateway, ao invés de um findById por id.
+     * As categorias encontradas e os ids que não existem voltam na ordem em que foram pedidos, sem repetições
+     */
+    @Override
+    public CategoriesByIdsOutput execute(final List<String> anIds) {
+        final var ids = anIds.stream()
+            .filter(anId -> anId != null && !anId.isBlank())
+            .map(CategoryID::from)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (ids.size() > MAX_IDS)
+            throw DomainException.with(new Error("'ids' must have at most %d ids".formatted(MAX_IDS)));
+
+        if (ids.isEmpty())
+            return new CategoriesByIdsOutput(List.of(), List.of());
+
+        final var found = this.categoryGateway.findAllByIds(ids).stream()
+            .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        return new CategoriesByIdsOutput(
+            ids.stream().filter(found::containsKey).map(found::get).map(CategoryOutput::from).toList(),
+            ids.stream().filter(anId -> !found.containsKey(anId)).toList()
+        );
+    }
+}
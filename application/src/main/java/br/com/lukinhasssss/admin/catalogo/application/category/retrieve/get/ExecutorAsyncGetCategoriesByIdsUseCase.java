@@ -0,0 +1,25 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Executa o use case síncrono no executor informado, liberando a thread de quem chama enquanto o banco responde
+ */
+public class ExecutorAsyncGetCategoriesByIdsUseCase extends AsyncGetCategoriesByIdsUseCase {
+
+    private final GetCategoriesByIdsUseCase useCase;
+    private final Executor executor;
+
+    public ExecutorAsyncGetCategoriesByIdsUseCase(final GetCategoriesByIdsUseCase useCase, final Executor executor) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<CategoriesByIdsOutput> execute(final List<String> anIds) {
+        return CompletableFuture.supplyAsync(() -> this.useCase.execute(anIds), this.executor);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Executa o use case síncrono no executor informado, liberando a thread de quem chama enquanto o banco responde.
+ * As exceções do use case (ex: NotFoundException) completam o CompletableFuture
+ */
+public class ExecutorAsyncGetCategoryByIdUseCase extends AsyncGetCategoryByIdUseCase {
+
+    private final GetCategoryByIdUseCase useCase;
+    private final Executor executor;
+
+    public ExecutorAsyncGetCategoryByIdUseCase(final GetCategoryByIdUseCase useCase, final Executor executor) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<CategoryOutput> execute(final String anIn) {
+        return CompletableFuture.supplyAsync(() -> this.useCase.execute(anIn), this.executor);
+    }
+}
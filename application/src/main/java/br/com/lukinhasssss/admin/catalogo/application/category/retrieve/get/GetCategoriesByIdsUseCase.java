@@ -0,0 +1,8 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import br.com.lukinhasssss.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class GetCategoriesByIdsUseCase
+    extends UseCase<List<String>, CategoriesByIdsOutput> { }
@@ -0,0 +1,8 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list;
+
+import br.com.lukinhasssss.admin.catalogo.application.AsyncUseCase;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+
+public abstract class AsyncListCategoriesUseCase
+    extends AsyncUseCase<CategorySearchQuery, Pagination<CategoryListOutput>> { }
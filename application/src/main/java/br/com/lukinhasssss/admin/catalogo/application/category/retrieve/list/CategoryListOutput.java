@@ -2,6 +2,7 @@ package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list;
 
 import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
 
 import java.time.Instant;
 
@@ -24,4 +25,15 @@ public record CategoryListOutput(
             aCategory.getDeletedAt()
         );
     }
+
+    public static CategoryListOutput from(final CategorySummary aSummary) {
+        return new CategoryListOutput(
+            aSummary.id(),
+            aSummary.name(),
+            aSummary.description(),
+            aSummary.isActive(),
+            aSummary.createdAt(),
+            aSummary.deletedAt()
+        );
+    }
 }
@@ -0,0 +1,33 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class DefaultAsyncListCategoriesUseCase extends AsyncListCategoriesUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncListCategoriesUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Mesmas regras de ordenação do DefaultListCategoriesUseCase
+     */
+    @Override
+    public CompletableFuture<Pagination<CategoryListOutput>> execute(final CategorySearchQuery aQuery) {
+        try {
+            DefaultListCategoriesUseCase.validate(aQuery);
+        } catch (final DomainException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        return this.categoryGateway.findAllSummaries(aQuery)
+            .thenApply(aPage -> aPage.map(CategoryListOutput::from));
+    }
+}
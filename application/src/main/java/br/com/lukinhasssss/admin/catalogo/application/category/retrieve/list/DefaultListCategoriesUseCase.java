@@ -2,12 +2,19 @@ package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list;
 
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
 import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
 
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
+    private static final Set<String> DIRECTIONS = Set.of("asc", "desc");
+
     private final CategoryGateway categoryGateway;
 
     public DefaultListCategoriesUseCase(final CategoryGateway categoryGateway) {
@@ -16,7 +23,29 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase {
 
     @Override
     public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
-        return this.categoryGateway.findAll(aQuery)
+        validate(aQuery);
+
+        return this.categoryGateway.findAllSummaries(aQuery)
             .map(CategoryListOutput::from);
     }
+
+    /**
+     * Apenas os campos com índice (CategorySearchQuery.SORTABLE_FIELDS) podem ser utilizados na ordenação,
+     * além do relevance quando a busca tem terms
+     */
+    static void validate(final CategorySearchQuery aQuery) {
+        final var notification = Notification.create();
+
+        if (CategorySearchQuery.RELEVANCE.equals(aQuery.sort())) {
+            if (!aQuery.hasTerms())
+                notification.append(new Error("'sort' relevance requires 'search'"));
+        } else if (!CategorySearchQuery.SORTABLE_FIELDS.contains(aQuery.sort()))
+            notification.append(new Error("'sort' must be one of %s".formatted(new TreeSet<>(CategorySearchQuery.SORTABLE_FIELDS))));
+
+        if (aQuery.direction() == null || !DIRECTIONS.contains(aQuery.direction().toLowerCase()))
+            notification.append(new Error("'dir' must be asc or desc"));
+
+        if (notification.hasError())
+            throw DomainException.with(notification.getErrors());
+    }
 }
@@ -0,0 +1,28 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Executa o use case síncrono no executor informado, liberando a thread de quem chama enquanto o banco responde.
+ * Os erros de validação da query também completam o CompletableFuture
+ */
+public class ExecutorAsyncListCategoriesUseCase extends AsyncListCategoriesUseCase {
+
+    private final ListCategoriesUseCase useCase;
+    private final Executor executor;
+
+    public ExecutorAsyncListCategoriesUseCase(final ListCategoriesUseCase useCase, final Executor executor) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<Pagination<CategoryListOutput>> execute(final CategorySearchQuery aQuery) {
+        return CompletableFuture.supplyAsync(() -> this.useCase.execute(aQuery), this.executor);
+    }
+}
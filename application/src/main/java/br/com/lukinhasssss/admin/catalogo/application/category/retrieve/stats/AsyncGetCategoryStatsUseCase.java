@@ -0,0 +1,5 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats;
+
+import br.com.lukinhasssss.admin.catalogo.application.AsyncNullaryUseCase;
+
+public abstract class AsyncGetCategoryStatsUseCase extends AsyncNullaryUseCase<CategoryStatsOutput> { }
@@ -0,0 +1,14 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryStats;
+
+public record CategoryStatsOutput(
+    long total,
+    long active,
+    long inactive
+) {
+
+    public static CategoryStatsOutput from(final CategoryStats aStats) {
+        return new CategoryStatsOutput(aStats.total(), aStats.active(), aStats.inactive());
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+
+public class DefaultGetCategoryStatsUseCase extends GetCategoryStatsUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryStatsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoryStatsOutput execute() {
+        return CategoryStatsOutput.from(this.categoryGateway.countAll());
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Executa o use case síncrono no executor informado, liberando a thread de quem chama enquanto o banco responde
+ */
+public class ExecutorAsyncGetCategoryStatsUseCase extends AsyncGetCategoryStatsUseCase {
+
+    private final GetCategoryStatsUseCase useCase;
+    private final Executor executor;
+
+    public ExecutorAsyncGetCategoryStatsUseCase(final GetCategoryStatsUseCase useCase, final Executor executor) {
+        this.useCase = Objects.requireNonNull(useCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<CategoryStatsOutput> execute() {
+        return CompletableFuture.supplyAsync(this.useCase::execute, this.executor);
+    }
+}
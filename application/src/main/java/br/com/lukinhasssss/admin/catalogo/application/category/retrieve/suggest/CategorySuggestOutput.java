@@ -0,0 +1,14 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySuggestion;
+
+public record CategorySuggestOutput(
+    CategoryID id,
+    String name
+) {
+
+    public static CategorySuggestOutput from(final CategorySuggestion aSuggestion) {
+        return new CategorySuggestOutput(aSuggestion.id(), aSuggestion.name());
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestCategoriesUseCase extends SuggestCategoriesUseCase {
+
+    public static final int MAX_LIMIT = 50;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultSuggestCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Um prefixo vazio não sugere nada (o picker só consulta depois da primeira tecla)
+     * e o limit é limitado a {@link #MAX_LIMIT}
+     */
+    @Override
+    public List<CategorySuggestOutput> execute(final SuggestCategoriesCommand aCommand) {
+        final var aPrefix = aCommand.prefix();
+
+        if (aPrefix == null || aPrefix.isBlank() || aCommand.limit() <= 0)
+            return List.of();
+
+        return this.categoryGateway.suggest(aPrefix, Math.min(aCommand.limit(), MAX_LIMIT)).stream()
+            .map(CategorySuggestOutput::from)
+            .toList();
+    }
+}
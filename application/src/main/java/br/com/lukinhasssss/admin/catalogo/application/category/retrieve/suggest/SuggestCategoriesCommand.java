@@ -0,0 +1,11 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest;
+
+public record SuggestCategoriesCommand(
+    String prefix,
+    int limit
+) {
+
+    public static SuggestCategoriesCommand with(final String aPrefix, final int aLimit) {
+        return new SuggestCategoriesCommand(aPrefix, aLimit);
+    }
+}
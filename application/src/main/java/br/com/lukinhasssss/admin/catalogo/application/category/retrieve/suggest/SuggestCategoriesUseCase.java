@@ -0,0 +1,8 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest;
+
+import br.com.lukinhasssss.admin.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class SuggestCategoriesUseCase
+    extends UseCase<SuggestCategoriesCommand, List<CategorySuggestOutput>> { }
@@ -0,0 +1,8 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.update;
+
+import br.com.lukinhasssss.admin.catalogo.application.AsyncUseCase;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class AsyncUpdateCategoryUseCase
+    extends AsyncUseCase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> { }
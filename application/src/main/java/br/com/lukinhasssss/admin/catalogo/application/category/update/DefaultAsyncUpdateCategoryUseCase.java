@@ -0,0 +1,63 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.update;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+public class DefaultAsyncUpdateCategoryUseCase extends AsyncUpdateCategoryUseCase {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public DefaultAsyncUpdateCategoryUseCase(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Mesmo fluxo do DefaultUpdateCategoryUseCase: com a versão esperada a categoria não é buscada antes do UPDATE
+     */
+    @Override
+    public CompletableFuture<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+
+        final var aCategory = aCommand.expectedVersion() != null
+            ? CompletableFuture.completedFuture(DefaultUpdateCategoryUseCase.expected(anId, aCommand.expectedVersion()))
+            : this.categoryGateway.findById(anId).thenApply(found -> found.orElseThrow(() -> NotFoundException.with(Category.class, anId)));
+
+        return aCategory.thenCompose(it -> {
+            final var notification = Notification.create();
+
+            it.update(aCommand.name(), aCommand.description(), aCommand.isActive()).validate(notification);
+
+            return notification.hasError() ? CompletableFuture.completedFuture(Left(notification)) : update(it);
+        });
+    }
+
+    /**
+     * O NotFoundException e o VersionConflictException continuam como falha do future; as demais falhas viram notificação
+     */
+    private CompletableFuture<Either<Notification, UpdateCategoryOutput>> update(final Category aCategory) {
+        return this.categoryGateway.update(aCategory)
+            .handle((updated, ex) -> {
+                if (ex == null)
+                    return Right(UpdateCategoryOutput.from(updated));
+
+                final var cause = unwrap(ex);
+
+                if (cause instanceof DomainException)
+                    throw new CompletionException(cause);
+
+                return Left(Notification.create(cause));
+            });
+    }
+}
@@ -8,6 +8,7 @@ import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
 import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -29,8 +30,9 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var aDescription = aCommand.description();
         final var isActive = aCommand.isActive();
 
-        final var aCategory = this.categoryGateway.findById(anId)
-            .orElseThrow(notFound(anId));
+        final var aCategory = aCommand.expectedVersion() != null
+            ? expected(anId, aCommand.expectedVersion())
+            : this.categoryGateway.findById(anId).orElseThrow(notFound(anId));
 
         final var notification = Notification.create();
 
@@ -41,10 +43,22 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
     private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
         return Try(() -> this.categoryGateway.update(aCategory))
+            .onFailure(DomainException.class, ex -> { throw ex; })
             .toEither()
             .bimap(Notification::create, UpdateCategoryOutput::from);
     }
 
+    /**
+     * Quando o cliente informa a versão esperada não precisamos buscar a categoria antes de atualizar,
+     * o gateway faz um UPDATE condicionado à versão. O createdAt e o deletedAt desse aggregate não são os do banco:
+     * o createdAt não é escrito nesse UPDATE e o deletedAt de uma categoria que já estava inativa é preservado
+     * pelo próprio gateway, então quem precisa deles depois do update (ex: o índice de busca) relê a categoria
+     */
+    static Category expected(final CategoryID anId, final long anExpectedVersion) {
+        final var now = Instant.now();
+        return Category.with(anId, null, null, true, now, now, null, anExpectedVersion);
+    }
+
     private static Supplier<DomainException> notFound(final CategoryID anId) {
         return () -> NotFoundException.with(Category.class, anId);
     }
@@ -4,7 +4,8 @@ public record UpdateCategoryCommand(
     String id,
     String name,
     String description,
-    boolean isActive
+    boolean isActive,
+    Long expectedVersion
 ) {
 
     public static UpdateCategoryCommand with(
@@ -13,6 +14,16 @@ public record UpdateCategoryCommand(
         final String aDescription,
         final boolean isActive
     ) {
-        return new UpdateCategoryCommand(anId, aName, aDescription, isActive);
+        return with(anId, aName, aDescription, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(
+        final String anId,
+        final String aName,
+        final String aDescription,
+        final boolean isActive,
+        final Long anExpectedVersion
+    ) {
+        return new UpdateCategoryCommand(anId, aName, aDescription, isActive, anExpectedVersion);
     }
 }
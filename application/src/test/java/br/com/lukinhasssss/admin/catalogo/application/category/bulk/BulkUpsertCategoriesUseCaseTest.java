@@ -0,0 +1,159 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.bulk;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkUpsertCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultBulkUpsertCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Test
+    void givenValidCommands_whenCallsBulkUpsert_shouldCreateAndUpdateInOneWrite() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommands = List.of(
+            UpsertCategoryCommand.with("Séries", null, true),
+            UpsertCategoryCommand.with(expectedId.getValue(), "Filmes", "A categoria mais assistida", true)
+        );
+
+        when(categoryGateway.findAllByIds(Set.of(expectedId))).thenReturn(List.of(aCategory.clone()));
+
+        final var actualResults = useCase.execute(aCommands);
+
+        assertEquals(2, actualResults.size());
+        assertTrue(actualResults.get(0).get().created());
+        assertFalse(actualResults.get(1).get().created());
+        assertEquals(expectedId.getValue(), actualResults.get(1).get().id());
+
+        verify(categoryGateway, times(1)).saveAll(
+            argThat(categories -> categories.size() == 1 && Objects.equals("Séries", categories.get(0).getName())),
+            argThat(categories -> categories.size() == 1
+                && Objects.equals(expectedId, categories.get(0).getId())
+                && Objects.equals("Filmes", categories.get(0).getName())
+                && Objects.equals(aCategory.getCreatedAt(), categories.get(0).getCreatedAt()))
+        );
+        verify(categoryGateway, never()).createAll(any());
+        verify(categoryGateway, never()).updateAll(any());
+    }
+
+    @Test
+    void givenAnInvalidItem_whenCallsBulkUpsert_shouldReturnItsNotificationAndWriteTheOthers() {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var aCommands = List.of(
+            UpsertCategoryCommand.with("Filmes", null, true),
+            UpsertCategoryCommand.with(null, null, true)
+        );
+
+        final var actualResults = useCase.execute(aCommands);
+
+        assertTrue(actualResults.get(0).isRight());
+        assertTrue(actualResults.get(1).isLeft());
+        assertEquals(expectedErrorMessage, actualResults.get(1).getLeft().firstError().message());
+
+        verify(categoryGateway, times(1)).saveAll(argThat(categories -> categories.size() == 1), eq(List.of()));
+        verify(categoryGateway, never()).findAllByIds(any());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsBulkUpsert_shouldCreateTheCategoryWithThatId() {
+        final var expectedId = "123";
+
+        final var aCommands = List.of(UpsertCategoryCommand.with(expectedId, "Filmes", null, true));
+
+        when(categoryGateway.findAllByIds(any())).thenReturn(List.of());
+
+        final var actualResults = useCase.execute(aCommands);
+
+        assertTrue(actualResults.get(0).get().created());
+        assertEquals(expectedId, actualResults.get(0).get().id());
+
+        verify(categoryGateway, times(1)).saveAll(
+            argThat(categories -> categories.size() == 1
+                && Objects.equals(expectedId, categories.get(0).getId().getValue())
+                && categories.get(0).getVersion() == 0),
+            eq(List.of())
+        );
+    }
+
+    @Test
+    void givenARepeatedOrTooLongId_whenCallsBulkUpsert_shouldReturnTheErrorOnlyForThatItem() {
+        final var aCommands = List.of(
+            UpsertCategoryCommand.with("123", "Filmes", null, true),
+            UpsertCategoryCommand.with("123", "Séries", null, true),
+            UpsertCategoryCommand.with("1".repeat(37), "Documentários", null, true)
+        );
+
+        when(categoryGateway.findAllByIds(any())).thenReturn(List.of());
+
+        final var actualResults = useCase.execute(aCommands);
+
+        assertTrue(actualResults.get(0).isRight());
+        assertEquals("'id' 123 is duplicated in the request", actualResults.get(1).getLeft().firstError().message());
+        assertEquals("'id' must be between 1 and 36 characters", actualResults.get(2).getLeft().firstError().message());
+
+        verify(categoryGateway, times(1)).saveAll(argThat(categories -> categories.size() == 1), eq(List.of()));
+    }
+
+    @Test
+    void givenAGatewayError_whenCallsBulkUpsert_shouldReturnTheErrorForEveryValidItemOfBothGroups() {
+        final var expectedErrorMessage = "Gateway error";
+        final var aCategory = Category.newCategory("Filme", null, true);
+
+        final var aCommands = List.of(
+            UpsertCategoryCommand.with("Filmes", null, true),
+            UpsertCategoryCommand.with(aCategory.getId().getValue(), "Séries", null, true),
+            UpsertCategoryCommand.with(null, null, true)
+        );
+
+        when(categoryGateway.findAllByIds(any())).thenReturn(List.of(aCategory.clone()));
+        doThrow(new IllegalStateException(expectedErrorMessage)).when(categoryGateway).saveAll(any(), any());
+
+        final var actualResults = useCase.execute(aCommands);
+
+        assertEquals(expectedErrorMessage, actualResults.get(0).getLeft().firstError().message());
+        assertEquals(expectedErrorMessage, actualResults.get(1).getLeft().firstError().message());
+        assertEquals("'name' should not be null", actualResults.get(2).getLeft().firstError().message());
+    }
+
+    @Test
+    void givenMoreCommandsThanAllowed_whenCallsBulkUpsert_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'items' must have at most 1000 categories";
+
+        final var aCommands = IntStream.rangeClosed(0, DefaultBulkUpsertCategoriesUseCase.MAX_ITEMS)
+            .mapToObj(i -> UpsertCategoryCommand.with("Filmes " + i, null, true))
+            .toList();
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aCommands));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verifyNoInteractions(categoryGateway);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.create;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncCreateCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncCreateCategoryUseCase useCase;
+
+    @Mock
+    private AsyncCategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() {
+        final var expectedName = "Filmes";
+        final var expectedDescription = "A categoria mais assistida";
+        final var expectedIsActive = true;
+
+        final var aCommand = CreateCategoryCommand.with(expectedName, expectedDescription, expectedIsActive);
+
+        when(categoryGateway.create(any()))
+            .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+
+        final var actualOutput = useCase.execute(aCommand).join().get();
+
+        assertNotNull(actualOutput.id());
+
+        verify(categoryGateway, times(1))
+            .create(argThat(aCategory -> Objects.equals(expectedName, aCategory.getName())
+                && Objects.equals(expectedDescription, aCategory.getDescription())
+                && Objects.equals(expectedIsActive, aCategory.isActive())));
+    }
+
+    @Test
+    void givenAnInvalidName_whenCallsCreateCategory_thenShouldReturnNotificationWithoutCallingTheGateway() {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var aCommand = CreateCategoryCommand.with(null, "A categoria mais assistida", true);
+
+        final var notification = useCase.execute(aCommand).join().getLeft();
+
+        assertEquals(1, notification.getErrors().size());
+        assertEquals(expectedErrorMessage, notification.firstError().message());
+        verify(categoryGateway, never()).create(any());
+    }
+
+    @Test
+    void givenAValidCommand_whenGatewayFails_shouldReturnNotification() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var aCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+
+        when(categoryGateway.create(any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException(expectedErrorMessage)));
+
+        final var notification = useCase.execute(aCommand).join().getLeft();
+
+        assertEquals(1, notification.getErrors().size());
+        assertEquals(expectedErrorMessage, notification.firstError().message());
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.delete;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncDeleteCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncDeleteCategoryUseCase useCase;
+
+    @Mock
+    private AsyncCategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidId_whenCallsDeleteCategory_shouldBeOK() {
+        final var expectedId = Category.newCategory("Filmes", null, true).getId();
+
+        when(categoryGateway.deleteById(expectedId)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()).join());
+
+        verify(categoryGateway, times(1)).deleteById(expectedId);
+    }
+
+    @Test
+    void givenAValidId_whenGatewayFails_shouldCompleteExceptionally() {
+        final var expectedId = Category.newCategory("Filmes", null, true).getId();
+
+        when(categoryGateway.deleteById(expectedId))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Gateway error")));
+
+        final var actualException = assertThrows(CompletionException.class, () -> useCase.execute(expectedId.getValue()).join());
+
+        assertInstanceOf(IllegalStateException.class, actualException.getCause());
+    }
+}
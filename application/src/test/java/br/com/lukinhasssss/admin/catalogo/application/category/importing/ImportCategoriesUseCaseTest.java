@@ -0,0 +1,136 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryCommand;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultImportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Test
+    void givenMoreRecordsThanTheBatchSize_whenCallsImportCategories_shouldWriteInFixedSizeBatches() {
+        final var expectedProcessed = 1201;
+        final var batchSize = DefaultImportCategoriesUseCase.BATCH_SIZE;
+
+        final var records = IntStream.range(0, expectedProcessed)
+            .mapToObj(i -> CreateCategoryCommand.with("Filmes " + i, null, true))
+            .iterator();
+
+        final var progress = new ArrayList<ImportCategoriesOutput>();
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(records, progress::add));
+
+        assertEquals(expectedProcessed, actualOutput.processed());
+        assertEquals(expectedProcessed, actualOutput.imported());
+        assertEquals(0, actualOutput.failed());
+        assertEquals(3, progress.size());
+        assertEquals(batchSize, progress.get(0).imported());
+        assertEquals(actualOutput, progress.get(2));
+
+        verify(categoryGateway, times(2)).createAll(argThat(categories -> categories.size() == batchSize));
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 201));
+    }
+
+    @Test
+    void givenInvalidRecords_whenCallsImportCategories_shouldCountThemAndKeepOnlyTheFirstErrors() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var expectedFailed = DefaultImportCategoriesUseCase.MAX_ERRORS + 10;
+
+        final var records = IntStream.range(0, expectedFailed + 1)
+            .mapToObj(i -> CreateCategoryCommand.with(i == 0 ? "Filmes" : null, null, true))
+            .iterator();
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(records));
+
+        assertEquals(expectedFailed + 1, actualOutput.processed());
+        assertEquals(1, actualOutput.imported());
+        assertEquals(expectedFailed, actualOutput.failed());
+        assertEquals(DefaultImportCategoriesUseCase.MAX_ERRORS, actualOutput.errors().size());
+        assertEquals(2, actualOutput.errors().get(0).record());
+        assertEquals(expectedErrorMessage, actualOutput.errors().get(0).errors().get(0).message());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 1));
+    }
+
+    @Test
+    void givenAGatewayError_whenCallsImportCategories_shouldPropagateTheException() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var records = IntStream.range(0, 3)
+            .mapToObj(i -> CreateCategoryCommand.with("Filmes " + i, null, true))
+            .iterator();
+
+        when(categoryGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualException = assertThrows(
+            IllegalStateException.class,
+            () -> useCase.execute(ImportCategoriesCommand.with(records))
+        );
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenAnUnreadableRecordBetweenValidOnes_whenCallsImportCategories_shouldCountItAsFailedAndContinue() {
+        final var expectedErrorMessage = "malformed record: Unrecognized token 'talvez'";
+
+        // O erro sai do next, como no MappingIterator, e não do hasNext
+        final var suppliers = List.<Supplier<CreateCategoryCommand>>of(
+            () -> CreateCategoryCommand.with("Filmes", null, true),
+            () -> { throw DomainException.with(new Error(expectedErrorMessage)); },
+            () -> CreateCategoryCommand.with("Séries", null, true)
+        ).iterator();
+
+        final var records = new Iterator<CreateCategoryCommand>() {
+            @Override
+            public boolean hasNext() { return suppliers.hasNext(); }
+
+            @Override
+            public CreateCategoryCommand next() { return suppliers.next().get(); }
+        };
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(records));
+
+        assertEquals(3, actualOutput.processed());
+        assertEquals(2, actualOutput.imported());
+        assertEquals(1, actualOutput.failed());
+        assertEquals(2, actualOutput.errors().get(0).record());
+        assertEquals(expectedErrorMessage, actualOutput.errors().get(0).errors().get(0).message());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 2));
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.export;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Test
+    void givenPersistedCategories_whenCallsExportCategories_shouldDeliverEachOneAsOutput() {
+        final var categories = List.of(
+            Category.newCategory("Filmes", null, true),
+            Category.newCategory("Séries", null, true)
+        );
+
+        final var expectedOutputs = categories.stream().map(CategoryOutput::from).toList();
+
+        doAnswer(invocation -> {
+            final Consumer<Category> aConsumer = invocation.getArgument(0);
+            categories.forEach(aConsumer);
+            return null;
+        }).when(categoryGateway).streamAll(any());
+
+        final var actualOutputs = new ArrayList<CategoryOutput>();
+
+        useCase.execute(actualOutputs::add);
+
+        assertEquals(expectedOutputs, actualOutputs);
+
+        verify(categoryGateway, times(1)).streamAll(any());
+    }
+}
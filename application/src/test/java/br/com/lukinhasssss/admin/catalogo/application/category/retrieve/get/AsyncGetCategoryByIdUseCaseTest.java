@@ -0,0 +1,58 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncGetCategoryByIdUseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncGetCategoryByIdUseCase useCase;
+
+    @Mock
+    private AsyncCategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidId_whenCallsGetCategory_shouldReturnCategory() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        when(categoryGateway.findById(expectedId))
+            .thenReturn(CompletableFuture.completedFuture(Optional.of(aCategory.clone())));
+
+        final var actualCategory = useCase.execute(expectedId.getValue()).join();
+
+        assertEquals(expectedId, actualCategory.id());
+        assertEquals(aCategory.getName(), actualCategory.name());
+        assertEquals(aCategory.getDescription(), actualCategory.description());
+        assertEquals(aCategory.isActive(), actualCategory.isActive());
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsGetCategory_shouldCompleteWithNotFound() {
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+        final var expectedId = CategoryID.from("123");
+
+        when(categoryGateway.findById(expectedId))
+            .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        final var actualException = assertThrows(CompletionException.class, () -> useCase.execute(expectedId.getValue()).join());
+
+        assertInstanceOf(NotFoundException.class, actualException.getCause());
+        assertEquals(expectedErrorMessage, actualException.getCause().getMessage());
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutorAsyncGetCategoryByIdUseCaseTest {
+
+    @Mock
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    private ExecutorService executor;
+
+    private ExecutorAsyncGetCategoryByIdUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor(aRunnable -> new Thread(aRunnable, "use-case-executor"));
+        useCase = new ExecutorAsyncGetCategoryByIdUseCase(getCategoryByIdUseCase, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenAValidId_whenCallsGetCategory_shouldRunTheUseCaseOnTheExecutor() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+        final var actualThread = new AtomicReference<String>();
+
+        when(getCategoryByIdUseCase.execute(expectedId)).then(invocation -> {
+            actualThread.set(Thread.currentThread().getName());
+            return CategoryOutput.from(aCategory);
+        });
+
+        final var actualCategory = useCase.execute(expectedId).join();
+
+        assertEquals(aCategory.getId(), actualCategory.id());
+        assertEquals("use-case-executor", actualThread.get());
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsGetCategory_shouldCompleteWithNotFound() {
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        when(getCategoryByIdUseCase.execute("123"))
+            .thenThrow(NotFoundException.with(Category.class, CategoryID.from("123")));
+
+        final var actualException = assertThrows(CompletionException.class, () -> useCase.execute("123").join());
+
+        assertInstanceOf(NotFoundException.class, actualException.getCause());
+        assertEquals(expectedErrorMessage, actualException.getCause().getMessage());
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCategoriesByIdsUseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCategoriesByIdsUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenExistingAndUnknownIds_whenCallsGetCategoriesByIds_shouldReturnBothInTheRequestedOrder() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var unknownId = CategoryID.from("123");
+
+        when(categoryGateway.findAllByIds(Set.of(filmes.getId(), series.getId(), unknownId)))
+            .thenReturn(List.of(filmes, series));
+
+        final var actualOutput = useCase.execute(List.of(
+            series.getId().getValue(),
+            unknownId.getValue(),
+            filmes.getId().getValue(),
+            series.getId().getValue()
+        ));
+
+        assertEquals(List.of(series.getId(), filmes.getId()), actualOutput.items().stream().map(CategoryOutput::id).toList());
+        assertEquals(List.of(unknownId), actualOutput.missing());
+        verify(categoryGateway, times(1)).findAllByIds(any());
+    }
+
+    @Test
+    void givenNoIds_whenCallsGetCategoriesByIds_shouldNotCallTheGateway() {
+        final var actualOutput = useCase.execute(List.of("", " "));
+
+        assertTrue(actualOutput.items().isEmpty());
+        assertTrue(actualOutput.missing().isEmpty());
+        verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    void givenMoreIdsThanTheLimit_whenCallsGetCategoriesByIds_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'ids' must have at most 100 ids";
+
+        final var ids = IntStream.rangeClosed(0, DefaultGetCategoriesByIdsUseCase.MAX_IDS)
+            .mapToObj(String::valueOf)
+            .toList();
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(ids));
+
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verifyNoInteractions(categoryGateway);
+    }
+}
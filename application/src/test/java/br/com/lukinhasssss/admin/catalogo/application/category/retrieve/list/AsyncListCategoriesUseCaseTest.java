@@ -0,0 +1,59 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncListCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncListCategoriesUseCase useCase;
+
+    @Mock
+    private AsyncCategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidQuery_whenCallsListCategories_thenShouldReturnCategories() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var aSummary = new CategorySummary(filmes.getId(), filmes.getName(), null, true, filmes.getCreatedAt(), null);
+
+        final var aQuery = CategorySearchQuery.with(0, 10, "", "createdAt", "asc");
+
+        when(categoryGateway.findAllSummaries(aQuery))
+            .thenReturn(CompletableFuture.completedFuture(new Pagination<>(0, 10, 1, List.of(aSummary))));
+
+        final var actualResult = useCase.execute(aQuery).join();
+
+        assertEquals(1, actualResult.total());
+        assertEquals(List.of(CategoryListOutput.from(aSummary)), List.copyOf(actualResult.items()));
+    }
+
+    @Test
+    void givenAnUnsortableField_whenCallsListCategories_shouldCompleteWithDomainException() {
+        final var expectedErrorMessage = "'sort' must be one of [createdAt, name, updatedAt]";
+
+        final var aQuery = CategorySearchQuery.with(0, 10, "", "description", "asc");
+
+        final var actualException = assertThrows(CompletionException.class, () -> useCase.execute(aQuery).join());
+
+        assertInstanceOf(DomainException.class, actualException.getCause());
+        assertEquals(expectedErrorMessage, ((DomainException) actualException.getCause()).getErrors().get(0).message());
+        verify(categoryGateway, never()).findAllSummaries(any());
+    }
+}
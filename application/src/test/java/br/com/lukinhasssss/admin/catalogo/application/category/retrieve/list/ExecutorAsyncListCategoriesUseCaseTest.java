@@ -0,0 +1,42 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutorAsyncListCategoriesUseCaseTest {
+
+    @Mock
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Test
+    void givenAValidQuery_whenCallsListCategories_shouldSubmitTheUseCaseToTheExecutor() {
+        final var submitted = new AtomicInteger();
+        final Executor anExecutor = aCommand -> {
+            submitted.incrementAndGet();
+            aCommand.run();
+        };
+
+        final var aQuery = CategorySearchQuery.with(0, 10, "", "createdAt", "asc");
+        final var expectedPagination = new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(Category.newCategory("Filmes", null, true))));
+
+        when(listCategoriesUseCase.execute(aQuery)).thenReturn(expectedPagination);
+
+        final var actualResult = new ExecutorAsyncListCategoriesUseCase(listCategoriesUseCase, anExecutor).execute(aQuery).join();
+
+        assertEquals(expectedPagination, actualResult);
+        assertEquals(1, submitted.get());
+    }
+}
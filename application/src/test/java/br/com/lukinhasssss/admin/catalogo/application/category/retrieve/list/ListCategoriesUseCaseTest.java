@@ -3,6 +3,8 @@ package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list;
 import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
 import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,11 +14,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,10 +39,10 @@ class ListCategoriesUseCaseTest {
 
     @Test
     void givenAValidQuery_whenCallsListCategories_thenShouldReturnCategories() {
-        final var categories = List.of(
+        final var categories = Stream.of(
             Category.newCategory("Filmes", null, true),
             Category.newCategory("Series", null, true)
-        );
+        ).map(ListCategoriesUseCaseTest::summary).toList();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -44,9 +50,7 @@ class ListCategoriesUseCaseTest {
         final var expectedSort = "createdAt";
         final var expectedDirection = "asc";
 
-        final var aQuery = new CategorySearchQuery(
-            expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection
-        );
+        final var aQuery = CategorySearchQuery.with(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         final var expectedPagination = new Pagination<>(
             expectedPage, expectedPerPage, categories.size(), categories
@@ -55,7 +59,7 @@ class ListCategoriesUseCaseTest {
         final var expectedItemsCount = 2;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findAllSummaries(eq(aQuery)))
             .thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
@@ -69,7 +73,7 @@ class ListCategoriesUseCaseTest {
 
     @Test
     void givenAValidQuery_whenHasNoResults_thenShouldReturnEmptyCategories() {
-        final var categories = List.<Category>of();
+        final var categories = List.<CategorySummary>of();
 
         final var expectedPage = 0;
         final var expectedPerPage = 10;
@@ -77,9 +81,7 @@ class ListCategoriesUseCaseTest {
         final var expectedSort = "createdAt";
         final var expectedDirection = "asc";
 
-        final var aQuery = new CategorySearchQuery(
-            expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection
-        );
+        final var aQuery = CategorySearchQuery.with(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         final var expectedPagination = new Pagination<>(
             expectedPage, expectedPerPage, categories.size(), categories
@@ -88,7 +90,7 @@ class ListCategoriesUseCaseTest {
         final var expectedItemsCount = 0;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findAllSummaries(eq(aQuery)))
             .thenReturn(expectedPagination);
 
         final var actualResult = useCase.execute(aQuery);
@@ -109,11 +111,9 @@ class ListCategoriesUseCaseTest {
         final var expectedDirection = "asc";
         final var expectedErrorMessage = "Gateway error";
 
-        final var aQuery = new CategorySearchQuery(
-            expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection
-        );
+        final var aQuery = CategorySearchQuery.with(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-        when(categoryGateway.findAll(eq(aQuery)))
+        when(categoryGateway.findAllSummaries(eq(aQuery)))
             .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var actualException =
@@ -121,4 +121,61 @@ class ListCategoriesUseCaseTest {
 
         assertEquals(expectedErrorMessage, actualException.getMessage());
     }
+
+    @Test
+    void givenAnUnsortableFieldAndAnInvalidDirection_whenCallsListCategories_shouldReturnDomainException() {
+        final var expectedErrorCount = 2;
+        final var expectedSortError = "'sort' must be one of [createdAt, name, updatedAt]";
+        final var expectedDirectionError = "'dir' must be asc or desc";
+
+        final var aQuery = CategorySearchQuery.with(0, 10, "", "description", "sideways");
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aQuery));
+
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+        assertEquals(expectedSortError, actualException.getErrors().get(0).message());
+        assertEquals(expectedDirectionError, actualException.getErrors().get(1).message());
+        verify(categoryGateway, never()).findAllSummaries(any());
+    }
+
+    @Test
+    void givenTermsSortedByRelevance_whenCallsListCategories_thenShouldReturnCategories() {
+        final var categories = Stream.of(Category.newCategory("Filmes", null, true))
+            .map(ListCategoriesUseCaseTest::summary).toList();
+
+        final var aQuery = CategorySearchQuery.with(0, 10, "filmes", CategorySearchQuery.RELEVANCE, "desc");
+        final var expectedPagination = new Pagination<>(0, 10, categories.size(), categories);
+
+        when(categoryGateway.findAllSummaries(eq(aQuery)))
+            .thenReturn(expectedPagination);
+
+        final var actualResult = useCase.execute(aQuery);
+
+        assertEquals(expectedPagination.map(CategoryListOutput::from), actualResult);
+    }
+
+    @Test
+    void givenRelevanceWithoutTerms_whenCallsListCategories_shouldReturnDomainException() {
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'sort' relevance requires 'search'";
+
+        final var aQuery = CategorySearchQuery.with(0, 10, " ", CategorySearchQuery.RELEVANCE, "desc");
+
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aQuery));
+
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(categoryGateway, never()).findAllSummaries(any());
+    }
+
+    private static CategorySummary summary(final Category aCategory) {
+        return new CategorySummary(
+            aCategory.getId(),
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.isActive(),
+            aCategory.getCreatedAt(),
+            aCategory.getDeletedAt()
+        );
+    }
 }
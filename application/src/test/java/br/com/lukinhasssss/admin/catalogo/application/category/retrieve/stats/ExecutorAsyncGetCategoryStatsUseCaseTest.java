@@ -0,0 +1,35 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExecutorAsyncGetCategoryStatsUseCaseTest {
+
+    @Mock
+    private GetCategoryStatsUseCase getCategoryStatsUseCase;
+
+    @Test
+    void givenAValidCall_whenCallsGetCategoryStats_shouldSubmitTheUseCaseToTheExecutor() {
+        final var submitted = new AtomicInteger();
+        final Executor anExecutor = aCommand -> {
+            submitted.incrementAndGet();
+            aCommand.run();
+        };
+
+        when(getCategoryStatsUseCase.execute()).thenReturn(new CategoryStatsOutput(10, 7, 3));
+
+        final var actualOutput = new ExecutorAsyncGetCategoryStatsUseCase(getCategoryStatsUseCase, anExecutor).execute().join();
+
+        assertEquals(new CategoryStatsOutput(10, 7, 3), actualOutput);
+        assertEquals(1, submitted.get());
+    }
+}
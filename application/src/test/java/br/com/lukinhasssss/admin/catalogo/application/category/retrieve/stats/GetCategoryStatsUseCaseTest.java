@@ -0,0 +1,32 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCategoryStatsUseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCategoryStatsUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidCall_whenCallsGetCategoryStats_shouldReturnTheGatewayCounters() {
+        when(categoryGateway.countAll()).thenReturn(new CategoryStats(10, 7, 3));
+
+        final var actualOutput = useCase.execute();
+
+        assertEquals(new CategoryStatsOutput(10, 7, 3), actualOutput);
+        verify(categoryGateway, times(1)).countAll();
+    }
+}
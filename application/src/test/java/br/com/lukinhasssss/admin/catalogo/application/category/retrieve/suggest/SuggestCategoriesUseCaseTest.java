@@ -0,0 +1,56 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySuggestion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultSuggestCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenAPrefix_whenCallsSuggestCategories_shouldReturnTheGatewaySuggestions() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedName = "Ação";
+
+        when(categoryGateway.suggest("aca", 10))
+            .thenReturn(List.of(new CategorySuggestion(expectedId, expectedName)));
+
+        final var actualOutput = useCase.execute(SuggestCategoriesCommand.with("aca", 10));
+
+        assertEquals(List.of(new CategorySuggestOutput(expectedId, expectedName)), actualOutput);
+    }
+
+    @Test
+    void givenALimitAboveTheMaximum_whenCallsSuggestCategories_shouldCapIt() {
+        when(categoryGateway.suggest("a", DefaultSuggestCategoriesUseCase.MAX_LIMIT)).thenReturn(List.of());
+
+        useCase.execute(SuggestCategoriesCommand.with("a", 1_000));
+
+        verify(categoryGateway, times(1)).suggest("a", DefaultSuggestCategoriesUseCase.MAX_LIMIT);
+    }
+
+    @Test
+    void givenABlankPrefix_whenCallsSuggestCategories_shouldNotCallTheGateway() {
+        assertTrue(useCase.execute(SuggestCategoriesCommand.with(" ", 10)).isEmpty());
+        assertTrue(useCase.execute(SuggestCategoriesCommand.with(null, 10)).isEmpty());
+
+        verify(categoryGateway, never()).suggest(any(), anyInt());
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.update;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.VersionConflictException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncUpdateCategoryUseCaseTest {
+
+    @InjectMocks
+    private DefaultAsyncUpdateCategoryUseCase useCase;
+
+    @Mock
+    private AsyncCategoryGateway categoryGateway;
+
+    @Test
+    void givenAValidCommand_whenCallsUpdateCategory_shouldReturnCategoryId() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", "A categoria mais assistida", false);
+
+        when(categoryGateway.findById(expectedId))
+            .thenReturn(CompletableFuture.completedFuture(Optional.of(aCategory.clone())));
+
+        when(categoryGateway.update(any()))
+            .thenAnswer(invocation -> CompletableFuture.completedFuture(invocation.getArgument(0)));
+
+        final var actualOutput = useCase.execute(aCommand).join().get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        verify(categoryGateway, times(1))
+            .update(argThat(anUpdated -> Objects.equals("Filmes", anUpdated.getName())
+                && !anUpdated.isActive()
+                && Objects.nonNull(anUpdated.getDeletedAt())));
+    }
+
+    @Test
+    void givenAnInvalidName_whenCallsUpdateCategory_thenShouldReturnNotification() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var aCommand = UpdateCategoryCommand.with(aCategory.getId().getValue(), null, null, true);
+
+        when(categoryGateway.findById(aCategory.getId()))
+            .thenReturn(CompletableFuture.completedFuture(Optional.of(aCategory.clone())));
+
+        final var notification = useCase.execute(aCommand).join().getLeft();
+
+        assertEquals(expectedErrorMessage, notification.firstError().message());
+        verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    void givenACommandWithInvalidID_whenCallsUpdateCategory_shouldCompleteWithNotFound() {
+        final var expectedId = CategoryID.from("123");
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true);
+
+        when(categoryGateway.findById(expectedId))
+            .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        final var actualException = assertThrows(CompletionException.class, () -> useCase.execute(aCommand).join());
+
+        assertInstanceOf(NotFoundException.class, actualException.getCause());
+        verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    void givenACommandWithStaleVersion_whenGatewayFailsWithVersionConflict_shouldPropagateIt() {
+        final var expectedId = CategoryID.unique();
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 3L);
+
+        when(categoryGateway.update(any()))
+            .thenReturn(CompletableFuture.failedFuture(VersionConflictException.with(Category.class, expectedId, 3L)));
+
+        final var actualException = assertThrows(CompletionException.class, () -> useCase.execute(aCommand).join());
+
+        assertInstanceOf(VersionConflictException.class, actualException.getCause());
+        verify(categoryGateway, never()).findById(any());
+    }
+
+    @Test
+    void givenAValidCommand_whenGatewayFailsWithRandomException_shouldReturnNotification() {
+        final var expectedErrorMessage = "Gateway error";
+
+        final var aCommand = UpdateCategoryCommand.with(CategoryID.unique().getValue(), "Filmes", null, true, 1L);
+
+        when(categoryGateway.update(any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException(expectedErrorMessage)));
+
+        final var notification = useCase.execute(aCommand).join().getLeft();
+
+        assertEquals(expectedErrorMessage, notification.firstError().message());
+    }
+}
@@ -4,6 +4,7 @@ import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
 import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.VersionConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -202,4 +203,54 @@ class UpdateCategoryUseCaseTest {
         verify(categoryGateway, times(1)).findById(eq(CategoryID.from(expectedId)));
         verify(categoryGateway, times(0)).update(any());
     }
+
+    @Test
+    void givenACommandWithExpectedVersion_whenCallsUpdateCategory_shouldUpdateWithoutFindById() {
+        final var expectedId = CategoryID.unique();
+        final var expectedName = "Filmes";
+        final var expectedDescription = "A categoria mais assistida";
+        final var expectedIsActive = false;
+        final var expectedVersion = 2L;
+
+        final var aCommand = UpdateCategoryCommand.with(
+            expectedId.getValue(), expectedName, expectedDescription, expectedIsActive, expectedVersion
+        );
+
+        when(categoryGateway.update(any()))
+            .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        verify(categoryGateway, never()).findById(any());
+        verify(categoryGateway, times(1)).update(argThat(
+            anUpdatedCategory ->
+                Objects.equals(expectedId, anUpdatedCategory.getId())
+                    && Objects.equals(expectedName, anUpdatedCategory.getName())
+                    && Objects.equals(expectedDescription, anUpdatedCategory.getDescription())
+                    && Objects.equals(expectedIsActive, anUpdatedCategory.isActive())
+                    && Objects.equals(expectedVersion, anUpdatedCategory.getVersion())
+                    && Objects.nonNull(anUpdatedCategory.getDeletedAt())
+        ));
+    }
+
+    @Test
+    void givenACommandWithStaleVersion_whenGatewayThrowsVersionConflict_shouldPropagateIt() {
+        final var expectedId = CategoryID.unique();
+        final var expectedErrorMessage = "Category with ID %s does not match the expected version 1"
+            .formatted(expectedId.getValue());
+
+        final var aCommand = UpdateCategoryCommand.with(
+            expectedId.getValue(), "Filmes", null, true, 1L
+        );
+
+        when(categoryGateway.update(any()))
+            .thenThrow(VersionConflictException.with(Category.class, expectedId, 1));
+
+        final var actualException =
+            assertThrows(VersionConflictException.class, () -> useCase.execute(aCommand));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
 }
@@ -0,0 +1,97 @@
+package br.com.lukinhasssss.admin.catalogo.domain.pagination;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compara o map antigo (uma lista nova por camada) com o map lazy, simulando o caminho da listagem de categorias:
+ * entity -> aggregate (gateway) -> output (use case) -> response (controller) -> serialização.
+ * Os items são percorridos duas vezes, como quando algo lê a página antes da serialização: os dois converteram cada item
+ * uma única vez, então a diferença medida é apenas a das listas intermediárias e não trabalho pulado.
+ * Rodar com ./gradlew :domain:jmh, o profiler gc mostra o gc.alloc.rate.norm (bytes alocados por operação)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationMapBenchmark {
+
+    @Param({"500"})
+    private int perPage;
+
+    private List<Entity> entities;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(perPage);
+
+        for (int i = 0; i < perPage; i++)
+            entities.add(new Entity(UUID.randomUUID().toString(), "Categoria " + i, "Descrição " + i, true, Instant.now(), null));
+    }
+
+    @Benchmark
+    public void eagerMap(final Blackhole blackhole) {
+        final var aPage = new Pagination<>(0, perPage, 10_000, entities.stream().map(Entity::toAggregate).toList());
+
+        final var outputs = eager(aPage, Aggregate::toOutput);
+        final var responses = eager(outputs, Output::toResponse);
+
+        responses.items().forEach(blackhole::consume);
+        responses.items().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void lazyMap(final Blackhole blackhole) {
+        final var responses = new Pagination<>(0, perPage, 10_000, entities)
+            .map(Entity::toAggregate)
+            .map(Aggregate::toOutput)
+            .map(Output::toResponse);
+
+        responses.items().forEach(blackhole::consume);
+        responses.items().forEach(blackhole::consume);
+    }
+
+    // Implementação do Pagination.map antes de ficar lazy
+    private static <T, R> Pagination<R> eager(final Pagination<T> aPage, final Function<T, R> mapper) {
+        return new Pagination<>(aPage.currentPage(), aPage.perPage(), aPage.total(), aPage.items().stream().map(mapper).toList());
+    }
+
+    record Entity(String id, String name, String description, boolean active, Instant createdAt, Instant deletedAt) {
+        Aggregate toAggregate() {
+            return new Aggregate(id, name, description, active, createdAt, createdAt, deletedAt);
+        }
+    }
+
+    record Aggregate(String id, String name, String description, boolean active, Instant createdAt, Instant updatedAt, Instant deletedAt) {
+        Output toOutput() {
+            return new Output(id, name, description, active, createdAt, deletedAt);
+        }
+    }
+
+    record Output(String id, String name, String description, boolean active, Instant createdAt, Instant deletedAt) {
+        Response toResponse() {
+            return new Response(id, name, description, active, createdAt, deletedAt);
+        }
+    }
+
+    record Response(String id, String name, String description, boolean active, Instant createdAt, Instant deletedAt) {}
+}
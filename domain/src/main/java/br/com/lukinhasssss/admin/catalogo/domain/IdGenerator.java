@@ -0,0 +1,26 @@
+package br.com.lukinhasssss.admin.catalogo.domain;
+
+import java.util.UUID;
+
+/**
+ * Estratégia de geração dos identificadores dos agregados (ver CategoryID#unique)
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+
+    /**
+     * UUID v4, totalmente aleatório
+     */
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+
+    /**
+     * UUID v7, ordenado pelo momento da geração (ver TimeOrderedIdGenerator)
+     */
+    static IdGenerator timeOrdered() {
+        return TimeOrderedIdGenerator.SYSTEM;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.lukinhasssss.admin.catalogo.domain;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UUID v7 (RFC 9562): os 48 bits mais significativos são o timestamp em milliseconds, então ids gerados em sequência
+ * ficam lado a lado na chave primária do InnoDB (que é o índice clustered) e os INSERTs vão para o fim da árvore,
+ * ao invés de espalhados por ela como acontece com o UUID v4.
+ * Os 12 bits do rand_a são um contador dentro do mesmo millisecond, o que mantém a ordem entre ids gerados no mesmo
+ * millisecond. O estado é um único AtomicLong atualizado por CAS, sem locks; se o contador estourar ou o relógio
+ * voltar, o timestamp avança além do relógio ao invés de repetir ou regredir
+ */
+public final class TimeOrderedIdGenerator implements IdGenerator {
+
+    static final TimeOrderedIdGenerator SYSTEM = new TimeOrderedIdGenerator(System::currentTimeMillis);
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final LongSupplier clock;
+
+    // (timestamp << COUNTER_BITS) | contador do último id gerado
+    private final AtomicLong lastState = new AtomicLong();
+
+    public TimeOrderedIdGenerator(final LongSupplier clock) {
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public UUID next() {
+        final var now = clock.getAsLong() << COUNTER_BITS;
+        final var aState = lastState.updateAndGet(last -> Math.max(now, last + 1));
+
+        final var timestamp = aState >>> COUNTER_BITS;
+        final var counter = aState & COUNTER_MASK;
+
+        final var mostSigBits = (timestamp << 16) | VERSION | counter;
+        final var leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
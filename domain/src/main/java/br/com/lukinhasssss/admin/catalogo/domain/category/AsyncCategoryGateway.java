@@ -0,0 +1,25 @@
+package br.com.lukinhasssss.admin.catalogo.domain.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Contrapartida não bloqueante do CategoryGateway: as operações devolvem o resultado em um CompletableFuture
+ * completado quando o I/O termina, sem prender a thread que as chamou.
+ * Por ser do JDK o CompletableFuture mantém o domínio independente de framework; cada adapter converte para
+ * o seu modelo (ex: Mono no R2DBC)
+ */
+public interface AsyncCategoryGateway {
+
+    CompletableFuture<Category> create(Category aCategory);
+
+    CompletableFuture<Void> deleteById(CategoryID anId);
+
+    CompletableFuture<Optional<Category>> findById(CategoryID anId);
+
+    CompletableFuture<Category> update(Category aCategory);
+
+    CompletableFuture<Pagination<CategorySummary>> findAllSummaries(CategorySearchQuery aQuery);
+}
@@ -14,6 +14,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private final Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private final long version;
 
     private Category(
         final CategoryID anId,
@@ -22,7 +23,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final boolean isActive,
         final Instant aCreationDate,
         final Instant anUpdateDate,
-        final Instant aDeleteDate
+        final Instant aDeleteDate,
+        final long aVersion
     ) {
         super(anId);
         this.name = aName;
@@ -31,14 +33,23 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(aCreationDate, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(anUpdateDate, "'updatedAt' should not be null");
         this.deletedAt = aDeleteDate;
+        this.version = aVersion;
     }
 
     public static Category newCategory(final String aName, final String aDescription, final boolean isActive) {
-        final var id = CategoryID.unique();
+        return newCategory(CategoryID.unique(), aName, aDescription, isActive);
+    }
+
+    public static Category newCategory(
+        final CategoryID anId,
+        final String aName,
+        final String aDescription,
+        final boolean isActive
+    ) {
         final var now = Instant.now();
         final var deletedAt = isActive ? null : now;
 
-        return new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+        return new Category(anId, aName, aDescription, isActive, now, now, deletedAt, 0);
     }
 
     public static Category with(
@@ -49,15 +60,28 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final Instant createdAt,
         final Instant updatedAt,
         final Instant deletedAt
+    ) {
+        return with(anId, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(
+        final CategoryID anId,
+        final String name,
+        final String description,
+        final boolean active,
+        final Instant createdAt,
+        final Instant updatedAt,
+        final Instant deletedAt,
+        final long version
     ) {
         return new Category(
-            anId, name, description, active, createdAt, updatedAt, deletedAt
+            anId, name, description, active, createdAt, updatedAt, deletedAt, version
         );
     }
 
     public static Category with(final Category aCategory) {
         return with(
-            aCategory.getId(), aCategory.name, aCategory.description, aCategory.isActive(), aCategory.createdAt, aCategory.updatedAt, aCategory.deletedAt
+            aCategory.getId(), aCategory.name, aCategory.description, aCategory.isActive(), aCategory.createdAt, aCategory.updatedAt, aCategory.deletedAt, aCategory.version
         );
     }
 
@@ -126,6 +150,10 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public Category clone() {
         try {
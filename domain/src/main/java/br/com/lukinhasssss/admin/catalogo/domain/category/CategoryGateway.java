@@ -2,17 +2,39 @@ package br.com.lukinhasssss.admin.catalogo.domain.category;
 
 import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
     Category create(Category aCategory);
 
+    List<Category> createAll(List<Category> aCategories);
+
     void deleteById(CategoryID anId);
 
     Optional<Category> findById(CategoryID anId);
 
+    List<Category> findAllByIds(Set<CategoryID> anIds);
+
     Category update(Category aCategory);
 
+    List<Category> updateAll(List<Category> aCategories);
+
+    /**
+     * Grava as criações e as atualizações numa única transação: ou todas são gravadas, ou nenhuma
+     */
+    void saveAll(List<Category> toCreate, List<Category> toUpdate);
+
     Pagination<Category> findAll(CategorySearchQuery aQuery);
+
+    Pagination<CategorySummary> findAllSummaries(CategorySearchQuery aQuery);
+
+    List<CategorySuggestion> suggest(String aPrefix, int aLimit);
+
+    CategoryStats countAll();
+
+    void streamAll(Consumer<Category> aConsumer);
 }
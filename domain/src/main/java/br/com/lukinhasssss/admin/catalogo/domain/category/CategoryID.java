@@ -1,5 +1,6 @@
 package br.com.lukinhasssss.admin.catalogo.domain.category;
 
+import br.com.lukinhasssss.admin.catalogo.domain.IdGenerator;
 import br.com.lukinhasssss.admin.catalogo.domain.Identifier;
 
 import java.util.Objects;
@@ -7,6 +8,11 @@ import java.util.UUID;
 
 public class CategoryID extends Identifier {
 
+    /**
+     * UUID v7, que mantém os INSERTs agrupados no fim da chave primária (ver TimeOrderedIdGenerator)
+     */
+    private static final IdGenerator GENERATOR = IdGenerator.timeOrdered();
+
     private final String value;
 
     private CategoryID(final String value) {
@@ -15,7 +21,7 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(GENERATOR.next());
     }
 
     public static CategoryID from(final String anId) {
@@ -1,9 +1,126 @@
 package br.com.lukinhasssss.admin.catalogo.domain.category;
 
+import java.util.Set;
+
+/**
+ * Com o withTotal = false a busca não executa o COUNT: é buscado um item a mais e a página informa
+ * apenas se existe uma próxima (Pagination.hasNext) ao invés do total
+ */
 public record CategorySearchQuery(
     int page,
     int perPage,
     String terms,
     String sort,
-    String direction
-) { }
+    String direction,
+    String after,
+    boolean includeDescription,
+    boolean fuzzy,
+    boolean withTotal
+) {
+
+    /**
+     * Cada campo tem um índice composto (campo, id) na category, então a ordenação percorre o índice ao invés de um filesort
+     */
+    public static final Set<String> SORTABLE_FIELDS = Set.of("name", "createdAt", "updatedAt");
+
+    /**
+     * Ordena pela relevância dos terms no índice de busca, então só é aceita nas buscas com terms
+     */
+    public static final String RELEVANCE = "relevance";
+
+    /**
+     * Busca sem cursor, com a description, sem o fuzzy e com o total; para mudar qualquer um deles use o builder
+     */
+    public static CategorySearchQuery with(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction
+    ) {
+        return builder(page, perPage, terms, sort, direction).build();
+    }
+
+    public static Builder builder(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction
+    ) {
+        return new Builder(page, perPage, terms, sort, direction);
+    }
+
+    public boolean hasTerms() {
+        return terms != null && !terms.isBlank();
+    }
+
+    public boolean isCursor() {
+        return after != null && !after.isBlank();
+    }
+
+    /**
+     * As páginas por cursor nunca calculam o total, mesmo com o withTotal: o seek evita percorrer as linhas
+     * anteriores ao after e um COUNT por página anularia isso. O total fica com a primeira página (sem o after)
+     */
+    public boolean countsTotal() {
+        return withTotal && !isCursor();
+    }
+
+    /**
+     * Busca tolerante a erros de digitação: os resultados vêm ordenados pela similaridade com os terms,
+     * então o sort e o after são ignorados
+     */
+    public boolean isFuzzy() {
+        return fuzzy && hasTerms();
+    }
+
+    public int offset() {
+        return Math.multiplyExact(page, perPage);
+    }
+
+    public static final class Builder {
+
+        private final int page;
+        private final int perPage;
+        private final String terms;
+        private final String sort;
+        private final String direction;
+        private String after;
+        private boolean includeDescription = true;
+        private boolean fuzzy;
+        private boolean withTotal = true;
+
+        private Builder(final int page, final int perPage, final String terms, final String sort, final String direction) {
+            this.page = page;
+            this.perPage = perPage;
+            this.terms = terms;
+            this.sort = sort;
+            this.direction = direction;
+        }
+
+        public Builder after(final String anAfter) {
+            this.after = anAfter;
+            return this;
+        }
+
+        public Builder includeDescription(final boolean includeDescription) {
+            this.includeDescription = includeDescription;
+            return this;
+        }
+
+        public Builder fuzzy(final boolean fuzzy) {
+            this.fuzzy = fuzzy;
+            return this;
+        }
+
+        public Builder withTotal(final boolean withTotal) {
+            this.withTotal = withTotal;
+            return this;
+        }
+
+        public CategorySearchQuery build() {
+            return new CategorySearchQuery(page, perPage, terms, sort, direction, after, includeDescription, fuzzy, withTotal);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.lukinhasssss.admin.catalogo.domain.category;
+
+/**
+ * Quantidade de categorias cadastradas, no total e por status
+ */
+public record CategoryStats(
+    long total,
+    long active,
+    long inactive
+) {}
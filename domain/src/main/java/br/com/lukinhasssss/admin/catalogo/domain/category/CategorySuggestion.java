@@ -0,0 +1,9 @@
+package br.com.lukinhasssss.admin.catalogo.domain.category;
+
+/**
+ * Uma categoria ativa sugerida para um prefixo digitado (autocomplete)
+ */
+public record CategorySuggestion(
+    CategoryID id,
+    String name
+) {}
@@ -0,0 +1,16 @@
+package br.com.lukinhasssss.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+/**
+ * Apenas os campos de uma categoria exibidos nas listagens.
+ * O description vem nulo quando a busca foi feita sem ele (CategorySearchQuery.includeDescription)
+ */
+public record CategorySummary(
+    CategoryID id,
+    String name,
+    String description,
+    boolean isActive,
+    Instant createdAt,
+    Instant deletedAt
+) {}
@@ -0,0 +1,27 @@
+package br.com.lukinhasssss.admin.catalogo.domain.exceptions;
+
+import br.com.lukinhasssss.admin.catalogo.domain.AggregateRoot;
+import br.com.lukinhasssss.admin.catalogo.domain.Identifier;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class VersionConflictException extends DomainException {
+
+    protected VersionConflictException(final String aMessage, final List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static VersionConflictException with(
+        final Class<? extends AggregateRoot<?>> anAggregate,
+        final Identifier id,
+        final long expectedVersion
+    ) {
+        final var anError = "%s with ID %s does not match the expected version %d".formatted(
+            anAggregate.getSimpleName(), id.getValue(), expectedVersion
+        );
+
+        return new VersionConflictException(anError, Collections.emptyList());
+    }
+}
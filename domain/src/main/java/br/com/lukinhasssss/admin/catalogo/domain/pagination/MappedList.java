@@ -0,0 +1,98 @@
+package br.com.lukinhasssss.admin.catalogo.domain.pagination;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Visão somente leitura de uma lista que aplica o mapper ao acessar cada item, sem copiar a lista de origem.
+ * Cada item é convertido uma única vez e guardado, então percorrer a lista de novo (ex: a serialização depois de um log)
+ * não repete a conversão. Mapear uma MappedList que ainda não converteu nenhum item apenas compõe os mappers, então vários
+ * map seguidos continuam percorrendo a origem uma única vez.
+ * Não é thread-safe: assim como a página, é lida por uma thread de cada vez
+ */
+final class MappedList<T, R> extends AbstractList<R> {
+
+    // Marca os itens convertidos para null, já que o null no array indica um item ainda não convertido
+    private static final Object NULL = new Object();
+
+    private final List<T> source;
+    private final Function<? super T, ? extends R> mapper;
+    private Object[] mapped;
+
+    private MappedList(final List<T> source, final Function<? super T, ? extends R> mapper) {
+        this.source = Objects.requireNonNull(source);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    static <T, R> List<R> of(final List<T> source, final Function<? super T, ? extends R> mapper) {
+        return source instanceof MappedList<?, T> aMappedList && aMappedList.mapped == null
+            ? aMappedList.andThen(mapper)
+            : new MappedList<>(source, mapper);
+    }
+
+    @Override
+    public R get(final int index) {
+        Objects.checkIndex(index, size());
+
+        final var aCachedItem = mapped()[index];
+        return aCachedItem != null ? unwrap(aCachedItem) : map(index, source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    /**
+     * Percorre pelo iterator da origem, assim uma origem sem acesso aleatório não vira O(n²)
+     */
+    @Override
+    public Iterator<R> iterator() {
+        final var iterator = source.iterator();
+
+        return new Iterator<>() {
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public R next() {
+                final var anItem = iterator.next();
+                final var aCachedItem = mapped()[index];
+                final var aResult = aCachedItem != null ? MappedList.<R>unwrap(aCachedItem) : map(index, anItem);
+
+                index++;
+                return aResult;
+            }
+        };
+    }
+
+    private R map(final int index, final T anItem) {
+        final R aResult = mapper.apply(anItem);
+        mapped[index] = aResult != null ? aResult : NULL;
+        return aResult;
+    }
+
+    private Object[] mapped() {
+        if (mapped == null)
+            mapped = new Object[source.size()];
+
+        return mapped;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R unwrap(final Object aCachedItem) {
+        return aCachedItem == NULL ? null : (R) aCachedItem;
+    }
+
+    private <V> MappedList<T, V> andThen(final Function<? super R, ? extends V> after) {
+        return new MappedList<>(source, mapper.andThen(after));
+    }
+}
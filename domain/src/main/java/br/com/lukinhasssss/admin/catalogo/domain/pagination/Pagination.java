@@ -3,17 +3,60 @@ package br.com.lukinhasssss.admin.catalogo.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * Quando a busca é feita sem o COUNT (CategorySearchQuery.countsTotal = false) o total fica como UNKNOWN_TOTAL
+ * e o hasNext é preenchido; nas demais o hasNext fica nulo e o total é o da busca
+ */
 public record Pagination<T>(
     int currentPage,
     int perPage,
     long total,
-    List<T> items
+    List<T> items,
+    String nextCursor,
+    Boolean hasNext
 ) {
 
-    public <R> Pagination<R> map(final Function<T, R> mapper) {
-        final List<R> aNewList = this.items().stream()
-            .map(mapper).toList();
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(
+        final int currentPage,
+        final int perPage,
+        final long total,
+        final List<T> items,
+        final String nextCursor
+    ) {
+        this(currentPage, perPage, total, items, nextCursor, null);
+    }
+
+    public Pagination(
+        final int currentPage,
+        final int perPage,
+        final long total,
+        final List<T> items
+    ) {
+        this(currentPage, perPage, total, items, null);
+    }
 
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+    public static <T> Pagination<T> withoutTotal(
+        final int currentPage,
+        final int perPage,
+        final List<T> items,
+        final String nextCursor,
+        final boolean hasNext
+    ) {
+        return new Pagination<>(currentPage, perPage, UNKNOWN_TOTAL, items, nextCursor, hasNext);
+    }
+
+    public boolean hasTotal() {
+        return total != UNKNOWN_TOTAL;
+    }
+
+    /**
+     * O map é lazy: os items da nova página são uma visão que converte cada item no primeiro acesso e guarda o resultado,
+     * e maps encadeados são compostos em uma única função. Assim a conversão entity -> aggregate -> output -> response
+     * acontece uma única vez por item, durante a serialização, sem criar uma lista intermediária por camada
+     */
+    public <R> Pagination<R> map(final Function<T, R> mapper) {
+        return new Pagination<>(currentPage(), perPage(), total(), MappedList.of(items(), mapper), nextCursor(), hasNext());
     }
 }
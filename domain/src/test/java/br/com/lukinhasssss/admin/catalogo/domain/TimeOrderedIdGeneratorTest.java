@@ -0,0 +1,95 @@
+package br.com.lukinhasssss.admin.catalogo.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void givenAClock_whenCallsNext_shouldGenerateAVersion7UUIDWithTheTimestamp() {
+        final var expectedTimestamp = 1_700_000_000_000L;
+
+        final var actualId = new TimeOrderedIdGenerator(() -> expectedTimestamp).next();
+
+        assertEquals(7, actualId.version());
+        assertEquals(2, actualId.variant());
+        assertEquals(expectedTimestamp, actualId.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void givenTheSameMillisecondOrAClockGoingBack_whenCallsNext_shouldKeepTheIdsOrdered() {
+        final var aClock = new AtomicLong(1_700_000_000_000L);
+        final var aGenerator = new TimeOrderedIdGenerator(aClock::get);
+
+        final var actualIds = new ArrayList<String>();
+
+        // 4096 é o limite do contador dentro de um millisecond
+        for (int i = 0; i < 5_000; i++)
+            actualIds.add(aGenerator.next().toString());
+
+        aClock.addAndGet(-1_000);
+        actualIds.add(aGenerator.next().toString());
+
+        final var expectedIds = new ArrayList<>(actualIds);
+        expectedIds.sort(String::compareTo);
+
+        assertEquals(expectedIds, actualIds);
+        assertEquals(actualIds.size(), new HashSet<>(actualIds).size());
+    }
+
+    @Test
+    void givenConcurrentThreads_whenCallsNext_shouldGenerateUniqueIdsOrderedPerThread() throws InterruptedException {
+        final var aGenerator = new TimeOrderedIdGenerator(System::currentTimeMillis);
+        final var threads = 8;
+        final var idsPerThread = 10_000;
+
+        final var executor = Executors.newFixedThreadPool(threads);
+        final var start = new CountDownLatch(1);
+        final var generated = new ConcurrentLinkedQueue<List<UUID>>();
+
+        for (int t = 0; t < threads; t++)
+            executor.execute(() -> {
+                final var ids = new ArrayList<UUID>(idsPerThread);
+                awaitQuietly(start);
+
+                for (int i = 0; i < idsPerThread; i++)
+                    ids.add(aGenerator.next());
+
+                generated.add(ids);
+            });
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        final var unique = new HashSet<UUID>();
+
+        generated.forEach(ids -> {
+            for (int i = 1; i < ids.size(); i++)
+                assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0);
+
+            unique.addAll(ids);
+        });
+
+        assertEquals(threads * idsPerThread, unique.size());
+    }
+
+    private static void awaitQuietly(final CountDownLatch aLatch) {
+        try {
+            aLatch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.lukinhasssss.admin.catalogo.domain.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaginationTest {
+
+    @Test
+    void givenAPagination_whenCallsMap_thenKeepPageInfoAndMapItems() {
+        final var aPagination = new Pagination<>(1, 2, 10, List.of(1, 2), "cursor");
+
+        final var actualPagination = aPagination.map(String::valueOf);
+
+        assertEquals(1, actualPagination.currentPage());
+        assertEquals(2, actualPagination.perPage());
+        assertEquals(10, actualPagination.total());
+        assertEquals("cursor", actualPagination.nextCursor());
+        assertEquals(List.of("1", "2"), actualPagination.items());
+        assertNull(actualPagination.hasNext());
+        assertTrue(actualPagination.hasTotal());
+    }
+
+    @Test
+    void givenAPaginationWithoutTotal_whenCallsMap_thenKeepHasNext() {
+        final var aPagination = Pagination.withoutTotal(0, 2, List.of(1, 2), null, true);
+
+        final var actualPagination = aPagination.map(String::valueOf);
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualPagination.total());
+        assertFalse(actualPagination.hasTotal());
+        assertTrue(actualPagination.hasNext());
+        assertEquals(List.of("1", "2"), actualPagination.items());
+    }
+
+    @Test
+    void givenChainedMaps_whenIteratesItems_thenEachItemIsConvertedOncePerMapper() {
+        final var calls = new AtomicInteger();
+
+        final var actualItems = new Pagination<>(0, 3, 3, List.of(1, 2, 3))
+            .map(item -> { calls.incrementAndGet(); return item * 10; })
+            .map(item -> { calls.incrementAndGet(); return "#" + item; })
+            .items();
+
+        assertEquals(0, calls.get());
+        assertEquals(List.of("#10", "#20", "#30"), actualItems);
+        assertEquals(6, calls.get());
+    }
+
+    @Test
+    void givenMappedItems_whenTriesToModify_thenThrowsUnsupportedOperation() {
+        final var actualItems = new Pagination<>(0, 1, 1, List.of(1)).map(String::valueOf).items();
+
+        assertThrows(UnsupportedOperationException.class, () -> actualItems.add("2"));
+    }
+
+    @Test
+    void givenASequentialSource_whenIteratesMappedItems_thenUseTheSourceIterator() {
+        final var aSource = new LinkedList<>(List.of(1, 2, 3));
+
+        final var actualItems = new Pagination<>(0, 3, 3, aSource).map(item -> item + 1).items();
+
+        assertEquals(List.of(2, 3, 4), actualItems.stream().toList());
+        assertEquals(3, actualItems.size());
+        assertEquals(4, actualItems.get(2));
+    }
+
+    @Test
+    void givenMappedItems_whenTraversesThemAgain_thenEachItemIsConvertedOnlyOnce() {
+        final var calls = new AtomicInteger();
+
+        final var actualItems = new Pagination<>(0, 3, 3, List.of(1, 2, 3))
+            .map(item -> { calls.incrementAndGet(); return item * 10; })
+            .items();
+
+        assertEquals(20, actualItems.get(1));
+        assertEquals(List.of(10, 20, 30), actualItems.stream().toList());
+        assertEquals(List.of(10, 20, 30), actualItems);
+        assertEquals(30, actualItems.get(2));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void givenAnAlreadyTraversedPage_whenCallsMap_thenDoNotConvertTheItemsAgain() {
+        final var calls = new AtomicInteger();
+
+        final var aPagination = new Pagination<>(0, 2, 2, List.of(1, 2))
+            .map(item -> { calls.incrementAndGet(); return item * 10; });
+
+        aPagination.items().forEach(item -> {});
+
+        final var actualItems = aPagination.map(item -> item + 1).items();
+
+        assertEquals(List.of(11, 21), actualItems);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void givenAMapperReturningNull_whenAccessesTheItemTwice_thenConvertsItOnce() {
+        final var calls = new AtomicInteger();
+
+        final var actualItems = new Pagination<>(0, 1, 1, List.of(1))
+            .map(item -> { calls.incrementAndGet(); return (String) null; })
+            .items();
+
+        assertNull(actualItems.get(0));
+        assertNull(actualItems.get(0));
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryIds;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.configuration.WebServerConfig;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SearchUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carga na listagem (GET /categories com 256 requisições simultâneas) sobre a variante WebFlux + R2DBC: aqui as
+ * requisições esperando o banco não ocupam threads, só conexões do pool do R2DBC.
+ * Por padrão usa um H2 em memória; para medir no MySQL basta informar o banco por system properties, ex:
+ * ./gradlew :infrastructure-reactive:jmh -Dspring.r2dbc.url=r2dbc:mysql://localhost:3306/adm_videos -Dspring.flyway.url=jdbc:mysql://localhost:3306/adm_videos -Dspring.r2dbc.username=root -Dspring.r2dbc.password=password
+ * (o flyway.url também é utilizado para popular a tabela, que só é populada se tiver menos linhas que o rows).
+ * O r2dbc-h2 não é de fato assíncrono: executa as queries na thread que assina, o event loop do Netty, que acaba
+ * entregando as conexões liberadas às requisições dos outros event loops e deixa as suas sem resposta. Com o H2
+ * o benchmark serve apenas como smoke test com poucas threads (ex: -t 1); os números comparáveis são os do MySQL
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(256)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CategoryReactiveApiLoadBenchmark {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int PAGES = 100;
+
+    @Param({"100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup
+    public void setUp() {
+        final var jdbcUrl = System.getProperty("spring.flyway.url", "jdbc:h2:mem:adm_videos_bench;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        final var username = System.getProperty("spring.r2dbc.username", "username");
+        final var password = System.getProperty("spring.r2dbc.password", "password");
+
+        context = new SpringApplicationBuilder(WebServerConfig.class)
+            .web(WebApplicationType.REACTIVE)
+            // Argumentos de linha de comando têm precedência sobre o application.yml
+            .run(
+                "--server.port=0",
+                "--spring.r2dbc.url=" + System.getProperty("spring.r2dbc.url", "r2dbc:h2:mem:///adm_videos_bench?options=MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"),
+                "--spring.r2dbc.username=" + username,
+                "--spring.r2dbc.password=" + password,
+                // O flyway não roda sobre R2DBC: as migrations do módulo infrastructure são aplicadas via JDBC no mesmo banco
+                "--spring.flyway.url=" + jdbcUrl,
+                "--spring.flyway.user=" + username,
+                "--spring.flyway.password=" + password,
+                "--spring.flyway.locations=classpath:db/migration,classpath:db/vendor/{vendor}",
+                "--logging.level.root=warn"
+            );
+
+        baseUrl = "http://localhost:%d/categories".formatted(((WebServerApplicationContext) context).getWebServer().getPort());
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        populate(new JdbcTemplate(new DriverManagerDataSource(jdbcUrl, username, password)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int listCategories() throws IOException, InterruptedException {
+        final var page = ThreadLocalRandom.current().nextInt(PAGES);
+
+        final var aRequest = HttpRequest.newBuilder(URI.create(baseUrl + "?perPage=20&page=" + page))
+            .timeout(Duration.ofSeconds(30))
+            .GET()
+            .build();
+
+        final var aResponse = httpClient.send(aRequest, HttpResponse.BodyHandlers.discarding());
+
+        if (aResponse.statusCode() != 200)
+            throw new IllegalStateException("GET /categories returned " + aResponse.statusCode());
+
+        return aResponse.statusCode();
+    }
+
+    // Inserção direta em batch; no fim os contadores são recalculados, como o CategoryCountersReconciler faria
+    private void populate(final JdbcTemplate jdbcTemplate) {
+        final var existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category", Long.class);
+        final var now = Timestamp.from(Instant.now());
+
+        for (long i = existing; i < rows; i += BATCH_SIZE) {
+            final var batch = new ArrayList<Object[]>(BATCH_SIZE);
+
+            for (long j = i; j < Math.min(i + BATCH_SIZE, rows); j++) {
+                final var aName = "Categoria " + j;
+                batch.add(new Object[]{CategoryIds.toBinary(CategoryID.unique().getValue()), aName, SearchUtils.normalize(aName), true, now, now});
+            }
+
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO category (id, name, name_search, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                batch
+            );
+        }
+
+        jdbcTemplate.update("UPDATE category_counters SET total_count = 0, active_count = 0 WHERE id <> 1");
+        jdbcTemplate.update("""
+            UPDATE category_counters
+            SET total_count = (SELECT COUNT(*) FROM category), active_count = (SELECT COUNT(*) FROM category WHERE active = TRUE)
+            WHERE id = 1
+            """);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.reactive;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.configuration.WebServerConfig;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.core.env.AbstractEnvironment;
+
+@SpringBootApplication
+public class Main {
+    public static void main(String[] args) {
+        System.setProperty(AbstractEnvironment.DEFAULT_PROFILES_PROPERTY_NAME, "development");
+        SpringApplication.run(WebServerConfig.class, args);
+    }
+}
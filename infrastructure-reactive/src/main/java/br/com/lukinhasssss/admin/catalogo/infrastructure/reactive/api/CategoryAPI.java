@@ -0,0 +1,50 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.api;
+
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * As rotas de CRUD do CategoryAPI do módulo infrastructure, com os mesmos parâmetros e respostas,
+ * servidas pelo WebFlux: nenhuma thread fica bloqueada esperando o banco
+ */
+@RequestMapping(value = "categories")
+public interface CategoryAPI {
+
+    @PostMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<?>> createCategory(@RequestBody CreateCategoryRequest input);
+
+    @GetMapping
+    Mono<Pagination<CategoryListResponse>> listCategories(
+        @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+        @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
+        @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
+        @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+        @RequestParam(name = "includeDescription", required = false, defaultValue = "true") final boolean includeDescription,
+        @RequestParam(name = "withTotal", required = false, defaultValue = "true") final boolean withTotal
+    );
+
+    @GetMapping(value = "{id}", produces = APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<CategoryResponse>> getById(@PathVariable(name = "id") String id);
+
+    @PutMapping(value = "{id}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    Mono<ResponseEntity<?>> updateById(
+        @PathVariable(name = "id") String id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody UpdateCategoryRequest input
+    );
+
+    @DeleteMapping(value = "{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    Mono<Void> deleteById(@PathVariable(name = "id") String id);
+}
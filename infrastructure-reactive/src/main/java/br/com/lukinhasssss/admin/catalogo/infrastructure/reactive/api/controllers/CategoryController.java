@@ -0,0 +1,126 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.api.controllers;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.create.AsyncCreateCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryCommand;
+import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.delete.AsyncDeleteCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.update.AsyncUpdateCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import br.com.lukinhasssss.admin.catalogo.application.category.update.UpdateCategoryOutput;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.api.controllers.ETags;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.api.CategoryAPI;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.presenters.CategoryPresenter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * O Mono.fromFuture desembrulha o CompletionException, então as falhas dos use cases
+ * chegam ao GlobalExceptionHandler como no módulo infrastructure
+ */
+@RestController
+public class CategoryController implements CategoryAPI {
+
+    private final AsyncCreateCategoryUseCase createCategoryUseCase;
+    private final AsyncGetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final AsyncUpdateCategoryUseCase updateCategoryUseCase;
+    private final AsyncDeleteCategoryUseCase deleteCategoryUseCase;
+    private final AsyncListCategoriesUseCase listCategoriesUseCase;
+
+    public CategoryController(
+        final AsyncCreateCategoryUseCase createCategoryUseCase,
+        final AsyncGetCategoryByIdUseCase getCategoryByIdUseCase,
+        final AsyncUpdateCategoryUseCase updateCategoryUseCase,
+        final AsyncDeleteCategoryUseCase deleteCategoryUseCase,
+        final AsyncListCategoriesUseCase listCategoriesUseCase
+    ) {
+        this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> createCategory(final CreateCategoryRequest input) {
+        final var aCommand = CreateCategoryCommand.with(
+            input.name(),
+            input.description(),
+            input.active() != null ? input.active() : true
+        );
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+            ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<CreateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+            ResponseEntity.created(URI.create("/categories/" + output.id())).body(output);
+
+        return Mono.fromFuture(() -> createCategoryUseCase.execute(aCommand))
+            .map(result -> result.fold(onError, onSuccess));
+    }
+
+    @Override
+    public Mono<Pagination<CategoryListResponse>> listCategories(
+        final String search,
+        final int page,
+        final int perPage,
+        final String sort,
+        final String direction,
+        final boolean includeDescription,
+        final boolean withTotal
+    ) {
+        final var aQuery = CategorySearchQuery.builder(page, perPage, search, sort, direction)
+            .includeDescription(includeDescription)
+            .withTotal(withTotal)
+            .build();
+
+        return Mono.fromFuture(() -> listCategoriesUseCase.execute(aQuery))
+            .map(result -> result.map(CategoryPresenter::present));
+    }
+
+    @Override
+    public Mono<ResponseEntity<CategoryResponse>> getById(final String id) {
+        return Mono.fromFuture(() -> getCategoryByIdUseCase.execute(id))
+            .map(output -> ResponseEntity.ok()
+                .eTag(ETags.from(output.version()))
+                .body(CategoryPresenter.present(output)));
+    }
+
+    @Override
+    public Mono<ResponseEntity<?>> updateById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
+        final var aCommand = UpdateCategoryCommand.with(
+            id,
+            input.name(),
+            input.description(),
+            input.active() != null ? input.active() : true,
+            ETags.toVersion(ifMatch)
+        );
+
+        final Function<Notification, ResponseEntity<?>> onError = notification ->
+            ResponseEntity.unprocessableEntity().body(notification);
+
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+            ResponseEntity.ok().eTag(ETags.from(output.version())).body(output);
+
+        return Mono.fromFuture(() -> updateCategoryUseCase.execute(aCommand))
+            .map(result -> result.fold(onError, onSuccess));
+    }
+
+    @Override
+    public Mono<Void> deleteById(final String id) {
+        return Mono.fromFuture(() -> deleteCategoryUseCase.execute(id));
+    }
+}
@@ -0,0 +1,282 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.VersionConflictException;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryCounterSlots;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryIds;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SearchUtils;
+import io.r2dbc.spi.Row;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementação do AsyncCategoryGateway sobre R2DBC: as queries não prendem nenhuma thread enquanto esperam o banco.
+ * Grava nas mesmas tabelas do CategoryMySQLGateway e mantém os mesmos efeitos colaterais (category_change_log
+ * e category_counters, em uma linha sorteada pelo CategoryCounterSlots), então as duas variantes podem rodar lado a lado no mesmo banco.
+ * Os DATETIME são gravados e lidos em UTC, como o driver JDBC faz com o serverTimezone=UTC
+ */
+@Component
+public class CategoryR2dbcGateway implements AsyncCategoryGateway {
+
+    private static final String COLUMNS = "id, name, description, active, created_at, updated_at, deleted_at, version";
+
+    /**
+     * Os mesmos campos do CategorySearchQuery.SORTABLE_FIELDS, que já foram validados pelo use case.
+     * O name é ordenado pelo name_search, como no módulo infrastructure. Sem índice de busca não há relevância,
+     * então o relevance também segue o name_search
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        "name", "name_search",
+        CategorySearchQuery.RELEVANCE, "name_search",
+        "createdAt", "created_at",
+        "updatedAt", "updated_at"
+    );
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    public CategoryR2dbcGateway(final DatabaseClient databaseClient, final TransactionalOperator transactionalOperator) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    @Override
+    public CompletableFuture<Category> create(final Category aCategory) {
+        final var anId = CategoryIds.toBinary(aCategory.getId().getValue());
+
+        final var insert = databaseClient.sql("""
+                INSERT INTO category (id, name, name_search, description, description_search, active, created_at, updated_at, deleted_at, version)
+                VALUES (:id, :name, :nameSearch, :description, :descriptionSearch, :active, :createdAt, :updatedAt, :deletedAt, :version)
+                """)
+            .bind("createdAt", toDateTime(aCategory.getCreatedAt()));
+
+        return bindColumns(insert, anId, aCategory)
+            .fetch().rowsUpdated()
+            .then(logChange(anId))
+            .then(databaseClient.sql("UPDATE category_counters SET total_count = total_count + 1, active_count = active_count + :active WHERE id = :slot")
+                .bind("active", aCategory.isActive() ? 1 : 0)
+                .bind("slot", CategoryCounterSlots.next())
+                .fetch().rowsUpdated())
+            .thenReturn(aCategory)
+            .as(transactionalOperator::transactional)
+            .toFuture();
+    }
+
+    /**
+     * Os contadores são atualizados antes do DELETE, enquanto a linha ainda existe
+     */
+    @Override
+    public CompletableFuture<Void> deleteById(final CategoryID anId) {
+        final var aBinaryId = CategoryIds.toBinary(anId.getValue());
+
+        return logChange(aBinaryId)
+            .then(databaseClient.sql("""
+                    UPDATE category_counters
+                    SET total_count = total_count - (SELECT COUNT(*) FROM category WHERE id = :id),
+                        active_count = active_count - (SELECT COUNT(*) FROM category WHERE id = :id AND active = TRUE)
+                    WHERE id = :slot
+                    """)
+                .bind("id", aBinaryId)
+                .bind("slot", CategoryCounterSlots.next())
+                .fetch().rowsUpdated())
+            .then(databaseClient.sql("DELETE FROM category WHERE id = :id").bind("id", aBinaryId).fetch().rowsUpdated())
+            .then()
+            .as(transactionalOperator::transactional)
+            .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Optional<Category>> findById(final CategoryID anId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM category WHERE id = :id")
+            .bind("id", CategoryIds.toBinary(anId.getValue()))
+            .map(CategoryR2dbcGateway::toAggregate)
+            .one()
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .toFuture();
+    }
+
+    /**
+     * Mesmo UPDATE condicionado à versão do CategoryRepository.update; a alteração do active é aplicada nos
+     * contadores antes, enquanto a linha ainda tem o valor anterior, e desfeita pelo rollback se o UPDATE falhar
+     */
+    @Override
+    public CompletableFuture<Category> update(final Category aCategory) {
+        final var anId = aCategory.getId();
+        final var aBinaryId = CategoryIds.toBinary(anId.getValue());
+
+        final var statusChange = aCategory.isActive()
+            ? "UPDATE category_counters SET active_count = active_count + (SELECT COUNT(*) FROM category WHERE id = :id AND active = FALSE) WHERE id = :slot"
+            : "UPDATE category_counters SET active_count = active_count - (SELECT COUNT(*) FROM category WHERE id = :id AND active = TRUE) WHERE id = :slot";
+
+        final var update = databaseClient.sql("""
+                UPDATE category
+                SET name = :name,
+                    name_search = :nameSearch,
+                    description = :description,
+                    description_search = :descriptionSearch,
+                    active = :active,
+                    updated_at = :updatedAt,
+                    deleted_at = CASE WHEN :active = TRUE THEN NULL ELSE COALESCE(deleted_at, :deletedAt) END,
+                    version = version + 1
+                WHERE id = :id AND version = :version
+                """);
+
+        return databaseClient.sql(statusChange).bind("id", aBinaryId).bind("slot", CategoryCounterSlots.next()).fetch().rowsUpdated()
+            .then(bindColumns(update, aBinaryId, aCategory).fetch().rowsUpdated())
+            .flatMap(updated -> updated == 0 ? conflictOrNotFound(aCategory) : logChange(aBinaryId))
+            .then(Mono.fromSupplier(() -> Category.with(
+                anId,
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                aCategory.getVersion() + 1
+            )))
+            .as(transactionalOperator::transactional)
+            .toFuture();
+    }
+
+    /**
+     * Paginação por OFFSET com busca pelo LIKE nas colunas *_search (o cursor e o fuzzy existem apenas no módulo infrastructure).
+     * Com o withTotal a página e o total são buscados ao mesmo tempo, cada um na sua conexão;
+     * sem terms o total é a soma das linhas do category_counters ao invés de um COUNT na tabela inteira
+     */
+    @Override
+    public CompletableFuture<Pagination<CategorySummary>> findAllSummaries(final CategorySearchQuery aQuery) {
+        final var isFiltered = aQuery.terms() != null && !aQuery.terms().isBlank();
+        final var whereClause = isFiltered ? " WHERE name_search LIKE :terms OR description_search LIKE :terms" : "";
+        final var direction = "desc".equalsIgnoreCase(aQuery.direction()) ? "DESC" : "ASC";
+        final var perPage = aQuery.perPage();
+
+        // Sem o withTotal buscamos um item a mais apenas para saber se existe uma próxima página
+        final var sql = "SELECT id, name, %s, active, created_at, deleted_at FROM category%s ORDER BY %s %s, id %s LIMIT %d OFFSET %d".formatted(
+            aQuery.includeDescription() ? "description" : "NULL AS description",
+            whereClause,
+            SORT_COLUMNS.get(aQuery.sort()),
+            direction,
+            direction,
+            aQuery.withTotal() ? perPage : perPage + 1,
+            aQuery.offset()
+        );
+
+        final var items = bindTerms(databaseClient.sql(sql), aQuery)
+            .map(CategoryR2dbcGateway::toSummary)
+            .all()
+            .collectList();
+
+        if (!aQuery.withTotal())
+            return items
+                .map(result -> {
+                    final var hasNext = result.size() > perPage;
+                    return Pagination.withoutTotal(aQuery.page(), perPage, hasNext ? result.subList(0, perPage) : result, null, hasNext);
+                })
+                .toFuture();
+
+        final var total = isFiltered
+            ? count(bindTerms(databaseClient.sql("SELECT COUNT(*) AS total FROM category" + whereClause), aQuery))
+            : count(databaseClient.sql("SELECT SUM(total_count) AS total FROM category_counters HAVING COUNT(*) > 0"))
+                .switchIfEmpty(count(databaseClient.sql("SELECT COUNT(*) AS total FROM category")));
+
+        return Mono.zip(items, total)
+            .map(result -> new Pagination<>(aQuery.page(), perPage, result.getT2(), result.getT1()))
+            .toFuture();
+    }
+
+    /**
+     * Registra a alteração no category_change_log para as instâncias do módulo infrastructure invalidarem os seus caches
+     */
+    private Mono<Integer> logChange(final byte[] anId) {
+        return databaseClient.sql("INSERT INTO category_change_log (category_id) SELECT id FROM category WHERE id = :id")
+            .bind("id", anId)
+            .fetch().rowsUpdated();
+    }
+
+    private <T> Mono<T> conflictOrNotFound(final Category aCategory) {
+        final var anId = aCategory.getId();
+
+        return count(databaseClient.sql("SELECT COUNT(*) AS total FROM category WHERE id = :id").bind("id", CategoryIds.toBinary(anId.getValue())))
+            .flatMap(total -> Mono.error(total > 0
+                ? VersionConflictException.with(Category.class, anId, aCategory.getVersion())
+                : NotFoundException.with(Category.class, anId)));
+    }
+
+    private static Mono<Long> count(final GenericExecuteSpec aSpec) {
+        return aSpec.map(row -> ((Number) row.get("total")).longValue()).one();
+    }
+
+    private static GenericExecuteSpec bindTerms(final GenericExecuteSpec aSpec, final CategorySearchQuery aQuery) {
+        return aQuery.terms() != null && !aQuery.terms().isBlank() ? aSpec.bind("terms", "%" + SearchUtils.normalize(aQuery.terms()) + "%") : aSpec;
+    }
+
+    /**
+     * Parâmetros comuns ao INSERT e ao UPDATE; os nulos precisam do tipo da coluna no R2DBC
+     */
+    private static GenericExecuteSpec bindColumns(final GenericExecuteSpec aSpec, final byte[] anId, final Category aCategory) {
+        var aBoundSpec = aSpec
+            .bind("id", anId)
+            .bind("name", aCategory.getName())
+            .bind("nameSearch", SearchUtils.normalize(aCategory.getName()))
+            .bind("active", aCategory.isActive())
+            .bind("updatedAt", toDateTime(aCategory.getUpdatedAt()))
+            .bind("version", aCategory.getVersion());
+
+        aBoundSpec = bindNullable(aBoundSpec, "description", aCategory.getDescription(), String.class);
+        aBoundSpec = bindNullable(aBoundSpec, "descriptionSearch", SearchUtils.normalize(aCategory.getDescription()), String.class);
+        return bindNullable(aBoundSpec, "deletedAt", toDateTime(aCategory.getDeletedAt()), LocalDateTime.class);
+    }
+
+    private static <T> GenericExecuteSpec bindNullable(final GenericExecuteSpec aSpec, final String aName, final T aValue, final Class<T> aType) {
+        return aValue != null ? aSpec.bind(aName, aValue) : aSpec.bindNull(aName, aType);
+    }
+
+    private static Category toAggregate(final Row row) {
+        return Category.with(
+            CategoryID.from(CategoryIds.fromBinary(row.get("id", byte[].class))),
+            row.get("name", String.class),
+            row.get("description", String.class),
+            Boolean.TRUE.equals(row.get("active", Boolean.class)),
+            toInstant(row.get("created_at", LocalDateTime.class)),
+            toInstant(row.get("updated_at", LocalDateTime.class)),
+            toInstant(row.get("deleted_at", LocalDateTime.class)),
+            ((Number) row.get("version")).longValue()
+        );
+    }
+
+    private static CategorySummary toSummary(final Row row) {
+        return new CategorySummary(
+            CategoryID.from(CategoryIds.fromBinary(row.get("id", byte[].class))),
+            row.get("name", String.class),
+            row.get("description", String.class),
+            Boolean.TRUE.equals(row.get("active", Boolean.class)),
+            toInstant(row.get("created_at", LocalDateTime.class)),
+            toInstant(row.get("deleted_at", LocalDateTime.class))
+        );
+    }
+
+    private static LocalDateTime toDateTime(final Instant anInstant) {
+        return anInstant != null ? LocalDateTime.ofInstant(anInstant, ZoneOffset.UTC) : null;
+    }
+
+    private static Instant toInstant(final LocalDateTime aDateTime) {
+        return aDateTime != null ? aDateTime.toInstant(ZoneOffset.UTC) : null;
+    }
+}
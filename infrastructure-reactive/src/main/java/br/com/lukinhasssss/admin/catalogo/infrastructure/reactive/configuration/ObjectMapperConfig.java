@@ -0,0 +1,15 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.configuration;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ObjectMapperConfig {
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        return Json.mapper();
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.configuration;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Mesmo papel do WebServerConfig do módulo infrastructure, mas para a variante reativa (WebFlux + R2DBC):
+ * apenas o package reactive é examinado
+ */
+@Configuration
+@ComponentScan("br.com.lukinhasssss.admin.catalogo.infrastructure.reactive")
+public class WebServerConfig {
+}
@@ -0,0 +1,50 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.configuration.usecases;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.create.AsyncCreateCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.create.DefaultAsyncCreateCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.delete.AsyncDeleteCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.delete.DefaultAsyncDeleteCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.DefaultAsyncGetCategoryByIdUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.DefaultAsyncListCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.update.AsyncUpdateCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.update.DefaultAsyncUpdateCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.domain.category.AsyncCategoryGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CategoryUseCaseConfig {
+
+    private final AsyncCategoryGateway categoryGateway;
+
+    public CategoryUseCaseConfig(final AsyncCategoryGateway categoryGateway) {
+        this.categoryGateway = categoryGateway;
+    }
+
+    @Bean
+    public AsyncCreateCategoryUseCase createCategoryUseCase() {
+        return new DefaultAsyncCreateCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    public AsyncUpdateCategoryUseCase updateCategoryUseCase() {
+        return new DefaultAsyncUpdateCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    public AsyncGetCategoryByIdUseCase getCategoryByIdUseCase() {
+        return new DefaultAsyncGetCategoryByIdUseCase(categoryGateway);
+    }
+
+    @Bean
+    public AsyncListCategoriesUseCase listCategoriesUseCase() {
+        return new DefaultAsyncListCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public AsyncDeleteCategoryUseCase deleteCategoryUseCase() {
+        return new DefaultAsyncDeleteCategoryUseCase(categoryGateway);
+    }
+}
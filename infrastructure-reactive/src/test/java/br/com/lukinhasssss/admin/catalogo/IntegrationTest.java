@@ -0,0 +1,17 @@
+package br.com.lukinhasssss.admin.catalogo;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.configuration.WebServerConfig;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.*;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@ActiveProfiles("test-integration")
+@SpringBootTest(classes = WebServerConfig.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ExtendWith(R2dbcCleanUpExtension.class)
+public @interface IntegrationTest {
+}
@@ -0,0 +1,29 @@
+package br.com.lukinhasssss.admin.catalogo;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+public class R2dbcCleanUpExtension implements BeforeEachCallback {
+
+    private static final List<String> STATEMENTS = List.of(
+        "DELETE FROM category_change_log",
+        "DELETE FROM category",
+        "UPDATE category_counters SET total_count = 0, active_count = 0"
+    );
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        final var databaseClient = SpringExtension
+            .getApplicationContext(context)
+            .getBean(DatabaseClient.class);
+
+        Flux.fromIterable(STATEMENTS)
+            .concatMap(sql -> databaseClient.sql(sql).fetch().rowsUpdated())
+            .blockLast();
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.api;
+
+import br.com.lukinhasssss.admin.catalogo.IntegrationTest;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Objects;
+
+import static org.hamcrest.Matchers.*;
+
+/**
+ * As rotas respondem o mesmo JSON do CategoryAPI do módulo infrastructure
+ */
+@IntegrationTest
+class CategoryAPIIT {
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Test
+    void givenAValidCategory_whenCallsTheCrudRoutes_shouldCreateRetrieveUpdateAndDeleteIt() {
+        final var anId = create("Filme", "A categoria mais assistida");
+
+        webClient.get().uri("/categories/{id}", anId)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+            .expectBody()
+            .jsonPath("$.id").isEqualTo(anId)
+            .jsonPath("$.name").isEqualTo("Filme")
+            .jsonPath("$.is_active").isEqualTo(true)
+            .jsonPath("$.created_at").isNotEmpty()
+            .jsonPath("$.deleted_at").isEmpty();
+
+        webClient.put().uri("/categories/{id}", anId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .bodyValue(new UpdateCategoryRequest("Filmes", null, false))
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+
+        webClient.put().uri("/categories/{id}", anId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .bodyValue(new UpdateCategoryRequest("Séries", null, true))
+            .exchange()
+            .expectStatus().isEqualTo(412);
+
+        webClient.delete().uri("/categories/{id}", anId)
+            .exchange()
+            .expectStatus().isNoContent();
+
+        webClient.get().uri("/categories/{id}", anId)
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody()
+            .jsonPath("$.message").isEqualTo("Category with ID %s was not found".formatted(anId));
+    }
+
+    @Test
+    void givenAnInvalidName_whenCallsCreateCategory_shouldReturnUnprocessableEntity() {
+        webClient.post().uri("/categories")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new CreateCategoryRequest(null, null, true))
+            .exchange()
+            .expectStatus().isEqualTo(422)
+            .expectBody()
+            .jsonPath("$.errors[0].message").isEqualTo("'name' should not be null");
+    }
+
+    @Test
+    void givenPersistedCategories_whenCallsListCategories_shouldReturnThePageAndTheTotal() {
+        create("Filmes", null);
+        create("Documentários", "Filmes baseados em fatos reais");
+        create("Séries", null);
+
+        webClient.get().uri("/categories?search=filmes&sort=name&dir=asc&perPage=1")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.current_page").isEqualTo(0)
+            .jsonPath("$.per_page").isEqualTo(1)
+            .jsonPath("$.total").isEqualTo(2)
+            .jsonPath("$.has_next").doesNotExist()
+            .jsonPath("$.items", hasSize(1)).exists()
+            .jsonPath("$.items[0].name").isEqualTo("Documentários");
+
+        webClient.get().uri("/categories?perPage=2&withTotal=false")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.total").doesNotExist()
+            .jsonPath("$.has_next").isEqualTo(true);
+    }
+
+    @Test
+    void givenAnUnsortableField_whenCallsListCategories_shouldReturnUnprocessableEntity() {
+        webClient.get().uri("/categories?sort=description")
+            .exchange()
+            .expectStatus().isEqualTo(422)
+            .expectBody()
+            .jsonPath("$.errors[0].message").isEqualTo("'sort' must be one of [createdAt, name, updatedAt]");
+    }
+
+    private String create(final String aName, final String aDescription) {
+        return Objects.requireNonNull(webClient.post().uri("/categories")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new CreateCategoryRequest(aName, aDescription, true))
+            .exchange()
+            .expectStatus().isCreated()
+            .expectHeader().value(HttpHeaders.LOCATION, startsWith("/categories/"))
+            .expectBody(CreateCategoryResponse.class)
+            .returnResult()
+            .getResponseBody()).id();
+    }
+
+    record CreateCategoryResponse(String id) {}
+}
@@ -0,0 +1,163 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.reactive.category;
+
+import br.com.lukinhasssss.admin.catalogo.IntegrationTest;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.VersionConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class CategoryR2dbcGatewayTest {
+
+    @Autowired
+    private CategoryR2dbcGateway categoryGateway;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldPersistItAndUpdateTheCountersAndTheChangeLog() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        categoryGateway.create(aCategory).join();
+
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).join().orElseThrow();
+
+        assertEquals(aCategory.getId(), actualCategory.getId());
+        assertEquals("Filmes", actualCategory.getName());
+        assertEquals("A categoria mais assistida", actualCategory.getDescription());
+        assertTrue(actualCategory.isActive());
+        assertSameMicros(aCategory.getCreatedAt(), actualCategory.getCreatedAt());
+        assertSameMicros(aCategory.getUpdatedAt(), actualCategory.getUpdatedAt());
+        assertNull(actualCategory.getDeletedAt());
+
+        assertEquals(1L, scalar("SELECT SUM(total_count) FROM category_counters"));
+        assertEquals(1L, scalar("SELECT SUM(active_count) FROM category_counters"));
+        assertEquals(1L, scalar("SELECT COUNT(*) FROM category_change_log"));
+        assertEquals(16L, scalar("SELECT OCTET_LENGTH(id) FROM category"));
+    }
+
+    @Test
+    void givenAPersistedCategory_whenCallsUpdateWithItsVersion_shouldIncrementItAndTheCounters() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+        categoryGateway.create(aCategory).join();
+
+        final var anUpdatedCategory = aCategory.clone().update("Filmes", "A categoria mais assistida", false);
+
+        final var actualCategory = categoryGateway.update(anUpdatedCategory).join();
+
+        assertEquals(aCategory.getVersion() + 1, actualCategory.getVersion());
+
+        final var persistedCategory = categoryGateway.findById(aCategory.getId()).join().orElseThrow();
+
+        assertEquals("Filmes", persistedCategory.getName());
+        assertFalse(persistedCategory.isActive());
+        assertNotNull(persistedCategory.getDeletedAt());
+        assertEquals(actualCategory.getVersion(), persistedCategory.getVersion());
+        assertEquals(0L, scalar("SELECT SUM(active_count) FROM category_counters"));
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsUpdate_shouldFailWithVersionConflictAndRollbackTheCounters() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryGateway.create(aCategory).join();
+        categoryGateway.update(aCategory.clone().update("Filmes", null, true)).join();
+
+        final var aStaleCategory = aCategory.clone().update("Séries", null, false);
+
+        final var actualException = assertThrows(CompletionException.class, () -> categoryGateway.update(aStaleCategory).join());
+
+        assertInstanceOf(VersionConflictException.class, actualException.getCause());
+        assertEquals(1L, scalar("SELECT SUM(active_count) FROM category_counters"));
+    }
+
+    @Test
+    void givenANonExistentCategory_whenCallsUpdate_shouldFailWithNotFound() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        final var actualException = assertThrows(CompletionException.class, () -> categoryGateway.update(aCategory).join());
+
+        assertInstanceOf(NotFoundException.class, actualException.getCause());
+    }
+
+    @Test
+    void givenAPersistedCategory_whenCallsDeleteById_shouldRemoveItAndDecrementTheCounters() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        categoryGateway.create(aCategory).join();
+
+        categoryGateway.deleteById(aCategory.getId()).join();
+
+        assertTrue(categoryGateway.findById(aCategory.getId()).join().isEmpty());
+        assertEquals(0L, scalar("SELECT SUM(total_count) FROM category_counters"));
+        assertEquals(0L, scalar("SELECT SUM(active_count) FROM category_counters"));
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsFindById_shouldReturnEmpty() {
+        assertTrue(categoryGateway.findById(CategoryID.from("123")).join().isEmpty());
+    }
+
+    @Test
+    void givenTermsAndSort_whenCallsFindAllSummaries_shouldFilterByTheSearchColumnsAndCount() {
+        categoryGateway.create(Category.newCategory("Filmes", null, true)).join();
+        categoryGateway.create(Category.newCategory("Documentários", "Filmes baseados em fatos reais", true)).join();
+        categoryGateway.create(Category.newCategory("Séries", null, true)).join();
+
+        final var aQuery = CategorySearchQuery.with(0, 10, "FILMES", "name", "desc");
+
+        final var actualResult = categoryGateway.findAllSummaries(aQuery).join();
+
+        assertEquals(2, actualResult.total());
+        assertEquals(
+            List.of("Filmes", "Documentários"),
+            actualResult.items().stream().map(CategorySummary::name).toList()
+        );
+    }
+
+    @Test
+    void givenAQueryWithoutTotal_whenCallsFindAllSummaries_shouldReturnHasNextWithoutTheDescription() {
+        categoryGateway.create(Category.newCategory("Filmes", "Filmes", true)).join();
+        categoryGateway.create(Category.newCategory("Séries", "Séries", true)).join();
+        categoryGateway.create(Category.newCategory("Documentários", "Documentários", true)).join();
+
+        final var aQuery = CategorySearchQuery.builder(0, 2, "", "name", "asc")
+            .includeDescription(false)
+            .withTotal(false)
+            .build();
+
+        final var actualResult = categoryGateway.findAllSummaries(aQuery).join();
+
+        assertFalse(actualResult.hasTotal());
+        assertTrue(actualResult.hasNext());
+        assertEquals(2, actualResult.items().size());
+        assertEquals("Documentários", actualResult.items().get(0).name());
+        assertNull(actualResult.items().get(0).description());
+    }
+
+    /**
+     * O DATETIME(6) guarda até microssegundos, e o H2 arredonda ao invés de truncar os nanos
+     */
+    private static void assertSameMicros(final Instant expected, final Instant actual) {
+        assertTrue(Duration.between(expected, actual).abs().toNanos() < 1_000, () -> "expected: <%s> but was: <%s>".formatted(expected, actual));
+    }
+
+    private long scalar(final String sql) {
+        return databaseClient.sql(sql)
+            .map(row -> ((Number) row.get(0)).longValue())
+            .one()
+            .blockOptional()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.api.controllers;
+
+/**
+ * ETags das categorias, as mesmas nas duas variantes da API (MVC e WebFlux)
+ */
+public final class ETags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    /**
+     * Uma ETag que não representa nenhuma versão válida, fazendo o UPDATE condicional falhar com 412
+     */
+    private static final long UNMATCHABLE_VERSION = -1L;
+
+    private ETags() {}
+
+    public static String from(final long aVersion) {
+        return "\"" + aVersion + "\"";
+    }
+
+    /**
+     * @param anIfMatch É o valor do header If-Match. Nulo, em branco ou * significa atualização incondicional
+     */
+    public static Long toVersion(final String anIfMatch) {
+        if (anIfMatch == null || anIfMatch.isBlank() || ANY.equals(anIfMatch.trim()))
+            return null;
+
+        var aValue = anIfMatch.trim();
+
+        if (aValue.startsWith(WEAK_PREFIX))
+            aValue = aValue.substring(WEAK_PREFIX.length());
+
+        try {
+            return Long.valueOf(aValue.replace("\"", ""));
+        } catch (final NumberFormatException ex) {
+            return UNMATCHABLE_VERSION;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Os contadores do category_counters ficam divididos em SLOTS linhas (ids 1 a SLOTS, criadas pela V10): cada escrita
+ * soma o seu delta em uma linha sorteada e as leituras somam todas. Com uma linha só, toda escrita de categoria do
+ * cluster esperava o lock dessa linha até o commit; agora só as que sorteiam a mesma linha disputam o lock
+ */
+public final class CategoryCounterSlots {
+
+    public static final int SLOTS = 16;
+
+    private CategoryCounterSlots() {}
+
+    public static int next() {
+        return ThreadLocalRandom.current().nextInt(SLOTS) + 1;
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Conversão do id das categorias para o BINARY(16) da coluna id, os 16 bytes do UUID. Os dois adapters (JPA e R2DBC)
+ * gravam e buscam nas mesmas colunas, então ambos convertem por aqui. A ordem dos bytes é a mesma do texto em minúsculas,
+ * então a ordenação por id e os cursores do keyset não mudam
+ */
+public final class CategoryIds {
+
+    private static final int UUID_LENGTH = 36;
+    private static final int BINARY_LENGTH = 16;
+
+    private CategoryIds() {}
+
+    /**
+     * Um id que não é um UUID não existe no banco: vira um valor vazio, que não é igual a nenhum BINARY(16)
+     */
+    public static byte[] toBinary(final String anId) {
+        if (anId == null || anId.length() != UUID_LENGTH)
+            return new byte[0];
+
+        final var bytes = new byte[BINARY_LENGTH];
+        var position = 0;
+
+        for (int i = 0; i < BINARY_LENGTH; i++) {
+            if (position == 8 || position == 13 || position == 18 || position == 23) {
+                if (anId.charAt(position++) != '-')
+                    return new byte[0];
+            }
+
+            final var high = hexValue(anId.charAt(position++));
+            final var low = hexValue(anId.charAt(position++));
+
+            if (high < 0 || low < 0)
+                return new byte[0];
+
+            bytes[i] = (byte) (high << 4 | low);
+        }
+
+        return bytes;
+    }
+
+    public static List<byte[]> toBinary(final Collection<String> ids) {
+        return ids.stream().map(CategoryIds::toBinary).toList();
+    }
+
+    public static String fromBinary(final byte[] bytes) {
+        if (bytes.length != BINARY_LENGTH)
+            throw new IllegalArgumentException("A category id must have %d bytes, found %d".formatted(BINARY_LENGTH, bytes.length));
+
+        final var aBuffer = ByteBuffer.wrap(bytes);
+        return new UUID(aBuffer.getLong(), aBuffer.getLong()).toString();
+    }
+
+    private static int hexValue(final char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+        if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+        return -1;
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.presenters;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryResponse;
+
+/**
+ * Respostas comuns às duas variantes da API (MVC e WebFlux), que precisam responder o mesmo JSON
+ */
+public interface CategoryPresenter {
+
+    static CategoryResponse present(final CategoryOutput output) {
+        return new CategoryResponse(
+            output.id().getValue(),
+            output.name(),
+            output.description(),
+            output.isActive(),
+            output.createdAt(),
+            output.updatedAt(),
+            output.deletedAt()
+        );
+    }
+
+    static CategoryListResponse present(final CategoryListOutput output) {
+        return new CategoryListResponse(
+            output.id().getValue(),
+            output.name(),
+            output.description(),
+            output.isActive(),
+            output.createdAt(),
+            output.deletedAt()
+        );
+    }
+}
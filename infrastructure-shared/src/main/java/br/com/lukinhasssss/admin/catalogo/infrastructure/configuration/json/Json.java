@@ -1,5 +1,6 @@
 package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.json;
 
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -33,6 +34,7 @@ public enum Json {
             SerializationFeature.WRITE_DATES_AS_TIMESTAMPS
         )
         .modules(new JavaTimeModule(), new Jdk8Module(), afterburnerModule())
+        .mixIn(Pagination.class, PaginationMixin.class)
         .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
         .build();
 
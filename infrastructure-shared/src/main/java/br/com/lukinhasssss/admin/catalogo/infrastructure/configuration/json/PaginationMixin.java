@@ -0,0 +1,41 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.json;
+
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Na busca sem o COUNT a página responde o has_next ao invés do total, e nas demais apenas o total
+ */
+abstract class PaginationMixin {
+
+    // Com um serializer próprio o Afterburner não troca o writer da propriedade, que ignoraria o isEmpty
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @JsonSerialize(using = TotalSerializer.class)
+    abstract long total();
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    abstract Boolean hasNext();
+
+    static class TotalSerializer extends StdSerializer<Long> {
+
+        TotalSerializer() {
+            super(Long.class);
+        }
+
+        @Override
+        public void serialize(final Long total, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+            gen.writeNumber(total);
+        }
+
+        @Override
+        public boolean isEmpty(final SerializerProvider provider, final Long total) {
+            return total == Pagination.UNKNOWN_TOTAL;
+        }
+    }
+}
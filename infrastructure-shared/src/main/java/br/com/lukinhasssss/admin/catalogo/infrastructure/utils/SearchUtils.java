@@ -0,0 +1,23 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class SearchUtils {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private SearchUtils() {}
+
+    /**
+     * Forma utilizada nas colunas *_search e nos termos buscados: decompõe (NFD), remove os acentos
+     * e coloca em minúsculas, então "Ação" e "ACAO" viram "acao"
+     */
+    public static String normalize(final String aText) {
+        if (aText == null)
+            return null;
+
+        return DIACRITICS.matcher(Normalizer.normalize(aText, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
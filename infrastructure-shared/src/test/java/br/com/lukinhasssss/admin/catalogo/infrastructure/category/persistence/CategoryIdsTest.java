@@ -0,0 +1,45 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryIdsTest {
+
+    @Test
+    void givenAnUUID_whenConvertsToBinaryAndBack_shouldKeepTheTextualForm() {
+        final var expectedId = "0189c3a1-5b2e-7f00-8a3c-0123456789ab";
+
+        final var actualBytes = CategoryIds.toBinary(expectedId);
+
+        assertEquals(16, actualBytes.length);
+        assertEquals(expectedId, CategoryIds.fromBinary(actualBytes));
+        assertEquals(expectedId, CategoryIds.fromBinary(CategoryIds.toBinary(expectedId.toUpperCase())));
+    }
+
+    @Test
+    void givenIdsSortedAsText_whenConvertsToBinary_shouldKeepTheOrder() {
+        final var expectedIds = Stream.generate(() -> UUID.randomUUID().toString()).limit(1_000).sorted().toList();
+
+        final var actualIds = CategoryIds.toBinary(expectedIds).stream()
+            .sorted(Arrays::compareUnsigned)
+            .map(CategoryIds::fromBinary)
+            .toList();
+
+        assertEquals(expectedIds, actualIds);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"123", "", "0189c3a1-5b2e-7f00-8a3c-0123456789ag", "0189c3a1x5b2e-7f00-8a3c-0123456789ab"})
+    void givenATextThatIsNotAnUUID_whenConvertsToBinary_shouldReturnAValueThatMatchesNoId(final String anId) {
+        assertEquals(0, CategoryIds.toBinary(anId).length);
+        assertEquals(List.of(0), CategoryIds.toBinary(List.of(anId)).stream().map(bytes -> bytes.length).toList());
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryIds;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o id como VARCHAR(36) (antes da V9) e como BINARY(16) (depois): latência da busca pela chave primária e,
+ * no MySQL, o tamanho dos dados e dos índices (impresso ao final de cada cenário, o índice (created_at, id) mostra o
+ * custo da chave primária nos índices secundários). Cada cenário cria a sua própria tabela com o rows de categorias.
+ * Por padrão usa um H2 em memória; para medir no MySQL basta informar o banco por system properties, ex:
+ * ./gradlew :infrastructure:jmh -Djmh.includes=CategoryIdStorageBenchmark -Dspring.datasource.url=jdbc:mysql://localhost:3306/adm_videos -Dspring.datasource.username=root -Dspring.datasource.password=password
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CategoryIdStorageBenchmark {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    @Param({"text", "binary"})
+    private String storage;
+
+    @Param({"1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private String table;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(WebServerConfig.class)
+            .web(WebApplicationType.NONE)
+            // Argumentos de linha de comando têm precedência sobre o application.yml
+            .run(
+                "--spring.datasource.url=" + System.getProperty("spring.datasource.url", "jdbc:h2:mem:adm_videos_bench;MODE=MYSQL;DATABASE_TO_LOWER=TRUE"),
+                "--spring.datasource.username=" + System.getProperty("spring.datasource.username", "username"),
+                "--spring.datasource.password=" + System.getProperty("spring.datasource.password", "password"),
+                // O H2 não aceita o fetch size negativo do application.yml, usado ao reconstruir os índices na inicialização
+                "--category.export.fetch-size=" + System.getProperty("category.export.fetch-size", "1000"),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=warn"
+            );
+
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        table = "category_id_" + storage;
+
+        final var transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        final var idColumn = "binary".equals(storage) ? "BINARY(16)" : "VARCHAR(36)";
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id " + idColumn + " NOT NULL PRIMARY KEY, name VARCHAR(255) NOT NULL, created_at DATETIME(6) NOT NULL)");
+            jdbcTemplate.execute("CREATE INDEX idx_" + table + "_created_at_id ON " + table + " (created_at, id)");
+        });
+
+        populate(transactionTemplate);
+        printSizes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        context.close();
+    }
+
+    @Benchmark
+    public String findById() {
+        final var anId = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+        return jdbcTemplate.queryForObject("SELECT name FROM " + table + " WHERE id = ?", String.class, parameterOf(anId));
+    }
+
+    private Object parameterOf(final String anId) {
+        return "binary".equals(storage) ? CategoryIds.toBinary(anId) : anId;
+    }
+
+    // UUID v4, o pior caso para a chave primária; o pool é configurado com auto-commit desligado, então cada lote
+    // é inserido na sua própria transação
+    private void populate(final TransactionTemplate transactionTemplate) {
+        final var now = Timestamp.from(Instant.now());
+        ids = new String[rows];
+
+        for (int i = 0; i < rows; i += BATCH_SIZE) {
+            final var batch = new ArrayList<Object[]>(BATCH_SIZE);
+
+            for (int j = i; j < Math.min(i + BATCH_SIZE, rows); j++) {
+                ids[j] = UUID.randomUUID().toString();
+                batch.add(new Object[]{parameterOf(ids[j]), "Categoria " + j, now});
+            }
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "INSERT INTO " + table + " (id, name, created_at) VALUES (?, ?, ?)",
+                batch
+            ));
+        }
+    }
+
+    // O information_schema só tem o tamanho das tabelas no MySQL
+    private void printSizes() {
+        final var product = jdbcTemplate.execute((ConnectionCallback<String>) aConnection -> aConnection.getMetaData().getDatabaseProductName());
+
+        if (!"MySQL".equals(product))
+            return;
+
+        jdbcTemplate.execute("ANALYZE TABLE " + table);
+
+        final var sizes = jdbcTemplate.queryForMap(
+            "SELECT data_length, index_length FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+            table
+        );
+
+        System.out.printf("%n%s: data_length=%s index_length=%s%n", table, sizes.get("data_length"), sizes.get("index_length"));
+    }
+}
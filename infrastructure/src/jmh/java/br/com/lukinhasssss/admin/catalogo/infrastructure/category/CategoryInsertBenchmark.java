@@ -0,0 +1,101 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.IdGenerator;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryIds;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a vazão de INSERTs na category com ids UUID v4 (aleatórios) e UUID v7 (ordenados pelo tempo).
+ * O resultado é em linhas por segundo e a diferença cresce com o tamanho da tabela, quando as páginas da chave primária
+ * deixam de caber no buffer pool: por isso o ideal é medir no MySQL, informando o banco por system properties, ex:
+ * ./gradlew :infrastructure:jmh -Djmh.includes=CategoryInsertBenchmark -Dspring.datasource.url=jdbc:mysql://localhost:3306/adm_videos -Dspring.datasource.username=root -Dspring.datasource.password=password
+ * (a tabela é esvaziada no início de cada cenário)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CategoryInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"random", "timeOrdered"})
+    private String generator;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private IdGenerator idGenerator;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(WebServerConfig.class)
+            .web(WebApplicationType.NONE)
+            // Argumentos de linha de comando têm precedência sobre o application.yml
+            .run(
+                "--spring.datasource.url=" + System.getProperty("spring.datasource.url", "jdbc:h2:mem:adm_videos_bench;MODE=MYSQL;DATABASE_TO_LOWER=TRUE"),
+                "--spring.datasource.username=" + System.getProperty("spring.datasource.username", "username"),
+                "--spring.datasource.password=" + System.getProperty("spring.datasource.password", "password"),
+                // O H2 não aceita o fetch size negativo do application.yml, usado ao reconstruir os índices na inicialização
+                "--category.export.fetch-size=" + System.getProperty("category.export.fetch-size", "1000"),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=warn"
+            );
+
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        idGenerator = "random".equals(generator) ? IdGenerator.random() : IdGenerator.timeOrdered();
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update("DELETE FROM category"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // O pool é configurado com auto-commit desligado, então cada lote é inserido na sua própria transação
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int[] insertBatch() {
+        final var now = Timestamp.from(Instant.now());
+        final var batch = new ArrayList<Object[]>(BATCH_SIZE);
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final var aName = "Categoria " + sequence++;
+            batch.add(new Object[]{CategoryIds.toBinary(idGenerator.next().toString()), aName, aName.toLowerCase(), true, now, now});
+        }
+
+        return transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(
+            "INSERT INTO category (id, name, name_search, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+            batch
+        ));
+    }
+}
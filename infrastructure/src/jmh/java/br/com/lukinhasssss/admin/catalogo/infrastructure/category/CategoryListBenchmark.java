@@ -0,0 +1,130 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryIds;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SearchUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a listagem hidratando CategoryJpaEntity (findAll) com a projeção das colunas (findAllSummaries),
+ * com e sem o description, sobre uma tabela com 1M de categorias.
+ * Por padrão usa um H2 em memória; para medir no MySQL basta informar o banco por system properties, ex:
+ * ./gradlew :infrastructure:jmh -Dspring.datasource.url=jdbc:mysql://localhost:3306/adm_videos -Dspring.datasource.username=root -Dspring.datasource.password=password
+ * (a tabela só é populada se tiver menos linhas que o rows)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CategoryListBenchmark {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int PAGES = 100;
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"500"})
+    private int perPage;
+
+    private ConfigurableApplicationContext context;
+    private CategoryMySQLGateway categoryGateway;
+    private int page;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(WebServerConfig.class)
+            .web(WebApplicationType.NONE)
+            // Argumentos de linha de comando têm precedência sobre o application.yml
+            .run(
+                "--spring.datasource.url=" + System.getProperty("spring.datasource.url", "jdbc:h2:mem:adm_videos_bench;MODE=MYSQL;DATABASE_TO_LOWER=TRUE"),
+                "--spring.datasource.username=" + System.getProperty("spring.datasource.username", "username"),
+                "--spring.datasource.password=" + System.getProperty("spring.datasource.password", "password"),
+                // O H2 não aceita o fetch size negativo do application.yml, usado ao reconstruir os índices na inicialização
+                "--category.export.fetch-size=" + System.getProperty("category.export.fetch-size", "1000"),
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=warn"
+            );
+
+        categoryGateway = context.getBean(CategoryMySQLGateway.class);
+
+        populate(context.getBean(JdbcTemplate.class), new TransactionTemplate(context.getBean(PlatformTransactionManager.class)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void findAllEntities(final Blackhole blackhole) {
+        categoryGateway.findAll(query(true)).items().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void findAllSummaries(final Blackhole blackhole) {
+        categoryGateway.findAllSummaries(query(true)).items().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void findAllSummariesWithoutDescription(final Blackhole blackhole) {
+        categoryGateway.findAllSummaries(query(false)).items().forEach(blackhole::consume);
+    }
+
+    // Alterna entre as primeiras páginas para que o banco não devolva sempre o mesmo resultado em cache
+    private CategorySearchQuery query(final boolean includeDescription) {
+        page = (page + 1) % PAGES;
+        return CategorySearchQuery.builder(page, perPage, "", "name", "asc")
+            .includeDescription(includeDescription)
+            .build();
+    }
+
+    // O pool é configurado com auto-commit desligado, então cada lote é inserido na sua própria transação
+    private void populate(final JdbcTemplate jdbcTemplate, final TransactionTemplate transactionTemplate) {
+        final var existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category", Long.class);
+        final var description = "Descrição da categoria ".repeat(40);
+        final var descriptionSearch = SearchUtils.normalize(description);
+        final var now = Timestamp.from(Instant.now());
+
+        for (long i = existing; i < rows; i += BATCH_SIZE) {
+            final var batch = new ArrayList<Object[]>(BATCH_SIZE);
+
+            for (long j = i; j < Math.min(i + BATCH_SIZE, rows); j++)
+                batch.add(new Object[]{
+                    CategoryIds.toBinary(UUID.randomUUID().toString()), "Categoria " + j, "categoria " + j, description, descriptionSearch, true, now, now, null
+                });
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "INSERT INTO category (id, name, name_search, description, description_search, active, created_at, updated_at, deleted_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                batch
+            ));
+        }
+    }
+}
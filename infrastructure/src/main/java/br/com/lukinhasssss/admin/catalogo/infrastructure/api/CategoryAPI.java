@@ -1,19 +1,34 @@
 package br.com.lukinhasssss.admin.catalogo.infrastructure.api;
 
 import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing.CategoryImportFormat;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.BulkUpsertCategoryResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoriesByIdsResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryImportJobResponse;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryStatsResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategorySuggestResponse;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.UpsertCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -28,6 +43,53 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(value = "_bulk", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Create or update categories in bulk",
+        description = "An item with an id updates that category, or creates it with that id when it does not exist. "
+            + "Invalid items are reported without blocking the others, but the valid items are written all or nothing"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Processed successfully, each item reports its own result"),
+        @ApiResponse(responseCode = "422", description = "More items than allowed were received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<BulkUpsertCategoryResponse> bulkUpsertCategories(@RequestBody List<UpsertCategoryRequest> input);
+
+    @PostMapping(
+        value = "_import",
+        consumes = { APPLICATION_NDJSON_VALUE, CategoryImportFormat.TEXT_CSV_VALUE },
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Import categories from a NDJSON or CSV file in background")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import job accepted"),
+        @ApiResponse(responseCode = "415", description = "The file format is not supported"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<CategoryImportJobResponse> importCategories(
+        @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+        InputStream input
+    ) throws HttpMediaTypeNotSupportedException;
+
+    @GetMapping(value = "_import/{id}", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the status of an import job")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import job retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Import job was not found"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<CategoryImportJobResponse> getImportById(@PathVariable(name = "id") String id);
+
+    @GetMapping(params = "ids", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get several categories by their identifiers at once, e.g. ?ids=a,b,c")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Found categories and the identifiers that were not found"),
+        @ApiResponse(responseCode = "422", description = "More identifiers than allowed were received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CompletableFuture<CategoriesByIdsResponse> getByIds(@RequestParam(name = "ids") List<String> ids);
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
@@ -35,32 +97,70 @@ public interface CategoryAPI {
         @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    Pagination<CategoryListResponse> listCategories(
+    CompletableFuture<Pagination<CategoryListResponse>> listCategories(
         @RequestParam(name = "search", required = false, defaultValue = "") final String search,
         @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+        @RequestParam(name = "after", required = false) final String after,
+        @RequestParam(name = "includeDescription", required = false, defaultValue = "true") final boolean includeDescription,
+        @RequestParam(name = "fuzzy", required = false, defaultValue = "false") final boolean fuzzy,
+        @RequestParam(name = "withTotal", required = false, defaultValue = "true") final boolean withTotal
+    );
+
+    @GetMapping(value = "_suggest", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Suggest active categories whose name starts with the prefix, ignoring case and accents")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggested successfully"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<CategorySuggestResponse> suggestCategories(
+        @RequestParam(name = "prefix", required = false, defaultValue = "") final String prefix,
+        @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
+    );
+
+    @GetMapping(value = "_stats", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Count all categories, active and inactive")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Counted successfully"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    CompletableFuture<CategoryStatsResponse> getCategoryStats();
+
+    @GetMapping(value = "_export")
+    @Operation(summary = "Export all categories as NDJSON or CSV")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Exported successfully"),
+        @ApiResponse(responseCode = "422", description = "An invalid format was received"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories(
+        @RequestParam(name = "format", required = false, defaultValue = "ndjson") final String format
     );
 
     @GetMapping(value = "{id}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Category was not modified since the informed ETag"),
         @ApiResponse(responseCode = "404", description = "Category was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    CompletableFuture<ResponseEntity<CategoryResponse>> getById(@PathVariable(name = "id") String id);
 
     @PutMapping(value = "{id}", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Update a category by it's identifier")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Category updated successfully"),
         @ApiResponse(responseCode = "404", description = "Category was not found"),
+        @ApiResponse(responseCode = "412", description = "Category was modified since the informed ETag"),
+        @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     ResponseEntity<?> updateById(
         @PathVariable(name = "id") String id,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody UpdateCategoryRequest input
     );
 
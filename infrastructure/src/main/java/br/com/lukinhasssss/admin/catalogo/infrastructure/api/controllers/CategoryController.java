@@ -1,11 +1,18 @@
 package br.com.lukinhasssss.admin.catalogo.infrastructure.api.controllers;
 
+import br.com.lukinhasssss.admin.catalogo.application.category.bulk.BulkUpsertCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.bulk.UpsertCategoryCommand;
 import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryCommand;
 import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryOutput;
 import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
-import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
-import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.AsyncGetCategoriesByIdsUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats.AsyncGetCategoryStatsUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest.SuggestCategoriesCommand;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import br.com.lukinhasssss.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import br.com.lukinhasssss.admin.catalogo.application.category.update.UpdateCategoryUseCase;
@@ -13,39 +20,74 @@ import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
 import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
 import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.api.CategoryAPI;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.exporting.CategoryExportFormat;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing.CategoryImportFormat;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing.CategoryImportService;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.BulkUpsertCategoryResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoriesByIdsResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryImportJobResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryStatsResponse;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategorySuggestResponse;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.UpsertCategoryRequest;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 @RestController
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
-    private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final AsyncGetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final AsyncGetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
-    private final ListCategoriesUseCase listCategoriesUseCase;
+    private final AsyncListCategoriesUseCase listCategoriesUseCase;
+    private final BulkUpsertCategoriesUseCase bulkUpsertCategoriesUseCase;
+    private final CategoryImportService categoryImportService;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final SuggestCategoriesUseCase suggestCategoriesUseCase;
+    private final AsyncGetCategoryStatsUseCase getCategoryStatsUseCase;
 
     public CategoryController(
         CreateCategoryUseCase createCategoryUseCase,
-        GetCategoryByIdUseCase getCategoryByIdUseCase,
+        AsyncGetCategoryByIdUseCase getCategoryByIdUseCase,
+        AsyncGetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
         UpdateCategoryUseCase updateCategoryUseCase,
         DeleteCategoryUseCase deleteCategoryUseCase,
-        ListCategoriesUseCase listCategoriesUseCase
+        AsyncListCategoriesUseCase listCategoriesUseCase,
+        BulkUpsertCategoriesUseCase bulkUpsertCategoriesUseCase,
+        CategoryImportService categoryImportService,
+        ExportCategoriesUseCase exportCategoriesUseCase,
+        SuggestCategoriesUseCase suggestCategoriesUseCase,
+        AsyncGetCategoryStatsUseCase getCategoryStatsUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.bulkUpsertCategoriesUseCase = Objects.requireNonNull(bulkUpsertCategoriesUseCase);
+        this.categoryImportService = Objects.requireNonNull(categoryImportService);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.suggestCategoriesUseCase = Objects.requireNonNull(suggestCategoriesUseCase);
+        this.getCategoryStatsUseCase = Objects.requireNonNull(getCategoryStatsUseCase);
     }
 
     @Override
@@ -66,37 +108,119 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(
+    public List<BulkUpsertCategoryResponse> bulkUpsertCategories(final List<UpsertCategoryRequest> input) {
+        final var aCommands = input.stream()
+            .map(item -> UpsertCategoryCommand.with(
+                item.id(),
+                item.name(),
+                item.description(),
+                item.active() != null ? item.active() : true
+            ))
+            .toList();
+
+        final var results = bulkUpsertCategoriesUseCase.execute(aCommands);
+
+        return IntStream.range(0, results.size())
+            .mapToObj(index -> CategoryApiPresenter.present(index, results.get(index)))
+            .toList();
+    }
+
+    @Override
+    public ResponseEntity<CategoryImportJobResponse> importCategories(
+        final String contentType,
+        final InputStream input
+    ) throws HttpMediaTypeNotSupportedException {
+        final var aJob = categoryImportService.submit(CategoryImportFormat.of(contentType), input);
+
+        return ResponseEntity.accepted()
+            .location(URI.create("/categories/_import/" + aJob.getId()))
+            .body(CategoryApiPresenter.present(aJob));
+    }
+
+    @Override
+    public ResponseEntity<CategoryImportJobResponse> getImportById(final String id) {
+        return categoryImportService.findById(id)
+            .map(CategoryApiPresenter::present)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Override
+    public CompletableFuture<CategoriesByIdsResponse> getByIds(final List<String> ids) {
+        return getCategoriesByIdsUseCase.execute(ids).thenApply(CategoryApiPresenter::present);
+    }
+
+    @Override
+    public CompletableFuture<Pagination<CategoryListResponse>> listCategories(
         final String search,
         final int page,
         final int perPage,
         final String sort,
-        final String direction
+        final String direction,
+        final String after,
+        final boolean includeDescription,
+        final boolean fuzzy,
+        final boolean withTotal
     ) {
         return listCategoriesUseCase.execute(
-            new CategorySearchQuery(page, perPage, search, sort, direction)
-        ).map(CategoryApiPresenter::present);
+            CategorySearchQuery.builder(page, perPage, search, sort, direction)
+                .after(after)
+                .includeDescription(includeDescription)
+                .fuzzy(fuzzy)
+                .withTotal(withTotal)
+                .build()
+        ).thenApply(aPage -> aPage.map(CategoryApiPresenter::present));
+    }
+
+    @Override
+    public List<CategorySuggestResponse> suggestCategories(final String prefix, final int limit) {
+        return suggestCategoriesUseCase.execute(SuggestCategoriesCommand.with(prefix, limit)).stream()
+            .map(CategoryApiPresenter::present)
+            .toList();
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        var output = getCategoryByIdUseCase.execute(id);
-        return CategoryApiPresenter.present(output);
+    public CompletableFuture<CategoryStatsResponse> getCategoryStats() {
+        return getCategoryStatsUseCase.execute().thenApply(CategoryApiPresenter::present);
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<StreamingResponseBody> exportCategories(final String format) {
+        final var aFormat = CategoryExportFormat.of(format);
+
+        final StreamingResponseBody body = output -> {
+            aFormat.writeHeader(output);
+            exportCategoriesUseCase.execute(category -> aFormat.write(output, CategoryApiPresenter.present(category)));
+        };
+
+        return ResponseEntity.ok()
+            .contentType(aFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(aFormat.filename()).build().toString())
+            .body(body);
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<CategoryResponse>> getById(final String id) {
+        return getCategoryByIdUseCase.execute(id).thenApply(output -> ResponseEntity.ok()
+            .eTag(ETags.from(output.version()))
+            .body(CategoryApiPresenter.present(output)));
+    }
+
+    @Override
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
         final var aCommand = UpdateCategoryCommand.with(
             id,
             input.name(),
             input.description(),
-            input.active() != null ? input.active() : true
+            input.active() != null ? input.active() : true,
+            ETags.toVersion(ifMatch)
         );
 
         final Function<Notification, ResponseEntity<?>> onError = notification ->
             ResponseEntity.unprocessableEntity().body(notification);
 
-        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+            ResponseEntity.ok().eTag(ETags.from(output.version())).body(output);
 
         return updateCategoryUseCase.execute(aCommand).fold(onError, onSuccess);
     }
@@ -2,6 +2,7 @@ package br.com.lukinhasssss.admin.catalogo.infrastructure.api.controllers;
 
 import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
 import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.VersionConflictException;
 import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.util.List;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -19,6 +21,11 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = VersionConflictException.class)
+    public ResponseEntity<?> handlerVersionConflictException(final VersionConflictException ex) {
+        return ResponseEntity.status(PRECONDITION_FAILED).body(ApiError.from(ex));
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<?> handlerDomainException(final DomainException ex) {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
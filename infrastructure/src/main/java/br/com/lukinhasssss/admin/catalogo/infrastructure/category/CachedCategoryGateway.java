@@ -0,0 +1,225 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryStats;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySuggestion;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Decorator que guarda o resultado do findById em um cache local (Caffeine, política W-TinyLFU)
+ * limitado por tamanho e por tempo. Buscas por ids inexistentes também são guardadas, mas por menos tempo.
+ * Qualquer escrita passando por aqui invalida as categorias envolvidas; as demais operações vão direto para o gateway.
+ * Durante o replicaLag depois de uma invalidação a categoria é recarregada do master, para não guardar por todo o ttl
+ * uma versão antiga lida de uma réplica atrasada
+ */
+public class CachedCategoryGateway implements CategoryGateway, MeterBinder {
+
+    private final CategoryGateway categoryGateway;
+    private final Cache<CategoryID, Optional<Category>> cache;
+    private final Cache<CategoryID, Boolean> recentlyChanged;
+
+    public CachedCategoryGateway(
+        final CategoryGateway categoryGateway,
+        final long maximumSize,
+        final Duration ttl,
+        final Duration negativeTtl,
+        final Duration replicaLag
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(expiry(ttl, negativeTtl))
+            .recordStats()
+            .build();
+        this.recentlyChanged = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(replicaLag)
+            .build();
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        try {
+            return categoryGateway.create(aCategory);
+        } finally {
+            invalidate(List.of(aCategory.getId()));
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        try {
+            return categoryGateway.createAll(aCategories);
+        } finally {
+            invalidate(aCategories.stream().map(Category::getId).toList());
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        try {
+            categoryGateway.deleteById(anId);
+        } finally {
+            invalidate(List.of(anId));
+        }
+    }
+
+    /**
+     * O Category é mutável (o update altera a própria instância), então o cache nunca entrega
+     * a instância guardada, sempre uma cópia
+     */
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return cache.get(anId, this::load).map(Category::clone);
+    }
+
+    /**
+     * Mesmo cache do findById: apenas os ids que não estão nele vão para o gateway, todos em uma única consulta,
+     * e os que não existem ficam guardados pelo negative-ttl
+     */
+    @Override
+    public List<Category> findAllByIds(final Set<CategoryID> anIds) {
+        return cache.getAll(anIds, this::loadAll).values().stream()
+            .flatMap(Optional::stream)
+            .map(Category::clone)
+            .toList();
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        try {
+            return categoryGateway.update(aCategory);
+        } finally {
+            invalidate(List.of(aCategory.getId()));
+        }
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> aCategories) {
+        try {
+            return categoryGateway.updateAll(aCategories);
+        } finally {
+            invalidate(aCategories.stream().map(Category::getId).toList());
+        }
+    }
+
+    @Override
+    public void saveAll(final List<Category> toCreate, final List<Category> toUpdate) {
+        try {
+            categoryGateway.saveAll(toCreate, toUpdate);
+        } finally {
+            invalidate(Stream.concat(toCreate.stream(), toUpdate.stream()).map(Category::getId).toList());
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return categoryGateway.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return categoryGateway.findAllSummaries(aQuery);
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String aPrefix, final int aLimit) {
+        return categoryGateway.suggest(aPrefix, aLimit);
+    }
+
+    @Override
+    public CategoryStats countAll() {
+        return categoryGateway.countAll();
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        categoryGateway.streamAll(aConsumer);
+    }
+
+    /**
+     * Remove as categorias do cache local, utilizado quando a alteração aconteceu em outra instância
+     */
+    public void invalidateAll(final Collection<CategoryID> anIds) {
+        invalidate(anIds);
+    }
+
+    /**
+     * Publica hits, misses, evictions e o tamanho do cache como métricas cache.* com a tag cache=category
+     * (o Spring Boot chama o bindTo de todo MeterBinder registrado como bean)
+     */
+    @Override
+    public void bindTo(final MeterRegistry aRegistry) {
+        CaffeineCacheMetrics.monitor(aRegistry, cache, "category");
+    }
+
+    private void invalidate(final Collection<CategoryID> anIds) {
+        anIds.forEach(anId -> recentlyChanged.put(anId, true));
+        cache.invalidateAll(anIds);
+    }
+
+    private Optional<Category> load(final CategoryID anId) {
+        if (recentlyChanged.getIfPresent(anId) != null)
+            return DataSourceRouting.onPrimary(() -> categoryGateway.findById(anId));
+
+        return categoryGateway.findById(anId);
+    }
+
+    private Map<CategoryID, Optional<Category>> loadAll(final Iterable<? extends CategoryID> anIds) {
+        final Set<CategoryID> ids = new HashSet<>();
+        anIds.forEach(ids::add);
+
+        final var found = ids.stream().anyMatch(anId -> recentlyChanged.getIfPresent(anId) != null)
+            ? DataSourceRouting.onPrimary(() -> categoryGateway.findAllByIds(ids))
+            : categoryGateway.findAllByIds(ids);
+
+        final var categories = found.stream()
+            .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        return ids.stream()
+            .collect(Collectors.toMap(Function.identity(), anId -> Optional.ofNullable(categories.get(anId))));
+    }
+
+    private static Expiry<CategoryID, Optional<Category>> expiry(final Duration ttl, final Duration negativeTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(final CategoryID anId, final Optional<Category> aCategory, final long currentTime) {
+                return aCategory.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+            }
+
+            @Override
+            public long expireAfterUpdate(final CategoryID anId, final Optional<Category> aCategory, final long currentTime, final long currentDuration) {
+                return expireAfterCreate(anId, aCategory, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(final CategoryID anId, final Optional<Category> aCategory, final long currentTime, final long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryChangeRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Lê periodicamente o category_change_log (busca pelo índice de changed_at) e repassa para o onChange
+ * as categorias criadas, alteradas ou removidas por qualquer instância (invalidação do cache local e reindexação da busca).
+ * Assim cada instância fica desatualizada no máximo pelo intervalo do polling, sem precisar de um broker.
+ *
+ * Como uma transação pode confirmar depois de outra que gravou um changed_at maior, cada leitura
+ * volta OVERLAP no tempo e ignora os registros que já foram processados
+ */
+public class CategoryCacheInvalidationPoller {
+
+    private final CategoryChangeRepository categoryChangeRepository;
+    private final Consumer<Collection<CategoryID>> onChange;
+    private final Duration overlap;
+    private final Duration retention;
+    private final Map<Long, Instant> processed = new HashMap<>();
+    private Instant since;
+
+    public CategoryCacheInvalidationPoller(
+        final CategoryChangeRepository categoryChangeRepository,
+        final Consumer<Collection<CategoryID>> onChange,
+        final Duration overlap,
+        final Duration retention
+    ) {
+        this.categoryChangeRepository = Objects.requireNonNull(categoryChangeRepository);
+        this.onChange = Objects.requireNonNull(onChange);
+        this.overlap = Objects.requireNonNull(overlap);
+        this.retention = Objects.requireNonNull(retention);
+    }
+
+    @Scheduled(fixedDelayString = "${category.cache.invalidation.poll-interval}")
+    public synchronized void poll() {
+        // Na primeira execução o cache ainda está vazio e o índice acabou de ser construído, então apenas marcamos a partir de onde ler
+        if (since == null) {
+            since = categoryChangeRepository.findLastChangedAt().orElse(Instant.EPOCH);
+            return;
+        }
+
+        final var changes = categoryChangeRepository.findAllChangedAfter(since.minus(overlap));
+        final var ids = new HashSet<CategoryID>();
+
+        for (final var aChange : changes) {
+            if (processed.putIfAbsent(aChange.getId(), aChange.getChangedAt()) == null)
+                ids.add(CategoryID.from(aChange.getCategoryId()));
+
+            if (aChange.getChangedAt().isAfter(since))
+                since = aChange.getChangedAt();
+        }
+
+        if (!ids.isEmpty())
+            onChange.accept(ids);
+
+        final var limit = since.minus(overlap);
+        processed.values().removeIf(changedAt -> changedAt.isBefore(limit));
+    }
+
+    /**
+     * Os registros só precisam existir pelo tempo que uma instância pode ficar sem ler o log,
+     * qualquer instância pode fazer a limpeza
+     */
+    @Scheduled(fixedDelayString = "${category.cache.invalidation.cleanup-interval}")
+    public void cleanUp() {
+        categoryChangeRepository.findLastChangedAt()
+            .ifPresent(last -> categoryChangeRepository.deleteAllChangedBefore(last.minus(retention)));
+    }
+}
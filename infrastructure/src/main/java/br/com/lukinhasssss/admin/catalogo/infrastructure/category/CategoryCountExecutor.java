@@ -0,0 +1,71 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executa os COUNTs das listagens em paralelo com a query da página, cada um na sua thread e portanto na sua conexão,
+ * assim a latência da listagem fica próxima da maior das duas queries e não da soma delas.
+ * O pool é limitado (cada thread ocupa uma conexão do pool do banco) e não tem fila: com todas as threads ocupadas
+ * o COUNT roda na própria thread da requisição, como antes
+ */
+@Component
+public class CategoryCountExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+
+    public CategoryCountExecutor(@Value("${category.list.count-threads}") final int threads) {
+        final var counter = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            aRunnable -> {
+                final var aThread = new Thread(aRunnable, "category-count-" + counter.incrementAndGet());
+                aThread.setDaemon(true);
+                return aThread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Inicia a consulta com o mesmo roteamento (master ou réplica) da thread atual
+     *
+     * @return o resultado, aguardando a consulta terminar; as exceções são relançadas como foram lançadas
+     */
+    public <T> Supplier<T> submit(final Supplier<T> aQuery) {
+        final var aFuture = CompletableFuture.supplyAsync(DataSourceRouting.propagate(aQuery), executor);
+
+        return () -> {
+            try {
+                return aFuture.join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause)
+                    throw cause;
+
+                throw e;
+            }
+        };
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
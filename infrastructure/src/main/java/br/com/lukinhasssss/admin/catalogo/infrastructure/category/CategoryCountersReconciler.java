@@ -0,0 +1,74 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryCountersJpaEntity;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryCountersRepository;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+/**
+ * Corrige os contadores do category_counters que divergiram da tabela (escritas feitas fora do CategoryMySQLGateway,
+ * como um DELETE manual, ou linhas removidas). Todas as linhas são travadas antes dos COUNTs: as escritas aplicam os contadores
+ * antes de alterar a categoria (ou, na criação, depois de inserir sem confirmar), então nenhuma delas é contada duas vezes.
+ * A correção vai inteira para a primeira linha e as outras são zeradas. As escritas ficam bloqueadas durante os COUNTs,
+ * por isso o intervalo é longo
+ */
+public class CategoryCountersReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryCountersReconciler.class);
+
+    private final CategoryCountersRepository categoryCountersRepository;
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public CategoryCountersReconciler(
+        final CategoryCountersRepository categoryCountersRepository,
+        final CategoryRepository categoryRepository,
+        final TransactionTemplate transactionTemplate
+    ) {
+        this.categoryCountersRepository = Objects.requireNonNull(categoryCountersRepository);
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+    }
+
+    /**
+     * @return se os contadores estavam divergentes
+     */
+    @Scheduled(
+        initialDelayString = "${category.counters.reconcile-interval}",
+        fixedDelayString = "${category.counters.reconcile-interval}"
+    )
+    public boolean reconcile() {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            categoryCountersRepository.insertIfMissing();
+
+            final var slots = categoryCountersRepository.findAllForUpdate();
+            final var currentTotal = slots.stream().mapToLong(CategoryCountersJpaEntity::getTotalCount).sum();
+            final var currentActive = slots.stream().mapToLong(CategoryCountersJpaEntity::getActiveCount).sum();
+            final var total = categoryRepository.count();
+            final var active = categoryRepository.countByActive(true);
+
+            if (currentTotal == total && currentActive == active)
+                return false;
+
+            log.warn(
+                "Category counters drifted (total {} -> {}, active {} -> {}), fixing them",
+                currentTotal, total, currentActive, active
+            );
+
+            slots.forEach(slot -> {
+                slot.setTotalCount(0);
+                slot.setActiveCount(0);
+            });
+
+            slots.get(0).setTotalCount(total);
+            slots.get(0).setActiveCount(active);
+
+            return true;
+        }));
+    }
+}
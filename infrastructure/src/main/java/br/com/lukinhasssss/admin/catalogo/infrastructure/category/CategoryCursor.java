@@ -0,0 +1,110 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategorySummaryProjection;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SearchUtils;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SpecificationUtils;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Token opaco da paginação por cursor: guarda o par (coluna de ordenação, id) da última linha entregue
+ */
+record CategoryCursor(String sort, String id, String value) {
+
+    private static final Set<String> SEEKABLE_PROPERTIES = Set.of("name", "createdAt", "updatedAt");
+    private static final String SEPARATOR = "\n";
+
+    static boolean supports(final String sort) {
+        return SEEKABLE_PROPERTIES.contains(sort);
+    }
+
+    /**
+     * O name é ordenado pelo name_search, a mesma chave do índice de busca (CategorySearchIndex),
+     * então as listagens do banco e do índice saem na mesma ordem.
+     * O banco não calcula relevância: enquanto o índice não está pronto o relevance também cai no name_search
+     */
+    static String propertyOf(final String sort) {
+        return "name".equals(sort) || CategorySearchQuery.RELEVANCE.equals(sort) ? "nameSearch" : sort;
+    }
+
+    static CategoryCursor of(final String sort, final CategoryJpaEntity anEntity) {
+        return of(sort, anEntity.getId(), anEntity.getName(), anEntity.getCreatedAt(), anEntity.getUpdatedAt());
+    }
+
+    static CategoryCursor of(final String sort, final CategorySummaryProjection aRow) {
+        return of(sort, aRow.id(), aRow.name(), aRow.createdAt(), aRow.updatedAt());
+    }
+
+    private static CategoryCursor of(
+        final String sort,
+        final String id,
+        final String name,
+        final Instant createdAt,
+        final Instant updatedAt
+    ) {
+        final var aValue = switch (sort) {
+            case "name" -> SearchUtils.normalize(name);
+            case "createdAt" -> createdAt.toString();
+            case "updatedAt" -> updatedAt.toString();
+            default -> throw unsupported(sort);
+        };
+
+        return new CategoryCursor(sort, id, aValue);
+    }
+
+    /**
+     * Não valida se a ordenação tem cursor no banco: o índice de busca também atende o relevance (ver SearchIndexedCategoryGateway)
+     */
+    static CategoryCursor decode(final String aToken, final String expectedSort) {
+        final String[] parts;
+
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(aToken), UTF_8).split(SEPARATOR, 3);
+        } catch (final IllegalArgumentException ex) {
+            throw invalid();
+        }
+
+        if (parts.length != 3 || !parts[0].equals(expectedSort))
+            throw invalid();
+
+        return new CategoryCursor(parts[0], parts[1], parts[2]);
+    }
+
+    String encode() {
+        final var aRawToken = String.join(SEPARATOR, sort, id, value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(aRawToken.getBytes(UTF_8));
+    }
+
+    <T> Specification<T> toSpecification(final Direction direction) {
+        if (!supports(sort))
+            throw unsupported(sort);
+
+        if ("name".equals(sort))
+            return SpecificationUtils.after(propertyOf(sort), value, id, direction);
+
+        try {
+            return SpecificationUtils.after(sort, Instant.parse(value), id, direction);
+        } catch (final DateTimeParseException ex) {
+            throw invalid();
+        }
+    }
+
+    static DomainException invalid() {
+        return DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+
+    private static DomainException unsupported(final String sort) {
+        return DomainException.with(new Error("'%s' does not support cursor pagination".formatted(sort)));
+    }
+}
@@ -4,38 +4,93 @@ import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryStats;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySuggestion;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.VersionConflictException;
 import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryChangeRepository;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryCountersRepository;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategorySummaryProjection;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SearchUtils;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SpecificationUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Service
 public class CategoryMySQLGateway implements CategoryGateway {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryChangeRepository categoryChangeRepository;
+    private final CategoryCountersRepository categoryCountersRepository;
+    private final CategoryCountExecutor countExecutor;
 
-    public CategoryMySQLGateway(final CategoryRepository categoryRepository) {
+    public CategoryMySQLGateway(
+        final CategoryRepository categoryRepository,
+        final CategoryChangeRepository categoryChangeRepository,
+        final CategoryCountersRepository categoryCountersRepository,
+        final CategoryCountExecutor countExecutor
+    ) {
         this.categoryRepository = categoryRepository;
+        this.categoryChangeRepository = categoryChangeRepository;
+        this.categoryCountersRepository = categoryCountersRepository;
+        this.countExecutor = countExecutor;
     }
 
+    /**
+     * Toda escrita também é registrada no category_change_log, na mesma transação, para que as outras
+     * instâncias invalidem os seus caches e atualizem o índice de busca (ver CategoryCacheInvalidationPoller),
+     * e atualiza os contadores do category_counters
+     */
     @Override
+    @Transactional
     public Category create(Category aCategory) {
-        return save(aCategory);
+        final var created = save(aCategory);
+        categoryChangeRepository.logChanges(List.of(created.getId().getValue()));
+        categoryCountersRepository.increment(1, created.isActive() ? 1 : 0);
+        return created;
     }
 
+    /**
+     * Os INSERTs são agrupados em batch pelo hibernate (hibernate.jdbc.batch_size) e reescritos
+     * pelo driver do MySQL em um único INSERT com várias linhas (rewriteBatchedStatements)
+     */
     @Override
-    public void deleteById(final CategoryID anId) {
-        final var AnIdValue = anId.getValue();
+    @Transactional
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var entities = aCategories.stream().map(CategoryJpaEntity::from).toList();
+
+        final var created = categoryRepository.saveAll(entities).stream()
+            .map(CategoryJpaEntity::toAggregate)
+            .toList();
+
+        categoryChangeRepository.logChanges(entities.stream().map(CategoryJpaEntity::getId).toList());
+        categoryCountersRepository.increment(created.size(), created.stream().filter(Category::isActive).count());
 
-        if (categoryRepository.existsById(AnIdValue))
-            categoryRepository.deleteById(AnIdValue);
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final CategoryID anId) {
+        categoryChangeRepository.logChanges(List.of(anId.getValue()));
+        categoryCountersRepository.applyDeletions(List.of(anId.getValue()));
+        categoryRepository.deleteCategoryById(anId.getValue());
     }
 
     @Override
@@ -45,39 +100,301 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     @Override
+    public List<Category> findAllByIds(final Set<CategoryID> anIds) {
+        final var ids = anIds.stream().map(CategoryID::getValue).toList();
+
+        return categoryRepository.findAllById(ids).stream()
+            .map(CategoryJpaEntity::toAggregate)
+            .toList();
+    }
+
+    /**
+     * Devolve o aggregate recebido com a versão incrementada, sem ler a linha de volta: o createdAt e o deletedAt
+     * são os recebidos, que no PUT com If-Match não são os do banco (ver SearchIndexedCategoryGateway.update)
+     */
+    @Override
+    @Transactional
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        final var anId = aCategory.getId();
+
+        applyStatusChanges(List.of(aCategory));
+
+        if (categoryRepository.update(CategoryJpaEntity.from(aCategory)) == 0)
+            throw categoryRepository.existsById(anId.getValue())
+                ? VersionConflictException.with(Category.class, anId, aCategory.getVersion())
+                : NotFoundException.with(Category.class, anId);
+
+        categoryChangeRepository.logChanges(List.of(anId.getValue()));
+
+        return Category.with(
+            anId,
+            aCategory.getName(),
+            aCategory.getDescription(),
+            aCategory.isActive(),
+            aCategory.getCreatedAt(),
+            aCategory.getUpdatedAt(),
+            aCategory.getDeletedAt(),
+            aCategory.getVersion() + 1
+        );
+    }
+
+    @Override
+    @Transactional
+    public List<Category> updateAll(final List<Category> aCategories) {
+        final var entities = aCategories.stream().map(CategoryJpaEntity::from).toList();
+
+        applyStatusChanges(aCategories);
+
+        final var updated = categoryRepository.updateAll(entities).stream()
+            .map(CategoryJpaEntity::toAggregate)
+            .toList();
+
+        categoryChangeRepository.logChanges(entities.stream().map(CategoryJpaEntity::getId).toList());
+
+        return updated;
+    }
+
+    /**
+     * O createAll e o updateAll participam desta transação, então uma falha em qualquer um dos grupos
+     * desfaz os dois (ver DefaultBulkUpsertCategoriesUseCase)
+     */
+    @Override
+    @Transactional
+    public void saveAll(final List<Category> toCreate, final List<Category> toUpdate) {
+        if (!toCreate.isEmpty())
+            createAll(toCreate);
+
+        if (!toUpdate.isEmpty())
+            updateAll(toUpdate);
     }
 
     /**
      * Paginação
      * Busca dinãmica pelo critério terms (name ou description)
+     * Quando o cursor (after) é informado, a busca é feita por keyset (seek) ao invés de OFFSET, sem o COUNT
+     * (ver CategorySearchQuery.countsTotal). Sem o withTotal o COUNT também não é executado; com ele, o COUNT das buscas
+     * por terms roda em paralelo com a query da página (ver totalOf)
      */
     @Override
     public Pagination<Category> findAll(CategorySearchQuery aQuery) {
-        final var page = PageRequest.of(
+        final var direction = Direction.fromString(aQuery.direction());
+        final var sort = sortOf(aQuery.sort(), direction);
+        final var whereClause = whereClauseOf(aQuery.terms());
+
+        if (aQuery.isCursor())
+            return findAllAfter(aQuery, whereClause, sort, direction);
+
+        if (!aQuery.countsTotal()) {
+            // Buscamos um item a mais apenas para saber se existe uma próxima página
+            final var result = categoryRepository.findAll(whereClause, sort, aQuery.offset(), aQuery.perPage() + 1);
+            final var hasNext = result.size() > aQuery.perPage();
+            final var items = hasNext ? result.subList(0, aQuery.perPage()) : result;
+
+            return Pagination.withoutTotal(
+                aQuery.page(),
+                aQuery.perPage(),
+                items,
+                hasNext ? nextCursor(aQuery.sort(), items) : null,
+                hasNext
+            ).map(CategoryJpaEntity::toAggregate);
+        }
+
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), sort);
+        final var total = totalOf(aQuery, whereClause);
+
+        final var items = categoryRepository.findAll(whereClause, sort, (int) page.getOffset(), aQuery.perPage());
+
+        final var pageResult = PageableExecutionUtils.getPage(items, page, total::get);
+
+        final var nextCursor = pageResult.hasNext()
+            ? nextCursor(aQuery.sort(), items)
+            : null;
+
+        return new Pagination<>(
             aQuery.page(),
             aQuery.perPage(),
-            Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
+            pageResult.getTotalElements(),
+            items,
+            nextCursor
+        ).map(CategoryJpaEntity::toAggregate);
+    }
+
+    /**
+     * Mesma busca do findAll, mas projetando apenas as colunas da listagem (ver CategorySummaryRepository)
+     */
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        final var direction = Direction.fromString(aQuery.direction());
+        final var sort = sortOf(aQuery.sort(), direction);
+        final var whereClause = whereClauseOf(aQuery.terms());
+        final var perPage = aQuery.perPage();
+
+        if (aQuery.isCursor()) {
+            final var afterClause = whereClause.and(CategoryCursor.decode(aQuery.after(), aQuery.sort()).toSpecification(direction));
+
+            // Buscamos um item a mais apenas para saber se existe uma próxima página
+            final var result = categoryRepository.findAllSummaries(afterClause, sort, 0, perPage + 1, aQuery.includeDescription());
+
+            final var hasNext = result.size() > perPage;
+            final var items = hasNext ? result.subList(0, perPage) : result;
+
+            return Pagination.withoutTotal(aQuery.page(), perPage, items, hasNext ? nextSummaryCursor(aQuery.sort(), items) : null, hasNext)
+                .map(CategorySummaryProjection::toSummary);
+        }
+
+        final var page = PageRequest.of(aQuery.page(), perPage, sort);
+
+        if (!aQuery.countsTotal()) {
+            final var result = categoryRepository.findAllSummaries(
+                whereClause, sort, aQuery.offset(), perPage + 1, aQuery.includeDescription()
+            );
+
+            final var hasNext = result.size() > perPage;
+            final var items = hasNext ? result.subList(0, perPage) : result;
+
+            return Pagination.withoutTotal(
+                aQuery.page(),
+                perPage,
+                items,
+                hasNext ? nextSummaryCursor(aQuery.sort(), items) : null,
+                hasNext
+            ).map(CategorySummaryProjection::toSummary);
+        }
+
+        final var total = totalOf(aQuery, whereClause);
+
+        final var items = categoryRepository.findAllSummaries(
+            whereClause, sort, (int) page.getOffset(), perPage, aQuery.includeDescription()
         );
 
-        final var specifications = Optional.ofNullable(aQuery.terms())
+        // Assim como no Page, o total só é aguardado quando não dá para deduzi-lo pela própria página
+        final var pageResult = PageableExecutionUtils.getPage(items, page, total::get);
+
+        return new Pagination<>(
+            aQuery.page(),
+            perPage,
+            pageResult.getTotalElements(),
+            items,
+            pageResult.hasNext() ? nextSummaryCursor(aQuery.sort(), items) : null
+        ).map(CategorySummaryProjection::toSummary);
+    }
+
+    /**
+     * Prefixo no name_search, que vira um range scan no idx_category_name_search.
+     * Em produção o suggest é atendido pelo trie do NameIndexedCategoryGateway, isso é só o fallback
+     */
+    @Override
+    public List<CategorySuggestion> suggest(final String aPrefix, final int aLimit) {
+        final var page = PageRequest.of(0, aLimit, Sort.by("nameSearch", "id"));
+
+        final var anEscapedPrefix = SearchUtils.normalize(aPrefix).replaceAll("[!%_]", "!$0");
+
+        return categoryRepository.findAllByActiveAndNameSearchPrefix(true, anEscapedPrefix, page).stream()
+            .map(anEntity -> new CategorySuggestion(CategoryID.from(anEntity.getId()), anEntity.getName()))
+            .toList();
+    }
+
+    @Override
+    public CategoryStats countAll() {
+        return categoryCountersRepository.findStats()
+            .orElseGet(() -> {
+                final var total = categoryRepository.count();
+                final var active = categoryRepository.countByActive(true);
+                return new CategoryStats(total, active, total - active);
+            });
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        categoryRepository.streamAll(anEntity -> aConsumer.accept(anEntity.toAggregate()));
+    }
+
+    private Pagination<Category> findAllAfter(
+        final CategorySearchQuery aQuery,
+        final Specification<CategoryJpaEntity> whereClause,
+        final Sort sort,
+        final Direction direction
+    ) {
+        final var afterClause = whereClause.and(CategoryCursor.decode(aQuery.after(), aQuery.sort()).toSpecification(direction));
+        final var perPage = aQuery.perPage();
+
+        // Buscamos um item a mais apenas para saber se existe uma próxima página
+        final var result = categoryRepository.findAll(afterClause, sort, perPage + 1);
+
+        final var hasNext = result.size() > perPage;
+        final var items = hasNext ? result.subList(0, perPage) : result;
+
+        return Pagination.withoutTotal(aQuery.page(), perPage, items, hasNext ? nextCursor(aQuery.sort(), items) : null, hasNext)
+            .map(CategoryJpaEntity::toAggregate);
+    }
+
+    /**
+     * Deve ser chamado antes da query da página: o COUNT das buscas por terms já começa a rodar em outra conexão
+     * (ver CategoryCountExecutor), mesmo que a página acabe dispensando o total.
+     * Sem terms o total é a soma das poucas linhas do category_counters, que não compensa uma conexão a mais, e dentro
+     * de uma transação o COUNT precisa rodar na mesma conexão para enxergar o que ela ainda não confirmou
+     */
+    private Supplier<Long> totalOf(final CategorySearchQuery aQuery, final Specification<CategoryJpaEntity> whereClause) {
+        if (!aQuery.countsTotal() || isUnfiltered(aQuery) || TransactionSynchronizationManager.isActualTransactionActive())
+            return () -> countOf(aQuery, whereClause);
+
+        return countExecutor.submit(() -> categoryRepository.count(whereClause));
+    }
+
+    /**
+     * Sem terms o total vem do category_counters ao invés de um COUNT na tabela inteira;
+     * o COUNT só é executado se as linhas dos contadores não existirem (elas são recriadas pelo CategoryCountersReconciler)
+     */
+    private long countOf(final CategorySearchQuery aQuery, final Specification<CategoryJpaEntity> whereClause) {
+        if (isUnfiltered(aQuery))
+            return categoryCountersRepository.findTotalCount().orElseGet(categoryRepository::count);
+
+        return categoryRepository.count(whereClause);
+    }
+
+    private static boolean isUnfiltered(final CategorySearchQuery aQuery) {
+        return aQuery.terms() == null || aQuery.terms().isBlank();
+    }
+
+    /**
+     * Precisa ser executado antes do UPDATE, enquanto as linhas ainda têm o active anterior
+     */
+    private void applyStatusChanges(final List<Category> aCategories) {
+        final var activated = aCategories.stream().filter(Category::isActive).map(aCategory -> aCategory.getId().getValue()).toList();
+        final var deactivated = aCategories.stream().filter(aCategory -> !aCategory.isActive()).map(aCategory -> aCategory.getId().getValue()).toList();
+
+        categoryCountersRepository.applyStatusChanges(activated, deactivated);
+    }
+
+    private static Sort sortOf(final String sort, final Direction direction) {
+        return Sort.by(direction, CategoryCursor.propertyOf(sort)).and(Sort.by(direction, "id"));
+    }
+
+    private static Specification<CategoryJpaEntity> whereClauseOf(final String terms) {
+        final var specifications = Optional.ofNullable(terms)
             .filter(str -> !str.isBlank())
             .map(str -> {
-                final Specification<CategoryJpaEntity> nameLike = SpecificationUtils.like("name", str);
-                final Specification<CategoryJpaEntity> descriptionLike = SpecificationUtils.like("description", str);
+                final Specification<CategoryJpaEntity> nameLike = SpecificationUtils.normalizedLike("nameSearch", str);
+                final Specification<CategoryJpaEntity> descriptionLike = SpecificationUtils.normalizedLike("descriptionSearch", str);
                 return nameLike.or(descriptionLike);
             })
             .orElse(null);
 
-        final var pageResult = categoryRepository.findAll(Specification.where(specifications), page);
+        return Specification.where(specifications);
+    }
+
+    private static String nextSummaryCursor(final String sort, final List<CategorySummaryProjection> items) {
+        if (items.isEmpty() || !CategoryCursor.supports(sort))
+            return null;
 
-        return new Pagination<>(
-            pageResult.getNumber(),
-            pageResult.getSize(),
-            pageResult.getTotalElements(),
-            pageResult.map(CategoryJpaEntity::toAggregate).toList()
-        );
+        return CategoryCursor.of(sort, items.get(items.size() - 1)).encode();
+    }
+
+    private static String nextCursor(final String sort, final List<CategoryJpaEntity> items) {
+        if (items.isEmpty() || !CategoryCursor.supports(sort))
+            return null;
+
+        return CategoryCursor.of(sort, items.get(items.size() - 1)).encode();
     }
 
     private Category save(final Category aCategory) {
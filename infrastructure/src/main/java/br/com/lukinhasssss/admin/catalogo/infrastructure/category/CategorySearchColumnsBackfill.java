@@ -0,0 +1,64 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SearchUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+/**
+ * Preenche o name_search e o description_search das categorias gravadas antes da V4. A normalização precisa ser
+ * a mesma da escrita (SearchUtils), por isso é feita aqui e não em SQL na migration.
+ * Cada lote roda na sua própria transação, então o backfill pode ser interrompido e continuado depois
+ */
+public class CategorySearchColumnsBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySearchColumnsBackfill.class);
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public CategorySearchColumnsBackfill(
+        final CategoryRepository categoryRepository,
+        final TransactionTemplate transactionTemplate,
+        final int batchSize
+    ) {
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.transactionTemplate = Objects.requireNonNull(transactionTemplate);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return a quantidade de categorias preenchidas
+     */
+    public long run() {
+        var total = 0L;
+        int updated;
+
+        do {
+            updated = Objects.requireNonNull(transactionTemplate.execute(status -> backfillBatch()));
+            total += updated;
+        } while (updated == batchSize);
+
+        if (total > 0)
+            log.info("Backfilled the search columns of {} categories", total);
+
+        return total;
+    }
+
+    private int backfillBatch() {
+        final var categories = categoryRepository.findByNameSearchIsNull(PageRequest.ofSize(batchSize));
+
+        categories.forEach(aCategory -> categoryRepository.updateSearchColumns(
+            aCategory.getId(),
+            SearchUtils.normalize(aCategory.getName()),
+            SearchUtils.normalize(aCategory.getDescription())
+        ));
+
+        return categories.size();
+    }
+}
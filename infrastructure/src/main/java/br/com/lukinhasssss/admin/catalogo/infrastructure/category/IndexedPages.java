@@ -0,0 +1,60 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Páginas das buscas atendidas por um índice (Lucene ou trigramas): o índice devolve os ids já ordenados
+ * e paginados, e as categorias são carregadas com um único SELECT ... IN.
+ * O índice sempre sabe o total e se existe uma próxima página, então o countsTotal não muda a busca, apenas a resposta
+ */
+final class IndexedPages {
+
+    private IndexedPages() {}
+
+    static <T> Pagination<T> hydrate(
+        final CategoryGateway aGateway,
+        final CategorySearchQuery aQuery,
+        final List<CategoryID> anIds,
+        final long total,
+        final boolean hasNext,
+        final String nextCursor,
+        final Function<Category, T> mapper
+    ) {
+        final var categories = aGateway.findAllByIds(new HashSet<>(anIds)).stream()
+            .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        // Mantém a ordem do índice; um id removido entre a busca e o SELECT simplesmente não aparece
+        final var items = anIds.stream()
+            .map(categories::get)
+            .filter(Objects::nonNull)
+            .map(mapper)
+            .toList();
+
+        if (!aQuery.countsTotal())
+            return Pagination.withoutTotal(aQuery.page(), aQuery.perPage(), items, nextCursor, hasNext);
+
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), total, items, nextCursor);
+    }
+
+    static CategorySummary toSummary(final Category aCategory, final boolean includeDescription) {
+        return new CategorySummary(
+            aCategory.getId(),
+            aCategory.getName(),
+            includeDescription ? aCategory.getDescription() : null,
+            aCategory.isActive(),
+            aCategory.getCreatedAt(),
+            aCategory.getDeletedAt()
+        );
+    }
+}
@@ -0,0 +1,203 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryStats;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySuggestion;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.fuzzy.CategoryTrigramIndex;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.suggest.CategorySuggestIndex;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Decorator que mantém os índices em memória dos names sincronizados com as escritas: o trie do suggest
+ * (CategorySuggestIndex) e os trigramas da busca fuzzy (CategoryTrigramIndex), ambos respondidos sem ir ao banco
+ * (a busca fuzzy só carrega as categorias da página, ver IndexedPages).
+ * Enquanto os índices ainda não foram construídos as consultas vão para o gateway: o suggest vira um
+ * LIKE 'prefixo%' no name_search e a busca fuzzy vira a busca comum
+ */
+public class NameIndexedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway categoryGateway;
+    private final CategorySuggestIndex suggestIndex;
+    private final CategoryTrigramIndex trigramIndex;
+    private final Set<CategoryID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+
+    public NameIndexedCategoryGateway(
+        final CategoryGateway categoryGateway,
+        final CategorySuggestIndex suggestIndex,
+        final CategoryTrigramIndex trigramIndex
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.suggestIndex = Objects.requireNonNull(suggestIndex);
+        this.trigramIndex = Objects.requireNonNull(trigramIndex);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = categoryGateway.create(aCategory);
+        index(List.of(created));
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = categoryGateway.createAll(aCategories);
+        index(created);
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        categoryGateway.deleteById(anId);
+        markChanged(List.of(anId));
+        suggestIndex.delete(List.of(anId));
+        trigramIndex.delete(List.of(anId));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return categoryGateway.findById(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Set<CategoryID> anIds) {
+        return categoryGateway.findAllByIds(anIds);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var updated = categoryGateway.update(aCategory);
+        index(List.of(updated));
+        return updated;
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> aCategories) {
+        final var updated = categoryGateway.updateAll(aCategories);
+        index(updated);
+        return updated;
+    }
+
+    @Override
+    public void saveAll(final List<Category> toCreate, final List<Category> toUpdate) {
+        categoryGateway.saveAll(toCreate, toUpdate);
+        index(Stream.concat(toCreate.stream(), toUpdate.stream()).toList());
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        if (!ready || !aQuery.isFuzzy())
+            return categoryGateway.findAll(aQuery);
+
+        final var aResult = fuzzySearch(aQuery);
+        final var hasNext = aQuery.offset() + aResult.ids().size() < aResult.total();
+
+        // O fuzzy ignora o after, então não devolve cursor
+        return IndexedPages.hydrate(categoryGateway, aQuery, aResult.ids(), aResult.total(), hasNext, null, Function.identity());
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        if (!ready || !aQuery.isFuzzy())
+            return categoryGateway.findAllSummaries(aQuery);
+
+        final var aResult = fuzzySearch(aQuery);
+        final var hasNext = aQuery.offset() + aResult.ids().size() < aResult.total();
+
+        return IndexedPages.hydrate(
+            categoryGateway, aQuery, aResult.ids(), aResult.total(), hasNext, null, aCategory -> IndexedPages.toSummary(aCategory, aQuery.includeDescription())
+        );
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String aPrefix, final int aLimit) {
+        if (!ready)
+            return categoryGateway.suggest(aPrefix, aLimit);
+
+        return suggestIndex.suggest(aPrefix, aLimit);
+    }
+
+    @Override
+    public CategoryStats countAll() {
+        return categoryGateway.countAll();
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        categoryGateway.streamAll(aConsumer);
+    }
+
+    /**
+     * Reconstrói os índices a partir do banco; as categorias alteradas durante a reconstrução são recarregadas no final,
+     * já que o stream pode ter lido uma versão anterior
+     */
+    public synchronized void rebuild() {
+        ready = false;
+        rebuilding = true;
+        changedDuringRebuild.clear();
+
+        try {
+            suggestIndex.clear();
+            trigramIndex.clear();
+
+            categoryGateway.streamAll(aCategory -> {
+                suggestIndex.index(List.of(aCategory));
+                trigramIndex.index(List.of(aCategory));
+            });
+        } finally {
+            rebuilding = false;
+        }
+
+        reindex(Set.copyOf(changedDuringRebuild));
+        ready = true;
+    }
+
+    /**
+     * Atualiza nos índices as categorias alteradas, utilizado quando a escrita aconteceu em outra instância
+     */
+    public void reindex(final Collection<CategoryID> anIds) {
+        if (anIds.isEmpty())
+            return;
+
+        final var categories = categoryGateway.findAllByIds(new HashSet<>(anIds));
+        final var found = categories.stream().map(Category::getId).collect(Collectors.toSet());
+        final var removed = anIds.stream().filter(anId -> !found.contains(anId)).toList();
+
+        suggestIndex.index(categories);
+        suggestIndex.delete(removed);
+        trigramIndex.index(categories);
+        trigramIndex.delete(removed);
+    }
+
+    private CategoryTrigramIndex.SearchResult fuzzySearch(final CategorySearchQuery aQuery) {
+        return trigramIndex.search(aQuery.terms(), aQuery.offset(), aQuery.perPage());
+    }
+
+    private void index(final List<Category> aCategories) {
+        markChanged(aCategories.stream().map(Category::getId).toList());
+        suggestIndex.index(aCategories);
+        trigramIndex.index(aCategories);
+    }
+
+    private void markChanged(final Collection<CategoryID> anIds) {
+        if (rebuilding)
+            changedDuringRebuild.addAll(anIds);
+    }
+}
@@ -0,0 +1,236 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryStats;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySuggestion;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.search.CategorySearchIndex.Position;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.search.CategorySearchIndex.SearchResult;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort.Direction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Decorator que mantém o CategorySearchIndex sincronizado com as escritas e o utiliza nas buscas com terms
+ * (ver IndexedPages).
+ * A busca volta para o LIKE do gateway quando o índice ainda não foi construído ou quando a ordenação não existe no índice.
+ * As buscas por cursor (after) também são atendidas pelo índice, com o mesmo CategoryCursor do banco, então uma
+ * paginação começada no índice continua nele (e continua no banco, na mesma ordem, enquanto o índice é reconstruído).
+ *
+ * Uma falha ao atualizar o índice não desfaz a escrita já confirmada no banco: como toda escrita também vai para o
+ * category_change_log, o CategoryCacheInvalidationPoller reindexa a categoria logo em seguida (ver {@link #reindex})
+ */
+public class SearchIndexedCategoryGateway implements CategoryGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexedCategoryGateway.class);
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final CategoryGateway categoryGateway;
+    private final CategorySearchIndex searchIndex;
+    private final Set<CategoryID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+
+    public SearchIndexedCategoryGateway(final CategoryGateway categoryGateway, final CategorySearchIndex searchIndex) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = categoryGateway.create(aCategory);
+        index(List.of(created));
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = categoryGateway.createAll(aCategories);
+        index(created);
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        categoryGateway.deleteById(anId);
+        tryUpdateIndex(List.of(anId), () -> searchIndex.delete(List.of(anId)));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return categoryGateway.findById(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Set<CategoryID> anIds) {
+        return categoryGateway.findAllByIds(anIds);
+    }
+
+    /**
+     * No PUT com If-Match a categoria não é lida antes do UPDATE (ver DefaultUpdateCategoryUseCase.expected), então o
+     * createdAt do aggregate devolvido não é o do banco: o índice é atualizado a partir da linha lida do master
+     */
+    @Override
+    public Category update(final Category aCategory) {
+        final var updated = categoryGateway.update(aCategory);
+        final var ids = List.of(updated.getId());
+
+        tryUpdateIndex(ids, () -> DataSourceRouting.onPrimary(() -> {
+            reindex(ids);
+            return null;
+        }));
+
+        return updated;
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> aCategories) {
+        final var updated = categoryGateway.updateAll(aCategories);
+        index(updated);
+        return updated;
+    }
+
+    @Override
+    public void saveAll(final List<Category> toCreate, final List<Category> toUpdate) {
+        categoryGateway.saveAll(toCreate, toUpdate);
+        index(Stream.concat(toCreate.stream(), toUpdate.stream()).toList());
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return search(aQuery)
+            .map(aResult -> hydrate(aQuery, aResult, Function.identity()))
+            .orElseGet(() -> categoryGateway.findAll(aQuery));
+    }
+
+    @Override
+    public Pagination<CategorySummary> findAllSummaries(final CategorySearchQuery aQuery) {
+        return search(aQuery)
+            .map(aResult -> hydrate(aQuery, aResult, aCategory -> IndexedPages.toSummary(aCategory, aQuery.includeDescription())))
+            .orElseGet(() -> categoryGateway.findAllSummaries(aQuery));
+    }
+
+    @Override
+    public List<CategorySuggestion> suggest(final String aPrefix, final int aLimit) {
+        return categoryGateway.suggest(aPrefix, aLimit);
+    }
+
+    @Override
+    public CategoryStats countAll() {
+        return categoryGateway.countAll();
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> aConsumer) {
+        categoryGateway.streamAll(aConsumer);
+    }
+
+    /**
+     * Reconstrói o índice inteiro a partir do banco. Enquanto isso as buscas usam o LIKE, e as categorias
+     * alteradas durante a reconstrução são reindexadas no final, já que o stream pode ter lido uma versão anterior
+     */
+    public synchronized void rebuild() {
+        ready = false;
+        rebuilding = true;
+        changedDuringRebuild.clear();
+
+        try {
+            searchIndex.deleteAll();
+
+            final var batch = new ArrayList<Category>(REBUILD_BATCH_SIZE);
+
+            categoryGateway.streamAll(aCategory -> {
+                batch.add(aCategory);
+
+                if (batch.size() == REBUILD_BATCH_SIZE) {
+                    searchIndex.index(batch);
+                    batch.clear();
+                }
+            });
+
+            searchIndex.index(batch);
+        } finally {
+            rebuilding = false;
+        }
+
+        reindex(Set.copyOf(changedDuringRebuild));
+        searchIndex.commit();
+        ready = true;
+    }
+
+    /**
+     * Atualiza no índice as categorias alteradas, utilizado quando a escrita aconteceu em outra instância
+     */
+    public void reindex(final Collection<CategoryID> anIds) {
+        if (anIds.isEmpty())
+            return;
+
+        final var categories = categoryGateway.findAllByIds(new HashSet<>(anIds));
+        final var found = categories.stream().map(Category::getId).collect(Collectors.toSet());
+        final var removed = anIds.stream().filter(anId -> !found.contains(anId)).toList();
+
+        searchIndex.index(categories);
+        searchIndex.delete(removed);
+    }
+
+    private Optional<SearchResult> search(final CategorySearchQuery aQuery) {
+        final var terms = aQuery.terms();
+
+        if (!ready || terms == null || terms.isBlank() || !CategorySearchIndex.supports(aQuery.sort()))
+            return Optional.empty();
+
+        final var ascending = Direction.fromString(aQuery.direction()).isAscending();
+
+        if (!aQuery.isCursor())
+            return searchIndex.search(terms, aQuery.sort(), ascending, aQuery.offset(), aQuery.perPage());
+
+        final var aCursor = CategoryCursor.decode(aQuery.after(), aQuery.sort());
+
+        try {
+            return searchIndex.search(terms, aQuery.sort(), ascending, new Position(aCursor.id(), aCursor.value()), 0, aQuery.perPage());
+        } catch (final IllegalArgumentException ex) {
+            throw CategoryCursor.invalid();
+        }
+    }
+
+    private <T> Pagination<T> hydrate(final CategorySearchQuery aQuery, final SearchResult aResult, final Function<Category, T> mapper) {
+        final var next = aResult.next();
+        final var nextCursor = next != null ? new CategoryCursor(aQuery.sort(), next.id(), next.value()).encode() : null;
+
+        return IndexedPages.hydrate(categoryGateway, aQuery, aResult.ids(), aResult.total(), next != null, nextCursor, mapper);
+    }
+
+    private void index(final List<Category> aCategories) {
+        tryUpdateIndex(aCategories.stream().map(Category::getId).toList(), () -> searchIndex.index(aCategories));
+    }
+
+    private void tryUpdateIndex(final Collection<CategoryID> anIds, final Runnable anUpdate) {
+        if (rebuilding)
+            changedDuringRebuild.addAll(anIds);
+
+        try {
+            anUpdate.run();
+        } catch (final RuntimeException ex) {
+            log.warn("Could not update the search index for categories {}, they will be reindexed by the change log poller", anIds, ex);
+        }
+    }
+}
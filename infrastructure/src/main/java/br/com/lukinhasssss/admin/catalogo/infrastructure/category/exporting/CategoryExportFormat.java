@@ -0,0 +1,120 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.exporting;
+
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Formatos do export. Cada categoria é serializada e escrita direto no OutputStream da resposta,
+ * uma linha por categoria
+ */
+public enum CategoryExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson") {
+        private final ObjectWriter writer = Json.mapper().writerFor(CategoryResponse.class);
+
+        @Override
+        protected byte[] header() {
+            return new byte[0];
+        }
+
+        @Override
+        protected byte[] line(final CategoryResponse aCategory) throws IOException {
+            return (writer.writeValueAsString(aCategory) + "\n").getBytes(UTF_8);
+        }
+    },
+
+    CSV(new MediaType("text", "csv", UTF_8), "csv") {
+        private final CsvSchema schema = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("name")
+            .addColumn("description")
+            .addColumn("is_active")
+            .addColumn("created_at")
+            .addColumn("updated_at")
+            .addColumn("deleted_at")
+            .build();
+
+        private final ObjectWriter writer = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(CsvGenerator.Feature.STRICT_CHECK_FOR_QUOTING) // Só coloca aspas quando o valor realmente precisa
+            .build()
+            .writerFor(CategoryResponse.class)
+            .with(schema);
+
+        @Override
+        protected byte[] header() {
+            return (String.join(",", schema.getColumnNames()) + "\n").getBytes(UTF_8);
+        }
+
+        @Override
+        protected byte[] line(final CategoryResponse aCategory) throws IOException {
+            return writer.writeValueAsBytes(aCategory);
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    CategoryExportFormat(final MediaType aMediaType, final String anExtension) {
+        this.mediaType = aMediaType;
+        this.extension = anExtension;
+    }
+
+    protected abstract byte[] header();
+
+    protected abstract byte[] line(CategoryResponse aCategory) throws IOException;
+
+    public static CategoryExportFormat of(final String aFormat) {
+        return Arrays.stream(values())
+            .filter(format -> format.name().equalsIgnoreCase(aFormat))
+            .findFirst()
+            .orElseThrow(() -> DomainException.with(
+                new Error("'%s' is not a supported export format".formatted(aFormat))
+            ));
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String filename() {
+        return "categories." + extension;
+    }
+
+    public void writeHeader(final OutputStream output) {
+        write(output, header());
+    }
+
+    public void write(final OutputStream output, final CategoryResponse aCategory) {
+        try {
+            write(output, line(aCategory));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void write(final OutputStream output, final byte[] bytes) {
+        try {
+            output.write(bytes);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.fuzzy;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SearchUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória dos trigramas dos names normalizados (SearchUtils), utilizado na busca fuzzy.
+ * Assim como no pg_trgm, cada palavra é completada com dois espaços no início e um no final ("  ficcao "),
+ * então um erro de digitação ainda mantém a maior parte dos trigramas em comum com o name correto.
+ *
+ * Só são pontuadas as categorias que compartilham algum trigrama com os terms (as listas do índice invertido)
+ * e as que não alcançam o threshold de cobertura são descartadas antes da ordenação
+ */
+public class CategoryTrigramIndex {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final double threshold;
+    private final Map<String, Set<CategoryID>> postings = new ConcurrentHashMap<>();
+    private final Map<CategoryID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * @param threshold fração mínima dos trigramas dos terms que precisa existir no name, entre 0 e 1
+     */
+    public CategoryTrigramIndex(final double threshold) {
+        if (threshold <= 0 || threshold > 1)
+            throw new IllegalArgumentException("threshold must be between 0 (exclusive) and 1");
+
+        this.threshold = threshold;
+    }
+
+    public synchronized void index(final Collection<Category> aCategories) {
+        for (final var aCategory : aCategories) {
+            remove(aCategory.getId());
+
+            final var anEntry = new Entry(aCategory.getId(), SearchUtils.normalize(aCategory.getName()), trigrams(aCategory.getName()));
+
+            anEntry.trigrams().forEach(aTrigram -> postings.computeIfAbsent(aTrigram, ignored -> ConcurrentHashMap.newKeySet()).add(anEntry.id()));
+            entries.put(anEntry.id(), anEntry);
+        }
+    }
+
+    public synchronized void delete(final Collection<CategoryID> anIds) {
+        anIds.forEach(this::remove);
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        entries.clear();
+    }
+
+    /**
+     * @return os ids da página, do mais parecido para o menos parecido, e o total de categorias acima do threshold
+     */
+    public SearchResult search(final String terms, final int offset, final int limit) {
+        final var queryTrigrams = trigrams(terms);
+
+        if (queryTrigrams.isEmpty())
+            return new SearchResult(List.of(), 0);
+
+        final var shared = new HashMap<CategoryID, Integer>();
+
+        for (final var aTrigram : queryTrigrams)
+            for (final var anId : postings.getOrDefault(aTrigram, Set.of()))
+                shared.merge(anId, 1, Integer::sum);
+
+        final var minimumShared = (int) Math.ceil(threshold * queryTrigrams.size());
+        final var matches = new ArrayList<Match>();
+
+        shared.forEach((anId, count) -> {
+            final var anEntry = entries.get(anId);
+
+            if (count >= minimumShared && anEntry != null)
+                matches.add(Match.of(anEntry, count, queryTrigrams.size()));
+        });
+
+        matches.sort(Comparator.comparingDouble(Match::coverage).reversed()
+            .thenComparing(Comparator.comparingDouble(Match::jaccard).reversed())
+            .thenComparing(aMatch -> aMatch.entry().name())
+            .thenComparing(aMatch -> aMatch.entry().id().getValue()));
+
+        final var ids = matches.stream()
+            .skip(offset)
+            .limit(limit)
+            .map(aMatch -> aMatch.entry().id())
+            .toList();
+
+        return new SearchResult(ids, matches.size());
+    }
+
+    private void remove(final CategoryID anId) {
+        final var anEntry = entries.remove(anId);
+
+        if (anEntry == null)
+            return;
+
+        for (final var aTrigram : anEntry.trigrams()) {
+            final var ids = postings.get(aTrigram);
+            ids.remove(anId);
+
+            if (ids.isEmpty())
+                postings.remove(aTrigram);
+        }
+    }
+
+    static Set<String> trigrams(final String aText) {
+        final var trigrams = new HashSet<String>();
+
+        for (final var aWord : WORD_SEPARATOR.split(SearchUtils.normalize(aText))) {
+            if (aWord.isEmpty())
+                continue;
+
+            final var padded = "  " + aWord + " ";
+
+            for (int i = 0; i + 3 <= padded.length(); i++)
+                trigrams.add(padded.substring(i, i + 3));
+        }
+
+        return trigrams;
+    }
+
+    public record SearchResult(List<CategoryID> ids, long total) {}
+
+    private record Entry(CategoryID id, String name, Set<String> trigrams) {}
+
+    /**
+     * A cobertura é a fração dos trigramas dos terms que existe no name (o quanto do que foi digitado foi encontrado);
+     * no empate, a similaridade de Jaccard coloca primeiro o name mais próximo do tamanho dos terms
+     */
+    private record Match(Entry entry, double coverage, double jaccard) {
+
+        static Match of(final Entry anEntry, final int shared, final int queryTrigrams) {
+            final var nameTrigrams = anEntry.trigrams().size();
+
+            return new Match(
+                anEntry,
+                (double) shared / queryTrigrams,
+                (double) shared / (queryTrigrams + nameTrigrams - shared)
+            );
+        }
+    }
+}
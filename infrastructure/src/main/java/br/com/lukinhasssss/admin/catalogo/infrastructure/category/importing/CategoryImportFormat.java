@@ -0,0 +1,64 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Formatos aceitos pelo import. Ambos são lidos registro a registro (CategoryImportRecords),
+ * sem carregar o arquivo inteiro em memória
+ */
+public enum CategoryImportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON_VALUE) {
+        @Override
+        public CategoryImportRecords read(final InputStream input) {
+            return CategoryImportRecords.ofLines(Json.mapper().readerFor(CreateCategoryRequest.class), input);
+        }
+    },
+
+    CSV(CategoryImportFormat.TEXT_CSV_VALUE) {
+        @Override
+        public CategoryImportRecords read(final InputStream input) throws IOException {
+            return CategoryImportRecords.of(new CsvMapper().readerFor(CreateCategoryRequest.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(input));
+        }
+    };
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    CategoryImportFormat(final String aMediaType) {
+        this.mediaType = MediaType.parseMediaType(aMediaType);
+    }
+
+    public abstract CategoryImportRecords read(InputStream input) throws IOException;
+
+    /**
+     * @throws HttpMediaTypeNotSupportedException respondido pelo Spring como 415, com os formatos aceitos no Accept
+     */
+    public static CategoryImportFormat of(final String aContentType) throws HttpMediaTypeNotSupportedException {
+        final var aMediaType = MediaType.parseMediaType(aContentType);
+
+        final var aFormat = Arrays.stream(values())
+            .filter(format -> format.mediaType.isCompatibleWith(aMediaType))
+            .findFirst();
+
+        if (aFormat.isEmpty())
+            throw new HttpMediaTypeNotSupportedException(
+                aMediaType,
+                Arrays.stream(values()).map(format -> format.mediaType).toList()
+            );
+
+        return aFormat.get();
+    }
+}
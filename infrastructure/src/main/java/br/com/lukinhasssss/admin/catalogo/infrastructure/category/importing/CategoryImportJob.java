@@ -0,0 +1,81 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.importing.ImportCategoriesOutput;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Estado de um import em background. É escrito pela thread do import e lido pelas requisições
+ * de status, por isso os campos são voláteis e o progresso é sempre trocado por um snapshot imutável
+ */
+public class CategoryImportJob {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    private final String id;
+    private final Instant createdAt;
+    private volatile Status status;
+    private volatile ImportCategoriesOutput progress;
+    private volatile String failure;
+    private volatile Instant finishedAt;
+
+    private CategoryImportJob(final String anId, final Instant aCreationDate) {
+        this.id = anId;
+        this.createdAt = aCreationDate;
+        this.status = Status.PENDING;
+        this.progress = ImportCategoriesOutput.empty();
+    }
+
+    public static CategoryImportJob newJob() {
+        return new CategoryImportJob(UUID.randomUUID().toString().toLowerCase(), Instant.now());
+    }
+
+    void start() {
+        this.status = Status.RUNNING;
+    }
+
+    void progress(final ImportCategoriesOutput aProgress) {
+        this.progress = aProgress;
+    }
+
+    void complete(final ImportCategoriesOutput anOutput) {
+        this.progress = anOutput;
+        this.finishedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(final String aFailure) {
+        this.failure = aFailure;
+        this.finishedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public ImportCategoriesOutput getProgress() {
+        return progress;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+}
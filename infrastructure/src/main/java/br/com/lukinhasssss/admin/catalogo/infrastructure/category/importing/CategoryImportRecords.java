@@ -0,0 +1,126 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Registros de um import, lidos um a um: um registro malformado (JSON inválido, valor de tipo errado) vira um
+ * DomainException apenas dele no next e a leitura segue no próximo. Falhas de leitura do arquivo continuam
+ * interrompendo o import
+ */
+public abstract class CategoryImportRecords implements Iterator<CreateCategoryRequest>, Closeable {
+
+    /**
+     * Cada linha é lida separadamente, então nem um JSON quebrado afeta as linhas seguintes
+     * (o MappingIterator não consegue se ressincronizar depois de um erro de sintaxe)
+     */
+    static CategoryImportRecords ofLines(final ObjectReader aReader, final InputStream input) {
+        return new LineRecords(aReader, new BufferedReader(new InputStreamReader(input, UTF_8)));
+    }
+
+    /**
+     * Nos formatos sem aninhamento, como o CSV, o MappingIterator se ressincroniza no registro seguinte ao que falhou
+     */
+    static CategoryImportRecords of(final MappingIterator<CreateCategoryRequest> records) {
+        return new MappedRecords(records);
+    }
+
+    private static DomainException malformed(final JsonProcessingException ex) {
+        return DomainException.with(new Error("malformed record: %s".formatted(ex.getOriginalMessage())));
+    }
+
+    private static class LineRecords extends CategoryImportRecords {
+
+        private final ObjectReader reader;
+        private final BufferedReader lines;
+        private String nextLine;
+
+        private LineRecords(final ObjectReader reader, final BufferedReader lines) {
+            this.reader = reader;
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (nextLine == null || nextLine.isBlank()) {
+                    nextLine = lines.readLine();
+
+                    if (nextLine == null)
+                        return false;
+                }
+
+                return true;
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public CreateCategoryRequest next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            final var aLine = nextLine;
+            nextLine = null;
+
+            try {
+                return reader.readValue(aLine);
+            } catch (final JsonProcessingException ex) {
+                throw malformed(ex);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+
+    private static class MappedRecords extends CategoryImportRecords {
+
+        private final MappingIterator<CreateCategoryRequest> records;
+
+        private MappedRecords(final MappingIterator<CreateCategoryRequest> records) {
+            this.records = records;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return records.hasNext();
+        }
+
+        @Override
+        public CreateCategoryRequest next() {
+            try {
+                return records.next();
+            } catch (final RuntimeException ex) {
+                // O MappingIterator embrulha os erros do jackson em RuntimeJsonMappingException (mapeamento) ou RuntimeException
+                if (ex.getCause() instanceof JsonProcessingException aCause)
+                    throw malformed(aCause);
+
+                throw ex;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            records.close();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryCommand;
+import br.com.lukinhasssss.admin.catalogo.application.category.importing.ImportCategoriesCommand;
+import br.com.lukinhasssss.admin.catalogo.application.category.importing.ImportCategoriesUseCase;
+import io.vavr.collection.Iterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executa os imports em background: o corpo da requisição é copiado para um arquivo temporário
+ * (em memória fica apenas o buffer da cópia) e processado por uma única thread, assim imports
+ * simultâneos entram em fila ao invés de disputarem o banco.
+ * Os jobs ficam em memória na instância que recebeu o arquivo e são descartados RETENTION após terminarem
+ */
+public class CategoryImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryImportService.class);
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final ImportCategoriesUseCase importCategoriesUseCase;
+    private final Map<String, CategoryImportJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final var thread = new Thread(runnable, "category-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CategoryImportService(final ImportCategoriesUseCase importCategoriesUseCase) {
+        this.importCategoriesUseCase = Objects.requireNonNull(importCategoriesUseCase);
+    }
+
+    public CategoryImportJob submit(final CategoryImportFormat aFormat, final InputStream input) {
+        evictFinished();
+
+        final var aFile = spool(input);
+        final var aJob = CategoryImportJob.newJob();
+
+        jobs.put(aJob.getId(), aJob);
+        executor.execute(() -> run(aJob, aFormat, aFile));
+
+        return aJob;
+    }
+
+    public Optional<CategoryImportJob> findById(final String anId) {
+        return Optional.ofNullable(jobs.get(anId));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(final CategoryImportJob aJob, final CategoryImportFormat aFormat, final Path aFile) {
+        aJob.start();
+
+        try (final var input = Files.newInputStream(aFile); final var records = aFormat.read(input)) {
+            final var commands = Iterator.ofAll(records).map(aRecord -> CreateCategoryCommand.with(
+                aRecord.name(),
+                aRecord.description(),
+                aRecord.active() != null ? aRecord.active() : true
+            ));
+
+            aJob.complete(importCategoriesUseCase.execute(ImportCategoriesCommand.with(commands, aJob::progress)));
+        } catch (final Exception ex) {
+            log.error("Category import {} failed", aJob.getId(), ex);
+            aJob.fail(ex.getMessage());
+        } finally {
+            delete(aFile);
+        }
+    }
+
+    private void evictFinished() {
+        final var limit = Instant.now().minus(RETENTION);
+        jobs.values().removeIf(aJob -> aJob.isFinished() && aJob.getFinishedAt().isBefore(limit));
+    }
+
+    private static Path spool(final InputStream input) {
+        Path aFile = null;
+
+        try {
+            aFile = Files.createTempFile("category-import-", ".tmp");
+            Files.copy(input, aFile, StandardCopyOption.REPLACE_EXISTING);
+            return aFile;
+        } catch (final IOException ex) {
+            if (aFile != null)
+                delete(aFile);
+
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void delete(final Path aFile) {
+        try {
+            Files.deleteIfExists(aFile);
+        } catch (final IOException ex) {
+            log.warn("Could not delete import file {}", aFile, ex);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkUpsertCategoryResponse(
+    @JsonProperty("index") int index,
+    @JsonProperty("id") String id,
+    @JsonProperty("created") Boolean created,
+    @JsonProperty("errors") List<Error> errors
+) {}
@@ -0,0 +1,10 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CategoriesByIdsResponse(
+    @JsonProperty("items") List<CategoryResponse> items,
+    @JsonProperty("missing") List<String> missing
+) {}
@@ -0,0 +1,19 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.importing.ImportCategoriesOutput.ImportCategoryError;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+public record CategoryImportJobResponse(
+    @JsonProperty("id") String id,
+    @JsonProperty("status") String status,
+    @JsonProperty("processed") long processed,
+    @JsonProperty("imported") long imported,
+    @JsonProperty("failed") long failed,
+    @JsonProperty("errors") List<ImportCategoryError> errors,
+    @JsonProperty("failure") String failure,
+    @JsonProperty("created_at") Instant createdAt,
+    @JsonProperty("finished_at") Instant finishedAt
+) {}
@@ -0,0 +1,9 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CategoryStatsResponse(
+    @JsonProperty("total") long total,
+    @JsonProperty("active") long active,
+    @JsonProperty("inactive") long inactive
+) {}
@@ -0,0 +1,8 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CategorySuggestResponse(
+    @JsonProperty("id") String id,
+    @JsonProperty("name") String name
+) {}
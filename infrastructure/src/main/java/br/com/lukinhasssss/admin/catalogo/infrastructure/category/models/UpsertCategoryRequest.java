@@ -0,0 +1,10 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UpsertCategoryRequest(
+    @JsonProperty("id") String id,
+    @JsonProperty("name") String name,
+    @JsonProperty("description") String description,
+    @JsonProperty("is_active") Boolean active
+) {}
@@ -0,0 +1,12 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.List;
+
+public interface CategoryBatchRepository {
+
+    /**
+     * Atualiza várias categorias em uma única transação: um SELECT ... IN para todas as entidades
+     * e os UPDATEs agrupados em batch pelo hibernate (hibernate.jdbc.batch_size)
+     */
+    List<CategoryJpaEntity> updateAll(List<CategoryJpaEntity> entities);
+}
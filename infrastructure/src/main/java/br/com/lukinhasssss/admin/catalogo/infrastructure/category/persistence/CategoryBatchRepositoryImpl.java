@@ -0,0 +1,32 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+public class CategoryBatchRepositoryImpl implements CategoryBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public List<CategoryJpaEntity> updateAll(final List<CategoryJpaEntity> entities) {
+        final var ids = entities.stream().map(CategoryJpaEntity::getId).toList();
+
+        // Carregamos todas de uma vez para que o merge encontre as entidades no contexto de persistência
+        // e não faça um SELECT por categoria
+        entityManager.createQuery("SELECT c FROM CategoryJpaEntity c WHERE c.id IN :ids", CategoryJpaEntity.class)
+            .setParameter("ids", ids)
+            .getResultList();
+
+        final var merged = entities.stream().map(entityManager::merge).toList();
+
+        // O flush dispara os UPDATEs aqui, assim um conflito de versão estoura nesta chamada
+        entityManager.flush();
+
+        return merged;
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import org.hibernate.annotations.Type;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+/**
+ * Registro de que uma categoria foi alterada ou removida, lido por todas as instâncias
+ * para invalidar os seus caches locais. O changed_at é preenchido pelo banco, assim todas
+ * as instâncias comparam datas do mesmo relógio
+ */
+@Entity
+@Table(name = "category_change_log")
+public class CategoryChangeJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Type(type = CategoryIdType.NAME)
+    @Column(name = "category_id", nullable = false, columnDefinition = "BINARY(16)")
+    private String categoryId;
+
+    @Column(name = "changed_at", nullable = false, insertable = false, updatable = false, columnDefinition = "DATETIME(6)")
+    private Instant changedAt;
+
+    public CategoryChangeJpaEntity() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCategoryId() {
+        return categoryId;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CategoryChangeRepository extends JpaRepository<CategoryChangeJpaEntity, Long> {
+
+    /**
+     * Registra a alteração das categorias em um único INSERT ... SELECT, ignorando ids que não existem
+     */
+    default int logChanges(final Collection<String> ids) {
+        return logChangesByBinaryIds(CategoryIds.toBinary(ids));
+    }
+
+    /**
+     * Os parâmetros das queries nativas não passam pelo CategoryIdType, por isso os ids já vêm em binário
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(
+        value = "INSERT INTO category_change_log (category_id) SELECT id FROM category WHERE id IN (:ids)",
+        nativeQuery = true
+    )
+    int logChangesByBinaryIds(@Param("ids") Collection<byte[]> ids);
+
+    @Query("SELECT c FROM CategoryChangeJpaEntity c WHERE c.changedAt > :since ORDER BY c.id")
+    List<CategoryChangeJpaEntity> findAllChangedAfter(@Param("since") Instant since);
+
+    @Query("SELECT MAX(c.changedAt) FROM CategoryChangeJpaEntity c")
+    Optional<Instant> findLastChangedAt();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CategoryChangeJpaEntity c WHERE c.changedAt < :limit")
+    int deleteAllChangedBefore(@Param("limit") Instant limit);
+}
@@ -0,0 +1,47 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * Uma das linhas (ids 1 a CategoryCounterSlots.SLOTS) com os contadores da tabela category: cada escrita do
+ * CategoryMySQLGateway soma o seu delta em uma delas, na mesma transação, e os contadores são a soma de todas
+ * (ver CategoryCountersRepository). O inactive é derivado do total e do active
+ */
+@Entity
+@Table(name = "category_counters")
+public class CategoryCountersJpaEntity {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "active_count", nullable = false)
+    private long activeCount;
+
+    public CategoryCountersJpaEntity() {}
+
+    public Integer getId() {
+        return id;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public void setTotalCount(final long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    public long getActiveCount() {
+        return activeCount;
+    }
+
+    public void setActiveCount(final long activeCount) {
+        this.activeCount = activeCount;
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Os deltas das alterações e remoções são calculados pelo estado atual das linhas da category, então precisam
+ * ser aplicados antes do UPDATE/DELETE da categoria. Cada escrita soma o seu delta em uma das linhas sorteada
+ * pelo CategoryCounterSlots e as leituras somam todas: com uma linha só, toda escrita do cluster esperava o lock dela
+ */
+public interface CategoryCountersRepository extends JpaRepository<CategoryCountersJpaEntity, Integer> {
+
+    /**
+     * Vazio se não houver nenhuma linha dos contadores
+     */
+    @Query("SELECT SUM(c.totalCount) FROM CategoryCountersJpaEntity c")
+    Optional<Long> findTotalCount();
+
+    default Optional<CategoryStats> findStats() {
+        final var sums = sumCounters();
+
+        if (sums == null || sums.getTotal() == null)
+            return Optional.empty();
+
+        return Optional.of(new CategoryStats(sums.getTotal(), sums.getActive(), sums.getTotal() - sums.getActive()));
+    }
+
+    @Query("SELECT SUM(c.totalCount) AS total, SUM(c.activeCount) AS active FROM CategoryCountersJpaEntity c")
+    CounterSums sumCounters();
+
+    /**
+     * Trava todas as linhas, sempre na mesma ordem
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CategoryCountersJpaEntity c ORDER BY c.id")
+    List<CategoryCountersJpaEntity> findAllForUpdate();
+
+    default int insertIfMissing() {
+        var inserted = 0;
+
+        for (int slot = 1; slot <= CategoryCounterSlots.SLOTS; slot++)
+            inserted += insertIfMissing(slot);
+
+        return inserted;
+    }
+
+    /**
+     * Duas instâncias inserindo ao mesmo tempo fazem uma delas falhar pela chave primária, o que só adia a reconciliação dela
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+        value = """
+            INSERT INTO category_counters (id, total_count, active_count)
+            SELECT :slot, 0, 0 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM category_counters WHERE id = :slot)
+            """,
+        nativeQuery = true
+    )
+    int insertIfMissing(@Param("slot") int slot);
+
+    default int increment(final long total, final long active) {
+        return increment(CategoryCounterSlots.next(), total, active);
+    }
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+        value = "UPDATE category_counters SET total_count = total_count + :total, active_count = active_count + :active WHERE id = :slot",
+        nativeQuery = true
+    )
+    int increment(@Param("slot") int slot, @Param("total") long total, @Param("active") long active);
+
+    /**
+     * Os parâmetros das queries nativas não passam pelo CategoryIdType, por isso os ids são convertidos para binário aqui.
+     * As ativações e as inativações vão para a mesma linha: a transação nunca segura o lock de duas linhas,
+     * então duas escritas concorrentes não ficam esperando uma pela outra (deadlock)
+     */
+    default void applyStatusChanges(final Collection<String> activated, final Collection<String> deactivated) {
+        final var slot = CategoryCounterSlots.next();
+
+        if (!activated.isEmpty())
+            applyActivationsByBinaryIds(slot, CategoryIds.toBinary(activated));
+
+        if (!deactivated.isEmpty())
+            applyDeactivationsByBinaryIds(slot, CategoryIds.toBinary(deactivated));
+    }
+
+    default int applyDeletions(final Collection<String> ids) {
+        return applyDeletionsByBinaryIds(CategoryCounterSlots.next(), CategoryIds.toBinary(ids));
+    }
+
+    /**
+     * Categorias inativas que vão ser ativadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+        value = """
+            UPDATE category_counters
+            SET active_count = active_count + (SELECT COUNT(*) FROM category WHERE id IN (:ids) AND active = FALSE)
+            WHERE id = :slot
+            """,
+        nativeQuery = true
+    )
+    int applyActivationsByBinaryIds(@Param("slot") int slot, @Param("ids") Collection<byte[]> ids);
+
+    /**
+     * Categorias ativas que vão ser inativadas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+        value = """
+            UPDATE category_counters
+            SET active_count = active_count - (SELECT COUNT(*) FROM category WHERE id IN (:ids) AND active = TRUE)
+            WHERE id = :slot
+            """,
+        nativeQuery = true
+    )
+    int applyDeactivationsByBinaryIds(@Param("slot") int slot, @Param("ids") Collection<byte[]> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+        value = """
+            UPDATE category_counters
+            SET total_count = total_count - (SELECT COUNT(*) FROM category WHERE id IN (:ids)),
+                active_count = active_count - (SELECT COUNT(*) FROM category WHERE id IN (:ids) AND active = TRUE)
+            WHERE id = :slot
+            """,
+        nativeQuery = true
+    )
+    int applyDeletionsByBinaryIds(@Param("slot") int slot, @Param("ids") Collection<byte[]> ids);
+
+    interface CounterSums {
+
+        Long getTotal();
+
+        Long getActive();
+    }
+}
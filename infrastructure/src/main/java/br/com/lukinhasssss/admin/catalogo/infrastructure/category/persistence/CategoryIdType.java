@@ -0,0 +1,73 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+/**
+ * Grava o id das categorias como BINARY(16), os 16 bytes do UUID, ao invés do texto de 36 caracteres: a chave primária
+ * (e todo índice secundário, que carrega a chave primária) fica com menos da metade do tamanho e a comparação é byte a byte.
+ * No domínio e na API o id continua sendo a String do UUID; a conversão fica no CategoryIds, usado também pelo adapter reativo
+ */
+public class CategoryIdType extends AbstractSingleColumnStandardBasicType<String> {
+
+    public static final String NAME = "br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryIdType";
+
+    public CategoryIdType() {
+        super(BinaryTypeDescriptor.INSTANCE, Descriptor.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    private static class Descriptor extends AbstractTypeDescriptor<String> {
+
+        private static final Descriptor INSTANCE = new Descriptor();
+
+        private Descriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null)
+                return null;
+
+            if (byte[].class.isAssignableFrom(type))
+                return (X) CategoryIds.toBinary(value);
+
+            if (String.class.isAssignableFrom(type))
+                return (X) value;
+
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null)
+                return null;
+
+            if (value instanceof byte[] bytes)
+                return CategoryIds.fromBinary(bytes);
+
+            if (value instanceof String aString)
+                return aString;
+
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
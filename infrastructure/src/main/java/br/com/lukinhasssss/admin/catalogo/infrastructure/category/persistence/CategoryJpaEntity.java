@@ -2,18 +2,28 @@ package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
 
 import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SearchUtils;
+
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+import javax.persistence.Version;
 import java.time.Instant;
 
 @Entity
 @Table(name = "category")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<String> {
 
     @Id
+    @Type(type = CategoryIdType.NAME)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -22,6 +32,13 @@ public class CategoryJpaEntity {
     @Column(name = "description", length = 4000, nullable = true)
     private String description;
 
+    // name e description normalizados (sem acentos e em minúsculas) para a busca por terms, calculados na escrita
+    @Column(name = "name_search")
+    private String nameSearch;
+
+    @Column(name = "description_search", length = 4000)
+    private String descriptionSearch;
+
     @Column(name = "active", nullable = false)
     private boolean active;
 
@@ -34,6 +51,17 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * O id é atribuído pelo domínio, então o Spring Data não consegue saber sozinho se a entidade é nova
+     * e faria um merge (SELECT + INSERT). Com essa flag o save faz um persist direto (apenas o INSERT)
+     */
+    @Transient
+    private boolean isNew = true;
+
     public CategoryJpaEntity() {}
 
     private CategoryJpaEntity(
@@ -43,15 +71,19 @@ public class CategoryJpaEntity {
         final boolean active,
         final Instant createdAt,
         final Instant updatedAt,
-        final Instant deletedAt
+        final Instant deletedAt,
+        final long version
     ) {
         this.id = id;
         this.name = name;
+        this.nameSearch = SearchUtils.normalize(name);
         this.description = description;
+        this.descriptionSearch = SearchUtils.normalize(description);
         this.active = active;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category aCategory) {
@@ -62,20 +94,33 @@ public class CategoryJpaEntity {
             aCategory.isActive(),
             aCategory.getCreatedAt(),
             aCategory.getUpdatedAt(),
-            aCategory.getDeletedAt()
+            aCategory.getDeletedAt(),
+            aCategory.getVersion()
         );
     }
 
     public Category toAggregate() {
         return Category.with(
-            CategoryID.from(getId()), getName(), getDescription(), isActive(), getCreatedAt(), getUpdatedAt(), getDeletedAt()
+            CategoryID.from(getId()), getName(), getDescription(), isActive(), getCreatedAt(), getUpdatedAt(), getDeletedAt(), getVersion()
         );
     }
 
+    @Override
     public String getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public void setId(String id) {
         this.id = id;
     }
@@ -86,6 +131,11 @@ public class CategoryJpaEntity {
 
     public void setName(String name) {
         this.name = name;
+        this.nameSearch = SearchUtils.normalize(name);
+    }
+
+    public String getNameSearch() {
+        return nameSearch;
     }
 
     public String getDescription() {
@@ -94,6 +144,11 @@ public class CategoryJpaEntity {
 
     public void setDescription(String description) {
         this.description = description;
+        this.descriptionSearch = SearchUtils.normalize(description);
+    }
+
+    public String getDescriptionSearch() {
+        return descriptionSearch;
     }
 
     public boolean isActive() {
@@ -127,4 +182,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,21 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface CategoryKeysetRepository {
+
+    /**
+     * Busca limitada sem OFFSET e sem a query de COUNT que o Page executa
+     */
+    default List<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Sort sort, int limit) {
+        return findAll(whereClause, sort, 0, limit);
+    }
+
+    /**
+     * Busca paginada por OFFSET, também sem a query de COUNT
+     */
+    List<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Sort sort, int offset, int limit);
+}
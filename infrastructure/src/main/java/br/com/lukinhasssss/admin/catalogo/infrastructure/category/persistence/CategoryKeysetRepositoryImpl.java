@@ -0,0 +1,39 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+public class CategoryKeysetRepositoryImpl implements CategoryKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CategoryJpaEntity> findAll(
+        final Specification<CategoryJpaEntity> whereClause,
+        final Sort sort,
+        final int offset,
+        final int limit
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        final var predicate = whereClause.toPredicate(root, query, cb);
+
+        if (predicate != null)
+            query.where(predicate);
+
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+            .setFirstResult(offset)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
@@ -4,8 +4,79 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import java.util.List;
+
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, CategoryKeysetRepository, CategorySummaryRepository, CategoryBatchRepository, CategoryStreamRepository {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    long countByActive(boolean isActive);
+
+    /**
+     * Atualização em um único UPDATE, sem o SELECT que o merge do save faz antes.
+     * Só atualiza se a versão ainda for a esperada (optimistic locking) e preserva o deleted_at
+     * de uma categoria que já estava inativa
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE CategoryJpaEntity c
+        SET c.name = :#{#category.name},
+            c.nameSearch = :#{#category.nameSearch},
+            c.description = :#{#category.description},
+            c.descriptionSearch = :#{#category.descriptionSearch},
+            c.active = :#{#category.active},
+            c.updatedAt = :#{#category.updatedAt},
+            c.deletedAt = CASE WHEN :#{#category.active} = true THEN NULL ELSE COALESCE(c.deletedAt, :#{#category.deletedAt}) END,
+            c.version = c.version + 1
+        WHERE c.id = :#{#category.id} AND c.version = :#{#category.version}
+        """)
+    int update(@Param("category") CategoryJpaEntity category);
+
+    /**
+     * Remoção em um único DELETE, sem o existsById e sem carregar a entidade como o deleteById faz
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CategoryJpaEntity c WHERE c.id = :id")
+    int deleteCategoryById(@Param("id") String anId);
+
+    /**
+     * Categorias cujo name normalizado começa com o prefixo, que deve vir com o %, o _ e o ! escapados por !
+     * (o ESCAPE como parâmetro, que o StartingWith gera, e o literal true, que vira 1 no dialeto do MySQL,
+     * não são aceitos pelo H2)
+     */
+    @Query("SELECT c FROM CategoryJpaEntity c WHERE c.active = :active AND c.nameSearch LIKE CONCAT(:prefix, '%') ESCAPE '!'")
+    List<CategoryJpaEntity> findAllByActiveAndNameSearchPrefix(
+        @Param("active") boolean isActive,
+        @Param("prefix") String anEscapedPrefix,
+        Pageable page
+    );
+
+    /**
+     * Categorias gravadas antes das colunas name_search e description_search existirem (V4)
+     */
+    List<CategoryJpaEntity> findByNameSearchIsNull(Pageable page);
+
+    /**
+     * Preenche apenas as colunas de busca, sem incrementar a versão: o conteúdo da categoria não mudou
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE CategoryJpaEntity c
+        SET c.nameSearch = :nameSearch, c.descriptionSearch = :descriptionSearch
+        WHERE c.id = :id
+        """)
+    int updateSearchColumns(
+        @Param("id") String anId,
+        @Param("nameSearch") String nameSearch,
+        @Param("descriptionSearch") String descriptionSearch
+    );
 }
@@ -0,0 +1,12 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import java.util.function.Consumer;
+
+public interface CategoryStreamRepository {
+
+    /**
+     * Percorre todas as categorias com um result set forward-only (cursor no servidor),
+     * entregando uma entidade por vez sem materializar a lista
+     */
+    void streamAll(Consumer<CategoryJpaEntity> aConsumer);
+}
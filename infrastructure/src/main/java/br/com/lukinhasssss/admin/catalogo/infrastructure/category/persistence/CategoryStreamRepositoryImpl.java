@@ -0,0 +1,35 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import org.hibernate.annotations.QueryHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.function.Consumer;
+
+public class CategoryStreamRepositoryImpl implements CategoryStreamRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${category.export.fetch-size}")
+    private int fetchSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(final Consumer<CategoryJpaEntity> aConsumer) {
+        final var query = entityManager
+            .createQuery("SELECT c FROM CategoryJpaEntity c ORDER BY c.id", CategoryJpaEntity.class)
+            .setHint(QueryHints.FETCH_SIZE, fetchSize)
+            .setHint(QueryHints.READ_ONLY, true);
+
+        try (final var entities = query.getResultStream()) {
+            entities.forEach(anEntity -> {
+                aConsumer.accept(anEntity);
+                // Não deixamos as entidades se acumularem no contexto de persistência
+                entityManager.detach(anEntity);
+            });
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+
+import java.time.Instant;
+
+/**
+ * Linha da listagem lida direto das colunas, sem passar por uma entidade gerenciada.
+ * O updatedAt só é selecionado quando é a coluna de ordenação (necessário para montar o cursor)
+ */
+public record CategorySummaryProjection(
+    String id,
+    String name,
+    String description,
+    boolean active,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant deletedAt
+) {
+
+    public CategorySummary toSummary() {
+        return new CategorySummary(
+            CategoryID.from(id),
+            name,
+            description,
+            active,
+            createdAt,
+            deletedAt
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface CategorySummaryRepository {
+
+    /**
+     * Busca da listagem selecionando apenas as colunas exibidas, sem hidratar CategoryJpaEntity
+     * (e portanto sem os snapshots do dirty checking no persistence context)
+     *
+     * @param includeDescription quando false a coluna description (até 4000 caracteres) não é selecionada
+     */
+    List<CategorySummaryProjection> findAllSummaries(
+        Specification<CategoryJpaEntity> whereClause,
+        Sort sort,
+        int offset,
+        int limit,
+        boolean includeDescription
+    );
+}
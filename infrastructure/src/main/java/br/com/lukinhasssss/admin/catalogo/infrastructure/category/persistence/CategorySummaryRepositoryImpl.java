@@ -0,0 +1,81 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CategorySummaryRepositoryImpl implements CategorySummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CategorySummaryProjection> findAllSummaries(
+        final Specification<CategoryJpaEntity> whereClause,
+        final Sort sort,
+        final int offset,
+        final int limit,
+        final boolean includeDescription
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(CategoryJpaEntity.class);
+
+        final var selections = new ArrayList<Selection<?>>(List.of(
+            root.get("id").alias("id"),
+            root.get("name").alias("name"),
+            root.get("active").alias("active"),
+            root.get("createdAt").alias("createdAt"),
+            root.get("deletedAt").alias("deletedAt")
+        ));
+
+        if (includeDescription)
+            selections.add(root.get("description").alias("description"));
+
+        final var includeUpdatedAt = sort.getOrderFor("updatedAt") != null;
+
+        if (includeUpdatedAt)
+            selections.add(root.get("updatedAt").alias("updatedAt"));
+
+        query.multiselect(selections);
+
+        final var predicate = whereClause.toPredicate(root, query, cb);
+
+        if (predicate != null)
+            query.where(predicate);
+
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+            .setFirstResult(offset)
+            .setMaxResults(limit)
+            .getResultList()
+            .stream()
+            .map(aTuple -> toProjection(aTuple, includeDescription, includeUpdatedAt))
+            .toList();
+    }
+
+    private static CategorySummaryProjection toProjection(
+        final Tuple aTuple,
+        final boolean includeDescription,
+        final boolean includeUpdatedAt
+    ) {
+        return new CategorySummaryProjection(
+            aTuple.get("id", String.class),
+            aTuple.get("name", String.class),
+            includeDescription ? aTuple.get("description", String.class) : null,
+            aTuple.get("active", Boolean.class),
+            aTuple.get("createdAt", Instant.class),
+            includeUpdatedAt ? aTuple.get("updatedAt", Instant.class) : null,
+            aTuple.get("deletedAt", Instant.class)
+        );
+    }
+}
@@ -1,45 +1,74 @@
 package br.com.lukinhasssss.admin.catalogo.infrastructure.category.presenters;
 
+import br.com.lukinhasssss.admin.catalogo.application.category.bulk.UpsertCategoryOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoriesByIdsOutput;
 import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats.CategoryStatsOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest.CategorySuggestOutput;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing.CategoryImportJob;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.BulkUpsertCategoryResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoriesByIdsResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryImportJobResponse;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategoryStatsResponse;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CategorySuggestResponse;
 
+import io.vavr.control.Either;
+
+import java.util.List;
 import java.util.function.Function;
 
 public interface CategoryApiPresenter {
 
-    Function<CategoryOutput, CategoryResponse> present =
-        output -> new CategoryResponse(
-            output.id().getValue(),
-            output.name(),
-            output.description(),
-            output.isActive(),
-            output.createdAt(),
-            output.updatedAt(),
-            output.deletedAt()
-        );
+    Function<CategoryOutput, CategoryResponse> present = CategoryPresenter::present;
 
     static CategoryResponse present(final CategoryOutput output) {
-        return new CategoryResponse(
-            output.id().getValue(),
-            output.name(),
-            output.description(),
-            output.isActive(),
-            output.createdAt(),
-            output.updatedAt(),
-            output.deletedAt()
+        return CategoryPresenter.present(output);
+    }
+
+    static CategoriesByIdsResponse present(final CategoriesByIdsOutput output) {
+        return new CategoriesByIdsResponse(
+            output.items().stream().map(CategoryApiPresenter::present).toList(),
+            output.missing().stream().map(CategoryID::getValue).toList()
         );
     }
 
     static CategoryListResponse present(final CategoryListOutput output) {
-        return new CategoryListResponse(
-            output.id().getValue(),
-            output.name(),
-            output.description(),
-            output.isActive(),
-            output.createdAt(),
-            output.deletedAt()
+        return CategoryPresenter.present(output);
+    }
+
+    static CategorySuggestResponse present(final CategorySuggestOutput output) {
+        return new CategorySuggestResponse(output.id().getValue(), output.name());
+    }
+
+    static CategoryStatsResponse present(final CategoryStatsOutput output) {
+        return new CategoryStatsResponse(output.total(), output.active(), output.inactive());
+    }
+
+    static BulkUpsertCategoryResponse present(final int index, final Either<Notification, UpsertCategoryOutput> result) {
+        return result.fold(
+            notification -> new BulkUpsertCategoryResponse(index, null, null, notification.getErrors()),
+            output -> new BulkUpsertCategoryResponse(index, output.id(), output.created(), List.of())
+        );
+    }
+
+    static CategoryImportJobResponse present(final CategoryImportJob aJob) {
+        final var progress = aJob.getProgress();
+
+        return new CategoryImportJobResponse(
+            aJob.getId(),
+            aJob.getStatus().name(),
+            progress.processed(),
+            progress.imported(),
+            progress.failed(),
+            progress.errors(),
+            aJob.getFailure(),
+            aJob.getCreatedAt(),
+            aJob.getFinishedAt()
         );
     }
 }
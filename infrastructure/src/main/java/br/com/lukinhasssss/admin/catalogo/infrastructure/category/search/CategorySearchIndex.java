@@ -0,0 +1,315 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.search;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SearchUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Índice invertido (Lucene) do name e do description das categorias, guardado em disco local e lido em near-real-time:
+ * cada escrita reabre o searcher, então a busca já enxerga a alteração logo em seguida.
+ * Os termos passam por lowercase e remoção de acentos, e cada termo buscado casa como prefixo ("ani" encontra "Animes")
+ */
+public class CategorySearchIndex implements Closeable {
+
+    public static final String RELEVANCE = CategorySearchQuery.RELEVANCE;
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private static final Set<String> SORTABLE = Set.of(RELEVANCE, NAME, CREATED_AT, UPDATED_AT);
+
+    private final Analyzer analyzer = new FoldingAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public CategorySearchIndex(final Path aPath) {
+        try {
+            this.writer = new IndexWriter(FSDirectory.open(aPath), new IndexWriterConfig(analyzer));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public static boolean supports(final String sort) {
+        return SORTABLE.contains(sort);
+    }
+
+    public void index(final Collection<Category> aCategories) {
+        try {
+            for (final var aCategory : aCategories)
+                writer.updateDocument(new Term(ID, aCategory.getId().getValue()), toDocument(aCategory));
+
+            searcherManager.maybeRefreshBlocking();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void delete(final Collection<CategoryID> anIds) {
+        try {
+            writer.deleteDocuments(anIds.stream().map(anId -> new Term(ID, anId.getValue())).toArray(Term[]::new));
+            searcherManager.maybeRefreshBlocking();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+            searcherManager.maybeRefreshBlocking();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void commit() {
+        try {
+            writer.commit();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public Optional<SearchResult> search(
+        final String terms,
+        final String sort,
+        final boolean ascending,
+        final int offset,
+        final int limit
+    ) {
+        return search(terms, sort, ascending, null, offset, limit);
+    }
+
+    /**
+     * @param after É a posição (valor da ordenação, id) do último item da página anterior, ou nulo na paginação por offset
+     * @return vazio quando os termos não geram nenhum token pesquisável (ex: apenas pontuação)
+     */
+    public Optional<SearchResult> search(
+        final String terms,
+        final String sort,
+        final boolean ascending,
+        final Position after,
+        final int offset,
+        final int limit
+    ) {
+        final var aQuery = toQuery(terms);
+
+        if (aQuery.isEmpty())
+            return Optional.empty();
+
+        final var aSort = toSort(sort, ascending);
+        final var anAfter = after != null ? toFieldDoc(sort, after) : null;
+        final var skip = anAfter != null ? 0 : offset;
+
+        try {
+            final var searcher = searcherManager.acquire();
+
+            try {
+                // Um item a mais indica se existe uma próxima página. O Integer.MAX_VALUE faz o Lucene contar todos
+                // os resultados (inclusive os anteriores ao after), o total da página precisa ser exato
+                final var collector = TopFieldCollector.create(aSort, skip + limit + 1, anAfter, Integer.MAX_VALUE);
+                searcher.search(aQuery.get(), collector);
+
+                final var topDocs = collector.topDocs(skip, limit + 1);
+                final var hits = Math.min(topDocs.scoreDocs.length, limit);
+                final var ids = new ArrayList<CategoryID>(hits);
+
+                for (int i = 0; i < hits; i++)
+                    ids.add(CategoryID.from(searcher.doc(topDocs.scoreDocs[i].doc, Set.of(ID)).get(ID)));
+
+                final var next = topDocs.scoreDocs.length > limit
+                    ? toPosition((FieldDoc) topDocs.scoreDocs[hits - 1])
+                    : null;
+
+                return Optional.of(new SearchResult(ids, topDocs.totalHits.value, next));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    private Optional<Query> toQuery(final String terms) {
+        final var tokens = tokenize(terms);
+
+        if (tokens.isEmpty())
+            return Optional.empty();
+
+        final var aQuery = new BooleanQuery.Builder();
+
+        // Cada token precisa aparecer no name ou no description; o termo exato e o name pesam mais na relevância
+        for (final var aToken : tokens) {
+            aQuery.add(new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(NAME, aToken)), 4f), Occur.SHOULD)
+                .add(new BoostQuery(new PrefixQuery(new Term(NAME, aToken)), 2f), Occur.SHOULD)
+                .add(new BoostQuery(new TermQuery(new Term(DESCRIPTION, aToken)), 1.5f), Occur.SHOULD)
+                .add(new PrefixQuery(new Term(DESCRIPTION, aToken)), Occur.SHOULD)
+                .build(), Occur.MUST);
+        }
+
+        return Optional.of(aQuery.build());
+    }
+
+    private List<String> tokenize(final String terms) {
+        final var tokens = new ArrayList<String>();
+
+        try (final var aStream = analyzer.tokenStream(NAME, terms)) {
+            final var aTerm = aStream.addAttribute(CharTermAttribute.class);
+            aStream.reset();
+
+            while (aStream.incrementToken())
+                tokens.add(aTerm.toString());
+
+            aStream.end();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return tokens;
+    }
+
+    private static Sort toSort(final String sort, final boolean ascending) {
+        final var idField = new SortField(ID, SortField.Type.STRING, !ascending);
+
+        // O score vai sempre do mais para o menos relevante, o dir vale só para o desempate pelo id
+        if (RELEVANCE.equals(sort))
+            return new Sort(SortField.FIELD_SCORE, idField);
+
+        final var aField = switch (sort) {
+            case CREATED_AT, UPDATED_AT -> new SortField(sort, SortField.Type.LONG, !ascending);
+            default -> new SortField(sort, SortField.Type.STRING, !ascending);
+        };
+
+        return new Sort(aField, idField);
+    }
+
+    /**
+     * @throws IllegalArgumentException se o valor não for do tipo da ordenação
+     */
+    private static FieldDoc toFieldDoc(final String sort, final Position aPosition) {
+        final Object aValue = switch (sort) {
+            case RELEVANCE -> Float.valueOf(aPosition.value());
+            case CREATED_AT, UPDATED_AT -> micros(parseInstant(aPosition.value()));
+            default -> new BytesRef(aPosition.value());
+        };
+
+        // Com o doc no máximo o próprio item do after, que empata em todos os campos, também é pulado
+        return new FieldDoc(Integer.MAX_VALUE, Float.NaN, new Object[]{aValue, new BytesRef(aPosition.id())});
+    }
+
+    private static Position toPosition(final FieldDoc aFieldDoc) {
+        final var anId = ((BytesRef) aFieldDoc.fields[1]).utf8ToString();
+
+        if (aFieldDoc.fields[0] instanceof BytesRef aBytesRef)
+            return new Position(anId, aBytesRef.utf8ToString());
+
+        if (aFieldDoc.fields[0] instanceof Long aMicros)
+            return new Position(anId, Instant.ofEpochSecond(aMicros / 1_000_000, aMicros % 1_000_000 * 1_000).toString());
+
+        return new Position(anId, aFieldDoc.fields[0].toString());
+    }
+
+    private static Instant parseInstant(final String aValue) {
+        try {
+            return Instant.parse(aValue);
+        } catch (final DateTimeParseException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    private static Document toDocument(final Category aCategory) {
+        final var aDocument = new Document();
+        final var anId = aCategory.getId().getValue();
+
+        aDocument.add(new StringField(ID, anId, Field.Store.YES));
+        aDocument.add(new SortedDocValuesField(ID, new BytesRef(anId)));
+
+        aDocument.add(new TextField(NAME, aCategory.getName(), Field.Store.NO));
+        // Ordena pela mesma chave do banco (name_search), comparada byte a byte nos dois
+        aDocument.add(new SortedDocValuesField(NAME, new BytesRef(SearchUtils.normalize(aCategory.getName()))));
+
+        if (aCategory.getDescription() != null)
+            aDocument.add(new TextField(DESCRIPTION, aCategory.getDescription(), Field.Store.NO));
+
+        aDocument.add(new NumericDocValuesField(CREATED_AT, micros(aCategory.getCreatedAt())));
+        aDocument.add(new NumericDocValuesField(UPDATED_AT, micros(aCategory.getUpdatedAt())));
+
+        return aDocument;
+    }
+
+    // Mesma precisão do DATETIME(6)
+    private static long micros(final Instant anInstant) {
+        return anInstant.getEpochSecond() * 1_000_000 + anInstant.getNano() / 1_000;
+    }
+
+    /**
+     * @param next É a posição do último item, presente apenas se existir uma próxima página
+     */
+    public record SearchResult(List<CategoryID> ids, long total, Position next) {}
+
+    /**
+     * Posição de um item na ordenação: o valor ordenado (name normalizado, instante ISO-8601 ou score) e o id
+     */
+    public record Position(String id, String value) {}
+
+    private static class FoldingAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(final String fieldName) {
+            final var tokenizer = new StandardTokenizer();
+            return new TokenStreamComponents(tokenizer, new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer)));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.suggest;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySuggestion;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.utils.SearchUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Trie em memória com os names normalizados (SearchUtils) das categorias ativas, utilizado no autocomplete.
+ * As leituras não bloqueiam: os nós usam mapas concorrentes, ordenados para que as sugestões saiam em ordem
+ * alfabética. As escritas são serializadas entre si e removem os nós que ficam vazios
+ */
+public class CategorySuggestIndex {
+
+    private final Node root = new Node();
+
+    // Chave atual de cada categoria no trie, para encontrar o nó antigo quando o name muda ou ela é removida
+    private final Map<CategoryID, String> keys = new HashMap<>();
+
+    /**
+     * Adiciona ou atualiza as categorias; as inativas são removidas do trie
+     */
+    public synchronized void index(final Collection<Category> aCategories) {
+        for (final var aCategory : aCategories) {
+            remove(aCategory.getId());
+
+            if (aCategory.isActive())
+                insert(aCategory);
+        }
+    }
+
+    public synchronized void delete(final Collection<CategoryID> anIds) {
+        anIds.forEach(this::remove);
+    }
+
+    public synchronized void clear() {
+        root.children.clear();
+        root.entries.clear();
+        keys.clear();
+    }
+
+    public synchronized int size() {
+        return keys.size();
+    }
+
+    /**
+     * @return até aLimit categorias cujo name normalizado começa com o prefixo, em ordem alfabética
+     */
+    public List<CategorySuggestion> suggest(final String aPrefix, final int aLimit) {
+        var aNode = root;
+
+        for (final var aChar : SearchUtils.normalize(aPrefix).toCharArray()) {
+            aNode = aNode.children.get(aChar);
+
+            if (aNode == null)
+                return List.of();
+        }
+
+        final var suggestions = new ArrayList<CategorySuggestion>(aLimit);
+        final var pending = new ArrayDeque<Node>();
+        pending.push(aNode);
+
+        // Busca em profundidade em pré-ordem: um name vem antes dos que o estendem ("ação" antes de "ação e aventura")
+        while (!pending.isEmpty() && suggestions.size() < aLimit) {
+            final var current = pending.pop();
+
+            for (final var aSuggestion : current.entries.values()) {
+                if (suggestions.size() == aLimit)
+                    break;
+
+                suggestions.add(aSuggestion);
+            }
+
+            current.children.descendingMap().values().forEach(pending::push);
+        }
+
+        return suggestions;
+    }
+
+    private void insert(final Category aCategory) {
+        final var aKey = SearchUtils.normalize(aCategory.getName());
+        var aNode = root;
+
+        for (final var aChar : aKey.toCharArray())
+            aNode = aNode.children.computeIfAbsent(aChar, ignored -> new Node());
+
+        aNode.entries.put(aCategory.getId().getValue(), new CategorySuggestion(aCategory.getId(), aCategory.getName()));
+        keys.put(aCategory.getId(), aKey);
+    }
+
+    private void remove(final CategoryID anId) {
+        final var aKey = keys.remove(anId);
+
+        if (aKey == null)
+            return;
+
+        final var path = new ArrayList<Node>(aKey.length() + 1);
+        var aNode = root;
+        path.add(aNode);
+
+        for (final var aChar : aKey.toCharArray()) {
+            aNode = aNode.children.get(aChar);
+            path.add(aNode);
+        }
+
+        aNode.entries.remove(anId.getValue());
+
+        // Remove de baixo para cima os nós que ficaram sem categorias e sem filhos
+        for (int i = aKey.length(); i > 0 && path.get(i).isEmpty(); i--)
+            path.get(i - 1).children.remove(aKey.charAt(i - 1));
+    }
+
+    private static class Node {
+
+        private final ConcurrentSkipListMap<Character, Node> children = new ConcurrentSkipListMap<>();
+
+        // Categorias cujo name termina neste nó, ordenadas pelo id para que o resultado seja estável
+        private final ConcurrentSkipListMap<String, CategorySuggestion> entries = new ConcurrentSkipListMap<>();
+
+        private boolean isEmpty() {
+            return children.isEmpty() && entries.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.CachedCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.CategoryCacheInvalidationPoller;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.SearchIndexedCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.NameIndexedCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryChangeRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+/**
+ * O CachedCategoryGateway é o @Primary, então quem injeta um CategoryGateway (os use cases)
+ * passa pelo cache, pelo trie do suggest, pelo índice de busca (quando habilitado) e por fim pelo
+ * CategoryMySQLGateway, que continua disponível pelo próprio tipo (ver CategorySearchConfig).
+ * Como ele também é um MeterBinder, as estatísticas do cache são publicadas no MeterRegistry do actuator
+ */
+@Configuration
+@EnableScheduling
+public class CategoryCacheConfig {
+
+    @Bean
+    @Primary
+    public CachedCategoryGateway cachedCategoryGateway(
+        final NameIndexedCategoryGateway nameIndexedCategoryGateway,
+        @Value("${category.cache.maximum-size}") final long maximumSize,
+        @Value("${category.cache.ttl}") final Duration ttl,
+        @Value("${category.cache.negative-ttl}") final Duration negativeTtl,
+        @Value("${datasource.read-your-writes-window}") final Duration replicaLag
+    ) {
+        return new CachedCategoryGateway(nameIndexedCategoryGateway, maximumSize, ttl, negativeTtl, replicaLag);
+    }
+
+    @Bean
+    public CategoryCacheInvalidationPoller categoryCacheInvalidationPoller(
+        final CategoryChangeRepository categoryChangeRepository,
+        final CachedCategoryGateway cachedCategoryGateway,
+        final NameIndexedCategoryGateway nameIndexedCategoryGateway,
+        final ObjectProvider<SearchIndexedCategoryGateway> searchIndexedCategoryGateway,
+        @Value("${category.cache.invalidation.overlap}") final Duration overlap,
+        @Value("${category.cache.invalidation.retention}") final Duration retention
+    ) {
+        final var searchIndex = searchIndexedCategoryGateway.getIfAvailable();
+
+        return new CategoryCacheInvalidationPoller(categoryChangeRepository, ids -> {
+            cachedCategoryGateway.invalidateAll(ids);
+            nameIndexedCategoryGateway.reindex(ids);
+
+            if (searchIndex != null)
+                searchIndex.reindex(ids);
+        }, overlap, retention);
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.CategoryCountersReconciler;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryCountersRepository;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Os contadores são mantidos pelo CategoryMySQLGateway; o reconciler roda em todas as instâncias, mas
+ * como trava as linhas dos contadores as execuções simultâneas apenas se enfileiram
+ */
+@Configuration
+public class CategoryCountersConfig {
+
+    @Bean
+    public CategoryCountersReconciler categoryCountersReconciler(
+        final CategoryCountersRepository categoryCountersRepository,
+        final CategoryRepository categoryRepository,
+        final PlatformTransactionManager transactionManager
+    ) {
+        return new CategoryCountersReconciler(categoryCountersRepository, categoryRepository, new TransactionTemplate(transactionManager));
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration;
+
+import br.com.lukinhasssss.admin.catalogo.application.category.importing.ImportCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing.CategoryImportService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CategoryImportConfig {
+
+    @Bean
+    public CategoryImportService categoryImportService(final ImportCategoriesUseCase importCategoriesUseCase) {
+        return new CategoryImportService(importCategoriesUseCase);
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.CategorySearchColumnsBackfill;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.SearchIndexedCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.NameIndexedCategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.fuzzy.CategoryTrigramIndex;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.suggest.CategorySuggestIndex;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+/**
+ * O índice fica em disco local, um por instância (o Lucene não permite dois processos escrevendo no mesmo diretório),
+ * e é reconstruído a partir do banco toda vez que a aplicação sobe.
+ * Os índices em memória dos names (trie do suggest e trigramas da busca fuzzy, sempre habilitados) e o backfill
+ * das colunas *_search também rodam na subida; o backfill não faz nada quando todas já estão preenchidas
+ */
+@Configuration
+public class CategorySearchConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "category.search.enabled", havingValue = "true")
+    public CategorySearchIndex categorySearchIndex(@Value("${category.search.index-path}") final Path indexPath) {
+        return new CategorySearchIndex(indexPath);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "category.search.enabled", havingValue = "true")
+    public SearchIndexedCategoryGateway searchIndexedCategoryGateway(
+        final CategoryMySQLGateway categoryMySQLGateway,
+        final CategorySearchIndex categorySearchIndex
+    ) {
+        return new SearchIndexedCategoryGateway(categoryMySQLGateway, categorySearchIndex);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "category.search.enabled", havingValue = "true")
+    public ApplicationRunner categorySearchIndexRebuild(final SearchIndexedCategoryGateway searchIndexedCategoryGateway) {
+        return args -> searchIndexedCategoryGateway.rebuild();
+    }
+
+    @Bean
+    public NameIndexedCategoryGateway nameIndexedCategoryGateway(
+        final CategoryMySQLGateway categoryMySQLGateway,
+        final ObjectProvider<SearchIndexedCategoryGateway> searchIndexedCategoryGateway,
+        @Value("${category.search.fuzzy-threshold}") final double fuzzyThreshold
+    ) {
+        final CategoryGateway searchIndexed = searchIndexedCategoryGateway.getIfAvailable();
+
+        return new NameIndexedCategoryGateway(
+            searchIndexed != null ? searchIndexed : categoryMySQLGateway,
+            new CategorySuggestIndex(),
+            new CategoryTrigramIndex(fuzzyThreshold)
+        );
+    }
+
+    @Bean
+    public ApplicationRunner categoryNameIndexRebuild(final NameIndexedCategoryGateway nameIndexedCategoryGateway) {
+        return args -> nameIndexedCategoryGateway.rebuild();
+    }
+
+    @Bean
+    public CategorySearchColumnsBackfill categorySearchColumnsBackfill(
+        final CategoryRepository categoryRepository,
+        final PlatformTransactionManager transactionManager,
+        @Value("${category.search.backfill-batch-size}") final int batchSize
+    ) {
+        return new CategorySearchColumnsBackfill(categoryRepository, new TransactionTemplate(transactionManager), batchSize);
+    }
+
+    @Bean
+    public ApplicationRunner categorySearchColumnsBackfillRunner(final CategorySearchColumnsBackfill categorySearchColumnsBackfill) {
+        return args -> categorySearchColumnsBackfill.run();
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource.BoundedDataSource;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource.ReadYourWritesFilter;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Substitui o pool único do Spring por um pool para o master (spring.datasource.hikari) e um pool para cada réplica
+ * (datasource.replica.hikari), assim as listagens não disputam conexões com as escritas.
+ * Com o datasource.acquire-timeout (perfil virtual-threads) cada pool também ganha uma fila limitada ao seu tamanho
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(final DataSourceProperties properties, final Environment environment) {
+        final var binder = Binder.get(environment);
+
+        final var primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        final var urls = binder.bind("datasource.replica.urls", Bindable.listOf(String.class)).orElse(List.of());
+        final var acquireTimeout = binder.bind("datasource.acquire-timeout", Duration.class).orElse(null);
+        final var replicas = new ArrayList<DataSource>();
+
+        for (int i = 0; i < urls.size(); i++) {
+            final var aReplica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(urls.get(i))
+                .build();
+
+            binder.bind("datasource.replica.hikari", Bindable.ofInstance(aReplica));
+            aReplica.setPoolName("replica-" + i);
+            replicas.add(bounded(aReplica, acquireTimeout));
+        }
+
+        return new ReplicaRoutingDataSource(bounded(primary, acquireTimeout), replicas);
+    }
+
+    private static DataSource bounded(final HikariDataSource aPool, final Duration acquireTimeout) {
+        if (acquireTimeout == null)
+            return aPool;
+
+        return new BoundedDataSource(aPool, aPool.getMaximumPoolSize(), acquireTimeout);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+        @Value("${datasource.read-your-writes-window}") final Duration window
+    ) {
+        return new ReadYourWritesFilter(window);
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.usecases.UseCaseExecutor;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Perfil virtual-threads: cada requisição (controller, use cases e JDBC) roda em uma virtual thread ao invés de ocupar
+ * uma das threads worker do Undertow, assim uma rajada de requisições não fica limitada pela quantidade de workers.
+ * O acesso ao banco continua limitado pelo tamanho dos pools (datasource.acquire-timeout, ver BoundedDataSource).
+ * O projeto ainda compila com o Java 17, então o perfil só pode ser ativado em um runtime Java 21 ou superior:
+ * em um runtime anterior a aplicação não sobe (ver checkRuntime)
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    static final int MIN_JAVA_VERSION = 21;
+
+    public VirtualThreadsConfig() {
+        checkRuntime(Runtime.version().feature());
+    }
+
+    /**
+     * Falha antes de criar qualquer bean do perfil, com a versão do runtime na mensagem, ao invés de deixar a
+     * aplicação subir pela metade
+     */
+    static void checkRuntime(final int aJavaVersion) {
+        if (aJavaVersion < MIN_JAVA_VERSION)
+            throw new IllegalStateException(
+                "The virtual-threads profile requires Java %d or newer, but the runtime is Java %d: upgrade the runtime or remove the profile from spring.profiles.active"
+                    .formatted(MIN_JAVA_VERSION, aJavaVersion)
+            );
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadsUndertowCustomizer() {
+        final var executor = newVirtualThreadPerTaskExecutor();
+
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo.setExecutor(executor));
+    }
+
+    /**
+     * Os use cases assíncronos também rodam cada um em uma virtual thread, limitados apenas pelos pools do banco
+     */
+    @Bean
+    public UseCaseExecutor useCaseExecutor() {
+        return UseCaseExecutor.of(newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Com o toolchain no Java 17 o Executors.newVirtualThreadPerTaskExecutor não existe em tempo de compilação;
+     * o checkRuntime já garantiu que ele existe no runtime
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create the virtual thread executor", e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limita quantas conexões podem estar emprestadas ao mesmo tempo, com o mesmo tamanho do pool.
+ * Com virtual threads não existe mais o limite das threads worker, então uma rajada de requisições chegaria inteira ao
+ * pool e estouraria o connection-timeout dele; aqui elas esperam em uma fila justa (a espera de uma virtual thread no
+ * Semaphore não ocupa uma thread do sistema) e só falham depois do acquireTimeout
+ */
+public class BoundedDataSource extends DelegatingDataSource implements Closeable {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public BoundedDataSource(final DataSource aDataSource, final int maxConnections, final Duration acquireTimeout) {
+        super(aDataSource);
+        this.permits = new Semaphore(maxConnections, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (final SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquire();
+
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (final SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (getTargetDataSource() instanceof Closeable closeable)
+            closeable.close();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                throw new SQLTransientConnectionException(
+                    "No connection available, request timed out after %dms waiting in the queue".formatted(acquireTimeout.toMillis())
+                );
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    // A permissão é devolvida uma única vez, mesmo que a conexão seja fechada mais de uma vez
+    private Connection releasingOnClose(final Connection aConnection) {
+        final var released = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if ("equals".equals(method.getName()) && method.getParameterCount() == 1)
+                    return proxy == args[0];
+
+                if ("hashCode".equals(method.getName()) && method.getParameterCount() == 0)
+                    return System.identityHashCode(proxy);
+
+                try {
+                    return method.invoke(aConnection, args);
+                } catch (final InvocationTargetException e) {
+                    throw e.getCause();
+                } finally {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true))
+                        permits.release();
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Define, por thread, se as conexões abertas devem ir para uma réplica ou para o master.
+ * Por padrão tudo vai para o master; apenas o que roda dentro de {@link #onReplica(Supplier)} pode ir para as réplicas,
+ * e só se a requisição não estiver presa ao master por ter escrito há pouco tempo (read-your-writes)
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> REPLICA = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRouting() {}
+
+    public static <T> T onReplica(final Supplier<T> aSupplier) {
+        return route(true, aSupplier);
+    }
+
+    public static <T> T onPrimary(final Supplier<T> aSupplier) {
+        return route(false, aSupplier);
+    }
+
+    /**
+     * Prende a thread atual ao master até o {@link #unpin()}, inclusive o que rodar dentro de {@link #onReplica(Supplier)}
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(true);
+    }
+
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    /**
+     * Leva o roteamento da thread atual para um código que vai rodar em outra thread (ex: uma query em paralelo),
+     * inclusive se ela está presa ao master, que continua valendo para o que rodar dentro de {@link #onReplica(Supplier)}
+     */
+    public static <T> Supplier<T> propagate(final Supplier<T> aSupplier) {
+        final var replica = useReplica();
+        final var pinned = PINNED_TO_PRIMARY.get();
+        return () -> pinned(pinned, () -> route(replica, aSupplier));
+    }
+
+    /**
+     * Executor que propaga o roteamento de quem submete para cada tarefa (ex: os use cases assíncronos)
+     */
+    public static Executor propagating(final Executor anExecutor) {
+        return aCommand -> {
+            final var aTask = propagate(() -> {
+                aCommand.run();
+                return null;
+            });
+            anExecutor.execute(aTask::get);
+        };
+    }
+
+    public static boolean useReplica() {
+        return REPLICA.get() && !PINNED_TO_PRIMARY.get();
+    }
+
+    private static <T> T pinned(final boolean pinned, final Supplier<T> aSupplier) {
+        final var previous = PINNED_TO_PRIMARY.get();
+        PINNED_TO_PRIMARY.set(pinned);
+        try {
+            return aSupplier.get();
+        } finally {
+            PINNED_TO_PRIMARY.set(previous);
+        }
+    }
+
+    private static <T> T route(final boolean replica, final Supplier<T> aSupplier) {
+        final var previous = REPLICA.get();
+        REPLICA.set(replica);
+        try {
+            return aSupplier.get();
+        } finally {
+            REPLICA.set(previous);
+        }
+    }
+}
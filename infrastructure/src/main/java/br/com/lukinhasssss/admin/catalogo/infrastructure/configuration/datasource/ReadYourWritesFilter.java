@@ -0,0 +1,80 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Garante que um cliente leia o que acabou de escrever mesmo com atraso de replicação: toda requisição de escrita
+ * devolve um cookie com o instante até quando as leituras desse cliente devem ir para o master.
+ * Por ficar no cliente funciona mesmo que a próxima requisição caia em outra instância
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "read-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration window;
+
+    public ReadYourWritesFilter(final Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final var now = Instant.now();
+
+        // O cookie precisa ser adicionado antes da resposta começar a ser escrita
+        if (!READ_METHODS.contains(request.getMethod()))
+            response.addCookie(cookie(now.plus(window)));
+
+        if (!isPinnedToPrimary(request, now)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        DataSourceRouting.pinToPrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DataSourceRouting.unpin();
+        }
+    }
+
+    private Cookie cookie(final Instant until) {
+        final var aCookie = new Cookie(COOKIE_NAME, String.valueOf(until.toEpochMilli()));
+        aCookie.setPath("/");
+        aCookie.setHttpOnly(true);
+        aCookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        return aCookie;
+    }
+
+    private static boolean isPinnedToPrimary(final HttpServletRequest request, final Instant now) {
+        if (request.getCookies() == null)
+            return false;
+
+        return Arrays.stream(request.getCookies())
+            .filter(aCookie -> COOKIE_NAME.equals(aCookie.getName()))
+            .anyMatch(aCookie -> {
+                try {
+                    return Long.parseLong(aCookie.getValue()) > now.toEpochMilli();
+                } catch (final NumberFormatException ex) {
+                    return false;
+                }
+            });
+    }
+}
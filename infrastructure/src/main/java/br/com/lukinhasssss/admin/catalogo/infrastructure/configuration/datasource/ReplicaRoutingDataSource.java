@@ -0,0 +1,57 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que entrega conexões do master ou, quando o {@link DataSourceRouting} permitir, de uma das réplicas (round-robin).
+ * Sem réplicas configuradas tudo vai para o master. É dono dos pools, então fecha todos eles no shutdown
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(final DataSource primary, final List<? extends DataSource> replicas) {
+        this.primary = Objects.requireNonNull(primary);
+        this.replicas = List.copyOf(replicas);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return current().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return current().getConnection(username, password);
+    }
+
+    @Override
+    public void close() throws IOException {
+        final var dataSources = new ArrayList<DataSource>(replicas);
+        dataSources.add(primary);
+
+        for (final var aDataSource : dataSources) {
+            if (aDataSource instanceof Closeable closeable)
+                closeable.close();
+        }
+    }
+
+    private DataSource current() {
+        if (replicas.isEmpty() || !DataSourceRouting.useReplica())
+            return primary;
+
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+}
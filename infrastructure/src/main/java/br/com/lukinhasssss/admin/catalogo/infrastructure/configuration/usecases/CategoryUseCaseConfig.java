@@ -1,19 +1,50 @@
 package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.usecases;
 
+import br.com.lukinhasssss.admin.catalogo.application.category.bulk.BulkUpsertCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.bulk.DefaultBulkUpsertCategoriesUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.importing.DefaultImportCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.importing.ImportCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.AsyncGetCategoriesByIdsUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoriesByIdsOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.ExecutorAsyncGetCategoriesByIdsUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.ExecutorAsyncGetCategoryByIdUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
 import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.ExecutorAsyncListCategoriesUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats.AsyncGetCategoryStatsUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats.CategoryStatsOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats.DefaultGetCategoryStatsUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats.ExecutorAsyncGetCategoryStatsUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats.GetCategoryStatsUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest.CategorySuggestOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest.DefaultSuggestCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest.SuggestCategoriesCommand;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
 public class CategoryUseCaseConfig {
 
@@ -33,18 +64,131 @@ public class CategoryUseCaseConfig {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    /**
+     * As consultas rodam nas réplicas, o que for escrita continua no master
+     */
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(categoryGateway);
+        final var useCase = new DefaultGetCategoryByIdUseCase(categoryGateway);
+
+        return new GetCategoryByIdUseCase() {
+            @Override
+            public CategoryOutput execute(final String anId) {
+                return DataSourceRouting.onReplica(() -> useCase.execute(anId));
+            }
+        };
+    }
+
+    /**
+     * Resolve todos os ids em uma única consulta, passando pelo cache do findById
+     */
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        final var useCase = new DefaultGetCategoriesByIdsUseCase(categoryGateway);
+
+        return new GetCategoriesByIdsUseCase() {
+            @Override
+            public CategoriesByIdsOutput execute(final List<String> anIds) {
+                return DataSourceRouting.onReplica(() -> useCase.execute(anIds));
+            }
+        };
     }
 
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(categoryGateway);
+        final var useCase = new DefaultListCategoriesUseCase(categoryGateway);
+
+        return new ListCategoriesUseCase() {
+            @Override
+            public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
+                return DataSourceRouting.onReplica(() -> useCase.execute(aQuery));
+            }
+        };
+    }
+
+    /**
+     * Atendido pelo trie em memória; só vai para a réplica enquanto o trie ainda está sendo construído
+     */
+    @Bean
+    public SuggestCategoriesUseCase suggestCategoriesUseCase() {
+        final var useCase = new DefaultSuggestCategoriesUseCase(categoryGateway);
+
+        return new SuggestCategoriesUseCase() {
+            @Override
+            public List<CategorySuggestOutput> execute(final SuggestCategoriesCommand aCommand) {
+                return DataSourceRouting.onReplica(() -> useCase.execute(aCommand));
+            }
+        };
+    }
+
+    /**
+     * Lê apenas as linhas do category_counters
+     */
+    @Bean
+    public GetCategoryStatsUseCase getCategoryStatsUseCase() {
+        final var useCase = new DefaultGetCategoryStatsUseCase(categoryGateway);
+
+        return new GetCategoryStatsUseCase() {
+            @Override
+            public CategoryStatsOutput execute() {
+                return DataSourceRouting.onReplica(useCase::execute);
+            }
+        };
+    }
+
+    /**
+     * Variantes assíncronas das consultas, para os controllers não prenderem as threads worker enquanto o banco responde.
+     * Embrulham os beans acima, então continuam indo para as réplicas
+     */
+    @Bean
+    public AsyncGetCategoryByIdUseCase asyncGetCategoryByIdUseCase(
+        final GetCategoryByIdUseCase getCategoryByIdUseCase,
+        final UseCaseExecutor useCaseExecutor
+    ) {
+        return new ExecutorAsyncGetCategoryByIdUseCase(getCategoryByIdUseCase, useCaseExecutor.get());
+    }
+
+    @Bean
+    public AsyncGetCategoriesByIdsUseCase asyncGetCategoriesByIdsUseCase(
+        final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
+        final UseCaseExecutor useCaseExecutor
+    ) {
+        return new ExecutorAsyncGetCategoriesByIdsUseCase(getCategoriesByIdsUseCase, useCaseExecutor.get());
+    }
+
+    @Bean
+    public AsyncListCategoriesUseCase asyncListCategoriesUseCase(
+        final ListCategoriesUseCase listCategoriesUseCase,
+        final UseCaseExecutor useCaseExecutor
+    ) {
+        return new ExecutorAsyncListCategoriesUseCase(listCategoriesUseCase, useCaseExecutor.get());
+    }
+
+    @Bean
+    public AsyncGetCategoryStatsUseCase asyncGetCategoryStatsUseCase(
+        final GetCategoryStatsUseCase getCategoryStatsUseCase,
+        final UseCaseExecutor useCaseExecutor
+    ) {
+        return new ExecutorAsyncGetCategoryStatsUseCase(getCategoryStatsUseCase, useCaseExecutor.get());
     }
 
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
+
+    @Bean
+    public BulkUpsertCategoriesUseCase bulkUpsertCategoriesUseCase() {
+        return new DefaultBulkUpsertCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ImportCategoriesUseCase importCategoriesUseCase() {
+        return new DefaultImportCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
+    }
 }
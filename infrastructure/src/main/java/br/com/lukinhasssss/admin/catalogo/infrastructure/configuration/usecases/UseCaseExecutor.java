@@ -0,0 +1,65 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.usecases;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor onde rodam os use cases assíncronos, com o roteamento do datasource (réplica, read-your-writes) de quem submete.
+ * Não é um bean do tipo Executor para não tomar o lugar do applicationTaskExecutor do Spring, que roda o export
+ */
+public class UseCaseExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final Executor propagating;
+
+    private UseCaseExecutor(final ExecutorService executor) {
+        this.executor = executor;
+        this.propagating = DataSourceRouting.propagating(executor);
+    }
+
+    public static UseCaseExecutor of(final ExecutorService anExecutor) {
+        return new UseCaseExecutor(anExecutor);
+    }
+
+    /**
+     * Cada thread ocupa uma conexão enquanto o use case roda, então não adianta ter mais threads que conexões no pool.
+     * Com as threads e a fila cheias o use case roda na própria thread da requisição, como antes
+     */
+    public static UseCaseExecutor bounded(final int threads, final int queueCapacity) {
+        final var counter = new AtomicInteger();
+
+        final var anExecutor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            aRunnable -> {
+                final var aThread = new Thread(aRunnable, "use-case-" + counter.incrementAndGet());
+                aThread.setDaemon(true);
+                return aThread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        anExecutor.allowCoreThreadTimeOut(true);
+
+        return new UseCaseExecutor(anExecutor);
+    }
+
+    public Executor get() {
+        return propagating;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.usecases;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * No perfil virtual-threads o executor é definido pelo VirtualThreadsConfig
+ */
+@Configuration
+@Profile("!virtual-threads")
+public class UseCaseExecutorConfig {
+
+    @Bean
+    public UseCaseExecutor useCaseExecutor(
+        @Value("${category.async.threads}") final int threads,
+        @Value("${category.async.queue-capacity}") final int queueCapacity,
+        @Value("${category.list.count-threads}") final int countThreads,
+        @Value("${spring.datasource.hikari.maximum-pool-size}") final int masterPoolSize,
+        @Value("${datasource.replica.hikari.maximum-pool-size}") final int replicaPoolSize
+    ) {
+        checkConnectionBudget(threads, countThreads, Math.min(masterPoolSize, replicaPoolSize));
+        return UseCaseExecutor.bounded(threads, queueCapacity);
+    }
+
+    /**
+     * Cada thread dos use cases e cada thread do CategoryCountExecutor ocupa uma conexão ao mesmo tempo: uma busca por terms
+     * usa uma conexão para a página e outra para o COUNT. Se as duas juntas passarem do tamanho do pool, uma rajada de buscas
+     * falha no connection-timeout do Hikari ao invés de esperar por uma thread, então a aplicação nem sobe
+     */
+    static void checkConnectionBudget(final int threads, final int countThreads, final int poolSize) {
+        if (threads + countThreads > poolSize)
+            throw new IllegalStateException(
+                "category.async.threads (%d) + category.list.count-threads (%d) must not exceed the connection pool size (%d)"
+                    .formatted(threads, countThreads, poolSize)
+            );
+    }
+}
@@ -1,20 +1,49 @@
 package br.com.lukinhasssss.admin.catalogo.infrastructure.utils;
 
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Expression;
+
 public final class SpecificationUtils {
 
     private SpecificationUtils() {}
 
     /**
-     * @param prop É a propriedade que queremos filtrar
-     * @param term É o conteúdo que queremos filtrar
+     * Filtra por uma coluna já normalizada (ver {@link SearchUtils#normalize}), sem UPPER() por linha na consulta
+     *
+     * @param prop É a propriedade normalizada que queremos filtrar
+     * @param term É o conteúdo que queremos filtrar, normalizado da mesma forma aqui
      */
-    public static <T>Specification<T> like(final String prop, final String term) {
-        return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
+    public static <T>Specification<T> normalizedLike(final String prop, final String term) {
+        return (root, query, cb) -> cb.like(root.get(prop), like(SearchUtils.normalize(term)));
     }
 
     public static String like(final String term) {
         return "%" + term + "%";
     }
+
+    /**
+     * Busca por keyset (seek): retorna apenas as linhas posteriores ao par (prop, id) informado,
+     * equivalente a (prop, id) > (value, id) quando asc e (prop, id) < (value, id) quando desc
+     *
+     * @param prop  É a propriedade utilizada na ordenação
+     * @param value É o valor da propriedade na última linha da página anterior
+     * @param id    É o id da última linha da página anterior, utilizado como desempate
+     */
+    public static <T, Y extends Comparable<? super Y>> Specification<T> after(
+        final String prop,
+        final Y value,
+        final String id,
+        final Direction direction
+    ) {
+        return (root, query, cb) -> {
+            final Expression<Y> column = root.get(prop);
+            final Expression<String> idColumn = root.get("id");
+
+            return direction.isAscending()
+                ? cb.or(cb.greaterThan(column, value), cb.and(cb.equal(column, value), cb.greaterThan(idColumn, id)))
+                : cb.or(cb.lessThan(column, value), cb.and(cb.equal(column, value), cb.lessThan(idColumn, id)));
+        };
+    }
 }
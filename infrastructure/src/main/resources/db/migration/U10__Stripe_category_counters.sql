@@ -0,0 +1,7 @@
+-- A tabela derivada é materializada, o que permite ler a category_counters no UPDATE dela mesma no MySQL
+UPDATE category_counters
+SET total_count = (SELECT s.total FROM (SELECT SUM(total_count) AS total FROM category_counters) s),
+    active_count = (SELECT s.active FROM (SELECT SUM(active_count) AS active FROM category_counters) s)
+WHERE id = 1;
+
+DELETE FROM category_counters WHERE id <> 1;
@@ -0,0 +1 @@
+DROP TABLE category_change_log;
\ No newline at end of file
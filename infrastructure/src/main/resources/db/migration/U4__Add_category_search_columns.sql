@@ -0,0 +1,4 @@
+DROP INDEX idx_category_name_search ON category;
+
+ALTER TABLE category DROP COLUMN description_search;
+ALTER TABLE category DROP COLUMN name_search;
\ No newline at end of file
@@ -0,0 +1,3 @@
+DROP INDEX idx_category_updated_at_id ON category;
+DROP INDEX idx_category_created_at_id ON category;
+DROP INDEX idx_category_name_id ON category;
@@ -0,0 +1,2 @@
+ALTER TABLE category_change_log DROP COLUMN category_id_bin;
+ALTER TABLE category DROP COLUMN id_bin;
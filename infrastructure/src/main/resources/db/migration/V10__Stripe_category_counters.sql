@@ -0,0 +1,4 @@
+-- Os contadores passam a ser a soma das linhas 1 a 16 (CategoryCounterSlots.SLOTS), a linha 1 mantém os valores atuais
+INSERT INTO category_counters (id, total_count, active_count)
+VALUES (2, 0, 0), (3, 0, 0), (4, 0, 0), (5, 0, 0), (6, 0, 0), (7, 0, 0), (8, 0, 0), (9, 0, 0),
+       (10, 0, 0), (11, 0, 0), (12, 0, 0), (13, 0, 0), (14, 0, 0), (15, 0, 0), (16, 0, 0);
@@ -0,0 +1,7 @@
+CREATE TABLE category_change_log(
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    category_id VARCHAR(36) NOT NULL,
+    changed_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE INDEX idx_category_change_log_changed_at ON category_change_log (changed_at);
@@ -0,0 +1,4 @@
+ALTER TABLE category ADD COLUMN name_search VARCHAR(255);
+ALTER TABLE category ADD COLUMN description_search VARCHAR(4000);
+
+CREATE INDEX idx_category_name_search ON category (name_search);
@@ -0,0 +1,8 @@
+CREATE TABLE category_counters(
+    id INT NOT NULL PRIMARY KEY,
+    total_count BIGINT NOT NULL,
+    active_count BIGINT NOT NULL
+);
+
+INSERT INTO category_counters (id, total_count, active_count)
+SELECT 1, (SELECT COUNT(*) FROM category), (SELECT COUNT(*) FROM category WHERE active = TRUE);
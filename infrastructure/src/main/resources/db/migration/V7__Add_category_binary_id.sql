@@ -0,0 +1,2 @@
+ALTER TABLE category ADD COLUMN id_bin BINARY(16);
+ALTER TABLE category_change_log ADD COLUMN category_id_bin BINARY(16);
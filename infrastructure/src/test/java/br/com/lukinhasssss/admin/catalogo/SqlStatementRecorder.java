@@ -0,0 +1,54 @@
+package br.com.lukinhasssss.admin.catalogo;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Registra os SQLs que o Hibernate prepara na thread atual, a partir do start. Habilitado no profile test-integration
+ * (hibernate.session_factory.statement_inspector) e utilizado pelos testes que verificam quais queries são executadas
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    public static List<String> start() {
+        final var statements = new ArrayList<String>();
+        RECORDED.set(statements);
+        return statements;
+    }
+
+    public static void stop() {
+        RECORDED.remove();
+    }
+
+    /**
+     * @param aType SELECT, INSERT, UPDATE ou DELETE
+     * @return quantos dos SQLs são do tipo informado sobre a tabela (um SELECT conta se a tabela aparece no FROM)
+     */
+    public static long count(final List<String> statements, final String aType, final String aTable) {
+        final var aTemplate = switch (aType) {
+            case "SELECT" -> "^\\s*select\\b.*\\bfrom\\s+%s\\b";
+            case "INSERT" -> "^\\s*insert\\s+into\\s+%s\\b";
+            case "UPDATE" -> "^\\s*update\\s+%s\\b";
+            case "DELETE" -> "^\\s*delete\\s+from\\s+%s\\b";
+            default -> throw new IllegalArgumentException(aType);
+        };
+
+        final var aPattern = Pattern.compile(aTemplate.formatted(aTable), Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+        return statements.stream().filter(aSql -> aPattern.matcher(aSql).find()).count();
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        final var statements = RECORDED.get();
+
+        if (statements != null)
+            statements.add(sql);
+
+        return sql;
+    }
+}
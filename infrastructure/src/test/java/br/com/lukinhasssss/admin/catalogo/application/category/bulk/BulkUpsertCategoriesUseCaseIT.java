@@ -0,0 +1,100 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.bulk;
+
+import br.com.lukinhasssss.admin.catalogo.IntegrationTest;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@IntegrationTest
+class BulkUpsertCategoriesUseCaseIT {
+
+    @Autowired
+    private BulkUpsertCategoriesUseCase useCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @SpyBean
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenValidCommands_whenCallsBulkUpsert_shouldCreateAndUpdateCategories() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var aCommands = List.of(
+            UpsertCategoryCommand.with("Séries", null, true),
+            UpsertCategoryCommand.with("Documentários", null, false),
+            UpsertCategoryCommand.with(aCategory.getId().getValue(), "Filmes", "A categoria mais assistida", true)
+        );
+
+        final var actualResults = useCase.execute(aCommands);
+
+        assertTrue(actualResults.stream().allMatch(result -> result.isRight()));
+        assertEquals(3, categoryRepository.count());
+
+        final var actualCategory = categoryRepository.findById(aCategory.getId().getValue()).get();
+
+        assertEquals("Filmes", actualCategory.getName());
+        assertEquals("A categoria mais assistida", actualCategory.getDescription());
+        assertEquals(1, actualCategory.getVersion());
+
+        verify(categoryGateway, times(1)).saveAll(any(), any());
+    }
+
+    @Test
+    void givenAnUpdateRejectedByTheDatabase_whenCallsBulkUpsert_shouldNotPersistTheCreatesEither() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        // A descrição passa pela validação do domínio, mas não cabe na coluna
+        final var aCommands = List.of(
+            UpsertCategoryCommand.with("Séries", null, true),
+            UpsertCategoryCommand.with(aCategory.getId().getValue(), "Filmes", "a".repeat(4001), true)
+        );
+
+        final var actualResults = useCase.execute(aCommands);
+
+        assertTrue(actualResults.stream().allMatch(result -> result.isLeft()));
+        assertEquals(1, categoryRepository.count());
+        assertEquals("Filme", categoryRepository.findById(aCategory.getId().getValue()).get().getName());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsBulkUpsert_shouldCreateTheCategoryWithThatId() {
+        final var expectedId = "6f1c0b7e-3d1a-4c55-9a3e-0f1f5a0d2c11";
+
+        final var actualResults = useCase.execute(List.of(UpsertCategoryCommand.with(expectedId, "Filmes", null, true)));
+
+        assertTrue(actualResults.get(0).get().created());
+        assertEquals("Filmes", categoryRepository.findById(expectedId).get().getName());
+    }
+
+    @Test
+    void givenAnInvalidCommand_whenCallsBulkUpsert_shouldPersistOnlyTheValidOnes() {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var aCommands = List.of(
+            UpsertCategoryCommand.with("Filmes", null, true),
+            UpsertCategoryCommand.with(null, null, true)
+        );
+
+        final var actualResults = useCase.execute(aCommands);
+
+        assertTrue(actualResults.get(0).isRight());
+        assertEquals(expectedErrorMessage, actualResults.get(1).getLeft().firstError().message());
+        assertEquals(1, categoryRepository.count());
+    }
+}
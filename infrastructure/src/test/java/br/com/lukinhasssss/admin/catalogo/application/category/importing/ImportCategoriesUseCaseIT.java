@@ -0,0 +1,48 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.IntegrationTest;
+import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryCommand;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@IntegrationTest
+class ImportCategoriesUseCaseIT {
+
+    @Autowired
+    private ImportCategoriesUseCase useCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @SpyBean
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void givenValidAndInvalidRecords_whenCallsImportCategories_shouldPersistTheValidOnesInBatches() {
+        final var expectedImported = DefaultImportCategoriesUseCase.BATCH_SIZE + 1;
+
+        final var records = IntStream.rangeClosed(0, expectedImported)
+            .mapToObj(i -> CreateCategoryCommand.with(i == 0 ? null : "Filmes " + i, null, true))
+            .iterator();
+
+        assertEquals(0, categoryRepository.count());
+
+        final var actualOutput = useCase.execute(ImportCategoriesCommand.with(records));
+
+        assertEquals(expectedImported + 1, actualOutput.processed());
+        assertEquals(expectedImported, actualOutput.imported());
+        assertEquals(1, actualOutput.failed());
+        assertEquals(expectedImported, categoryRepository.count());
+
+        verify(categoryGateway, times(2)).createAll(any());
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.export;
+
+import br.com.lukinhasssss.admin.catalogo.IntegrationTest;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@IntegrationTest
+class ExportCategoriesUseCaseIT {
+
+    @Autowired
+    private ExportCategoriesUseCase useCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    void givenPersistedCategories_whenCallsExportCategories_shouldDeliverAllOrderedById() {
+        final var categories = IntStream.range(0, 25)
+            .mapToObj(i -> Category.newCategory("Filmes " + i, null, true))
+            .toList();
+
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var expectedIds = categories.stream()
+            .map(Category::getId)
+            .sorted(Comparator.comparing(anId -> anId.getValue()))
+            .toList();
+
+        final var actualOutputs = new ArrayList<CategoryOutput>();
+
+        useCase.execute(actualOutputs::add);
+
+        assertEquals(expectedIds, actualOutputs.stream().map(CategoryOutput::id).toList());
+    }
+}
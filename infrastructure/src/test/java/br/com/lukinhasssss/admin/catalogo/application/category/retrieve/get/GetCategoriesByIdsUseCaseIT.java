@@ -0,0 +1,57 @@
+package br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get;
+
+import br.com.lukinhasssss.admin.catalogo.IntegrationTest;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+class GetCategoriesByIdsUseCaseIT {
+
+    @Autowired
+    private GetCategoriesByIdsUseCase useCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void givenExistingAndUnknownIds_whenCallsGetCategoriesByIds_shouldResolveThemInASingleQuery() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, false);
+        final var unknownId = CategoryID.unique();
+
+        save(filmes, series, Category.newCategory("Documentários", null, true));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var actualOutput = useCase.execute(List.of(
+            series.getId().getValue(),
+            unknownId.getValue(),
+            filmes.getId().getValue()
+        ));
+
+        assertEquals(List.of(series.getId(), filmes.getId()), actualOutput.items().stream().map(CategoryOutput::id).toList());
+        assertEquals(List.of(unknownId), actualOutput.missing());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private void save(final Category... aCategory) {
+        categoryRepository.saveAllAndFlush(
+            Arrays.stream(aCategory).map(CategoryJpaEntity::from).toList()
+        );
+    }
+}
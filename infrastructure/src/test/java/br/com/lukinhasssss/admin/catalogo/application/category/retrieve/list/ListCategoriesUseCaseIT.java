@@ -50,7 +50,7 @@ class ListCategoriesUseCaseIT {
         final var expectedTotal = 0;
 
         final var aQuery =
-            new CategorySearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
+            CategorySearchQuery.with(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         final var actualResult = useCase.execute(aQuery);
 
@@ -83,7 +83,7 @@ class ListCategoriesUseCaseIT {
         final var expectedDirection = "asc";
 
         final var aQuery =
-            new CategorySearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
+            CategorySearchQuery.with(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         final var actualResult = useCase.execute(aQuery);
 
@@ -113,7 +113,7 @@ class ListCategoriesUseCaseIT {
         final var expectedTerms = "";
 
         final var aQuery =
-            new CategorySearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
+            CategorySearchQuery.with(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         final var actualResult = useCase.execute(aQuery);
 
@@ -143,7 +143,7 @@ class ListCategoriesUseCaseIT {
         final var expectedTerms = "";
 
         final var aQuery =
-            new CategorySearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
+            CategorySearchQuery.with(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
         final var actualResult = useCase.execute(aQuery);
 
@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.ResultActions;
 import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -25,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @E2ETest
@@ -128,7 +130,7 @@ public class CategoryE2ETest {
     }
 
     @Test
-    void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
+    void asACatalogAdminIShouldBeAbleToSortAllCategoriesByUpdatedAtDesc() throws Exception {
         assertTrue(MY_SQL_CONTAINER.isRunning());
         assertEquals(0, categoryRepository.count());
 
@@ -136,7 +138,7 @@ public class CategoryE2ETest {
         givenACategory("Animes", "B", true);
         givenACategory("Séries", "C", true);
 
-        listCategories(0, 3, "", "description", "desc")
+        listCategories(0, 3, "", "updatedAt", "desc")
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.current_page", equalTo(0)))
             .andExpect(jsonPath("$.per_page", equalTo(3)))
@@ -147,6 +149,16 @@ public class CategoryE2ETest {
             .andExpect(jsonPath("$.items[2].name", equalTo("Filmes")));
     }
 
+    @Test
+    void asACatalogAdminIShouldNotBeAbleToSortCategoriesByAFieldWithoutIndex() throws Exception {
+        assertTrue(MY_SQL_CONTAINER.isRunning());
+
+        listCategories(0, 3, "", "description", "desc")
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors", hasSize(1)))
+            .andExpect(jsonPath("$.errors[0].message", equalTo("'sort' must be one of [createdAt, name, updatedAt]")));
+    }
+
     @Test
     void asACatalogAdminIShouldBeAbleToGetACategoryByItsIdentifier() throws Exception {
         assertTrue(MY_SQL_CONTAINER.isRunning());
@@ -177,7 +189,7 @@ public class CategoryE2ETest {
             .accept(APPLICATION_JSON)
             .contentType(APPLICATION_JSON);
 
-        final var json = mvc.perform(aRequest)
+        final var json = performAsync(aRequest)
             .andExpect(status().isNotFound())
             .andExpect(jsonPath("$.message", equalTo("Category with ID 123 was not found")));
     }
@@ -308,7 +320,7 @@ public class CategoryE2ETest {
             .accept(APPLICATION_JSON)
             .contentType(APPLICATION_JSON);
 
-        final var json = mvc.perform(aRequest)
+        final var json = performAsync(aRequest)
             .andExpect(status().isOk())
             .andReturn()
             .getResponse().getContentAsString();
@@ -340,6 +352,15 @@ public class CategoryE2ETest {
             .accept(APPLICATION_JSON)
             .contentType(APPLICATION_JSON);
 
-        return mvc.perform(aRequest);
+        return performAsync(aRequest);
+    }
+
+    // As consultas são assíncronas: a resposta só é escrita no dispatch que acontece quando o CompletableFuture termina
+    private ResultActions performAsync(final RequestBuilder aRequest) throws Exception {
+        final var result = mvc.perform(aRequest)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        return mvc.perform(asyncDispatch(result));
     }
 }
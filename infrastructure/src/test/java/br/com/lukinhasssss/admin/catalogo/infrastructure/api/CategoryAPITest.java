@@ -1,35 +1,59 @@
 package br.com.lukinhasssss.admin.catalogo.infrastructure.api;
 
 import br.com.lukinhasssss.admin.catalogo.ControllerTest;
+import br.com.lukinhasssss.admin.catalogo.application.category.bulk.BulkUpsertCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.bulk.UpsertCategoryOutput;
 import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryOutput;
 import br.com.lukinhasssss.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoryOutput;
-import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.AsyncGetCategoriesByIdsUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.get.CategoriesByIdsOutput;
 import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
-import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats.CategoryStatsOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.stats.AsyncGetCategoryStatsUseCase;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest.CategorySuggestOutput;
+import br.com.lukinhasssss.admin.catalogo.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import br.com.lukinhasssss.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import br.com.lukinhasssss.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
 import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
 import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.VersionConflictException;
 import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
 import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
 import br.com.lukinhasssss.admin.catalogo.domain.validation.handler.Notification;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing.CategoryImportFormat;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing.CategoryImportJob;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing.CategoryImportService;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.UpsertCategoryRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vavr.control.Either;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -51,7 +75,10 @@ class CategoryAPITest {
     private CreateCategoryUseCase createCategoryUseCase;
 
     @MockBean
-    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private AsyncGetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @MockBean
+    private AsyncGetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
 
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
@@ -60,7 +87,22 @@ class CategoryAPITest {
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
     @MockBean
-    private ListCategoriesUseCase listCategoriesUseCase;
+    private AsyncListCategoriesUseCase listCategoriesUseCase;
+
+    @MockBean
+    private BulkUpsertCategoriesUseCase bulkUpsertCategoriesUseCase;
+
+    @MockBean
+    private CategoryImportService categoryImportService;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @MockBean
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+
+    @MockBean
+    private AsyncGetCategoryStatsUseCase getCategoryStatsUseCase;
 
     @Test
     void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
@@ -178,14 +220,14 @@ class CategoryAPITest {
 
         final var expectedId = aCategory.getId().getValue();
 
-        when(getCategoryByIdUseCase.execute(any())).thenReturn(CategoryOutput.from(aCategory));
+        when(getCategoryByIdUseCase.execute(any())).thenReturn(completedFuture(CategoryOutput.from(aCategory)));
 
         // when
         final var request = get("/categories/{id}", expectedId)
             .accept(APPLICATION_JSON)
             .contentType(APPLICATION_JSON);
 
-        final var response = mvc.perform(request).andDo(print());
+        final var response = performAsync(request);
 
         // then
         response.andExpect(status().isOk())
@@ -207,8 +249,8 @@ class CategoryAPITest {
         final var expectedId = CategoryID.from("123");
         final var expectedErrorMessage = "Category with ID 123 was not found";
 
-        when(getCategoryByIdUseCase.execute(any())).thenThrow(
-            NotFoundException.with(Category.class, expectedId)
+        when(getCategoryByIdUseCase.execute(any())).thenReturn(
+            failedFuture(NotFoundException.with(Category.class, expectedId))
         );
 
         // when
@@ -216,7 +258,7 @@ class CategoryAPITest {
             .accept(APPLICATION_JSON)
             .contentType(APPLICATION_JSON);
 
-        final var response = mvc.perform(request).andDo(print());
+        final var response = performAsync(request);
 
         // then
         response.andExpect(status().isNotFound())
@@ -348,6 +390,38 @@ class CategoryAPITest {
         verify(deleteCategoryUseCase, times(1)).execute(eq(expectedId));
     }
 
+    @Test
+    void givenIds_whenCallsGetCategoriesByIds_shouldReturnTheFoundCategoriesAndTheMissingIds() throws Exception {
+        // given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, false);
+        final var expectedIds = List.of(filmes.getId().getValue(), "123", series.getId().getValue());
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+            .thenReturn(completedFuture(new CategoriesByIdsOutput(
+                List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)),
+                List.of(CategoryID.from("123"))
+            )));
+
+        // when
+        final var request = get("/categories")
+            .queryParam("ids", String.join(",", expectedIds))
+            .accept(APPLICATION_JSON);
+
+        final var response = performAsync(request);
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].id", equalTo(filmes.getId().getValue())))
+            .andExpect(jsonPath("$.items[1].id", equalTo(series.getId().getValue())))
+            .andExpect(jsonPath("$.items[1].is_active", equalTo(false)))
+            .andExpect(jsonPath("$.missing", equalTo(List.of("123"))));
+
+        verify(getCategoriesByIdsUseCase, times(1)).execute(eq(expectedIds));
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
     @Test
     void givenValidParams_whenCallsListCategories_shouldReturnCategories() throws Exception {
         // given
@@ -356,7 +430,7 @@ class CategoryAPITest {
         final var expectedPage = 0;
         final var expectedPerPage = 10;
         final var expectedTerms = "movies";
-        final var expectedSort = "description";
+        final var expectedSort = "updatedAt";
         final var expectedDirection = "desc";
         final var expectedItemsCount = 1;
         final var expectedTotal = 1;
@@ -364,7 +438,7 @@ class CategoryAPITest {
         final var expectedItems = List.of(CategoryListOutput.from(aCategory));
 
         when(listCategoriesUseCase.execute(any()))
-            .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedItems));
+            .thenReturn(completedFuture(new Pagination<>(expectedPage, expectedPerPage, expectedTotal, expectedItems)));
 
         // when
         final var request = get("/categories")
@@ -376,13 +450,14 @@ class CategoryAPITest {
             .accept(APPLICATION_JSON)
             .contentType(APPLICATION_JSON);
 
-        final var response = mvc.perform(request).andDo(print());
+        final var response = performAsync(request);
 
         // then
         response.andExpect(status().isOk())
             .andExpect(jsonPath("$.current_page", equalTo(expectedPage)))
             .andExpect(jsonPath("$.per_page", equalTo(expectedPerPage)))
             .andExpect(jsonPath("$.total", equalTo(expectedTotal)))
+            .andExpect(jsonPath("$.has_next").doesNotExist())
             .andExpect(jsonPath("$.items", hasSize(expectedItemsCount)))
             .andExpect(jsonPath("$.items[0].id", equalTo(aCategory.getId().getValue())))
             .andExpect(jsonPath("$.items[0].name", equalTo(aCategory.getName())))
@@ -399,4 +474,411 @@ class CategoryAPITest {
                 && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    void givenACursor_whenCallsListCategories_shouldPassItToQueryAndReturnNextCursor() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        final var expectedPerPage = 10;
+        final var expectedCursor = "bmFtZQphYmMKTW92aWVz";
+        final var expectedNextCursor = "bmFtZQpkZWYKU2VyaWVz";
+
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(completedFuture(new Pagination<>(0, expectedPerPage, 1, expectedItems, expectedNextCursor)));
+
+        // when
+        final var request = get("/categories")
+            .queryParam("perPage", String.valueOf(expectedPerPage))
+            .queryParam("after", expectedCursor)
+            .accept(APPLICATION_JSON)
+            .contentType(APPLICATION_JSON);
+
+        final var response = performAsync(request);
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].id", equalTo(aCategory.getId().getValue())));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+            Objects.equals(expectedPerPage, query.perPage())
+                && Objects.equals(expectedCursor, query.after())
+                && query.isCursor()
+        ));
+    }
+
+    @Test
+    void givenIncludeDescriptionFalse_whenCallsListCategories_shouldPassItToQuery() throws Exception {
+        // given
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(completedFuture(new Pagination<>(0, 10, 0, List.of())));
+
+        // when
+        final var request = get("/categories")
+            .queryParam("includeDescription", "false")
+            .accept(APPLICATION_JSON)
+            .contentType(APPLICATION_JSON);
+
+        final var response = performAsync(request);
+
+        // then
+        response.andExpect(status().isOk());
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query -> !query.includeDescription()));
+    }
+
+    @Test
+    void givenFuzzyTrue_whenCallsListCategories_shouldPassItToQuery() throws Exception {
+        // given
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(completedFuture(new Pagination<>(0, 10, 0, List.of())));
+
+        // when
+        final var request = get("/categories")
+            .queryParam("search", "flmes")
+            .queryParam("fuzzy", "true")
+            .accept(APPLICATION_JSON)
+            .contentType(APPLICATION_JSON);
+
+        final var response = performAsync(request);
+
+        // then
+        response.andExpect(status().isOk());
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(CategorySearchQuery::isFuzzy));
+    }
+
+    @Test
+    void givenWithTotalFalse_whenCallsListCategories_shouldReturnHasNextInsteadOfTotal() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Movies", null, true);
+
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(completedFuture(Pagination.withoutTotal(0, 1, List.of(CategoryListOutput.from(aCategory)), null, true)));
+
+        // when
+        final var request = get("/categories")
+            .queryParam("perPage", "1")
+            .queryParam("withTotal", "false")
+            .accept(APPLICATION_JSON)
+            .contentType(APPLICATION_JSON);
+
+        final var response = performAsync(request);
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(jsonPath("$.has_next", equalTo(true)))
+            .andExpect(jsonPath("$.total").doesNotExist())
+            .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query -> !query.withTotal()));
+    }
+
+    @Test
+    void givenAPrefix_whenCallsSuggestCategories_shouldReturnTheSuggestions() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Ação", null, true);
+        final var expectedPrefix = "aca";
+        final var expectedLimit = 5;
+
+        when(suggestCategoriesUseCase.execute(any()))
+            .thenReturn(List.of(new CategorySuggestOutput(aCategory.getId(), aCategory.getName())));
+
+        // when
+        final var request = get("/categories/_suggest")
+            .queryParam("prefix", expectedPrefix)
+            .queryParam("limit", String.valueOf(expectedLimit))
+            .accept(APPLICATION_JSON);
+
+        final var response = mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id", equalTo(aCategory.getId().getValue())))
+            .andExpect(jsonPath("$[0].name", equalTo("Ação")));
+
+        verify(suggestCategoriesUseCase, times(1)).execute(argThat(aCommand ->
+            Objects.equals(expectedPrefix, aCommand.prefix()) && Objects.equals(expectedLimit, aCommand.limit())
+        ));
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAValidCall_whenCallsGetCategoryStats_shouldReturnTheCounters() throws Exception {
+        // given
+        when(getCategoryStatsUseCase.execute()).thenReturn(completedFuture(new CategoryStatsOutput(10, 7, 3)));
+
+        // when
+        final var request = get("/categories/_stats")
+            .accept(APPLICATION_JSON);
+
+        final var response = performAsync(request);
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(10)))
+            .andExpect(jsonPath("$.active", equalTo(7)))
+            .andExpect(jsonPath("$.inactive", equalTo(3)));
+
+        verify(getCategoryStatsUseCase, times(1)).execute();
+        verify(getCategoryByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAValidId_whenCallsGetCategory_shouldReturnVersionAsETag() throws Exception {
+        // given
+        final var aCategory = Category.with(Category.newCategory("Filmes", null, true));
+        final var expectedETag = "\"0\"";
+
+        when(getCategoryByIdUseCase.execute(any())).thenReturn(completedFuture(CategoryOutput.from(aCategory)));
+
+        // when
+        final var request = get("/categories/{id}", aCategory.getId().getValue())
+            .accept(APPLICATION_JSON)
+            .contentType(APPLICATION_JSON);
+
+        final var response = performAsync(request);
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(header().string("ETag", expectedETag));
+    }
+
+    @Test
+    void givenAnIfMatchHeader_whenCallsUpdateCategory_shouldPassExpectedVersionAndReturnNewETag() throws Exception {
+        // given
+        final var expectedId = "123";
+        final var expectedVersion = 3L;
+        final var expectedETag = "\"4\"";
+
+        when(updateCategoryUseCase.execute(any()))
+            .thenReturn(Either.right(new UpdateCategoryOutput(expectedId, expectedVersion + 1)));
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+        // when
+        final var request = put("/categories/{id}", expectedId)
+            .header("If-Match", "\"3\"")
+            .accept(APPLICATION_JSON)
+            .contentType(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(aCommand));
+
+        final var response = mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(header().string("ETag", expectedETag))
+            .andExpect(jsonPath("$.id", equalTo(expectedId)));
+
+        verify(updateCategoryUseCase, times(1)).execute(argThat(cmd ->
+            Objects.equals(expectedId, cmd.id())
+                && Objects.equals(expectedVersion, cmd.expectedVersion())
+        ));
+    }
+
+    @Test
+    void givenAStaleIfMatchHeader_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        // given
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 does not match the expected version 1";
+
+        when(updateCategoryUseCase.execute(any())).thenThrow(
+            VersionConflictException.with(Category.class, expectedId, 1)
+        );
+
+        final var aCommand = new UpdateCategoryRequest("Filmes", null, true);
+
+        // when
+        final var request = put("/categories/{id}", expectedId.getValue())
+            .header("If-Match", "\"1\"")
+            .accept(APPLICATION_JSON)
+            .contentType(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(aCommand));
+
+        final var response = mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    void givenValidAndInvalidItems_whenCallsBulkUpsert_shouldReturnTheResultOfEachItem() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var anInput = List.of(
+            new UpsertCategoryRequest(null, "Filmes", null, null),
+            new UpsertCategoryRequest("123", null, null, false)
+        );
+
+        when(bulkUpsertCategoriesUseCase.execute(any())).thenReturn(List.of(
+            Either.right(UpsertCategoryOutput.created(aCategory)),
+            Either.left(Notification.create(new Error(expectedErrorMessage)))
+        ));
+
+        // when
+        final var request = post("/categories/_bulk")
+            .contentType(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(anInput));
+
+        final var response = mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].index", equalTo(0)))
+            .andExpect(jsonPath("$[0].id", equalTo(expectedId)))
+            .andExpect(jsonPath("$[0].created", equalTo(true)))
+            .andExpect(jsonPath("$[0].errors", hasSize(0)))
+            .andExpect(jsonPath("$[1].index", equalTo(1)))
+            .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(bulkUpsertCategoriesUseCase, times(1)).execute(argThat(cmds -> cmds.size() == 2
+            && cmds.get(0).id() == null
+            && cmds.get(0).isActive()
+            && Objects.equals("123", cmds.get(1).id())
+            && !cmds.get(1).isActive()
+        ));
+    }
+
+    @Test
+    void givenANdjsonBody_whenCallsImportCategories_shouldReturnAcceptedWithJobId() throws Exception {
+        // given
+        final var aJob = CategoryImportJob.newJob();
+        final var expectedId = aJob.getId();
+
+        when(categoryImportService.submit(eq(CategoryImportFormat.NDJSON), any())).thenReturn(aJob);
+
+        // when
+        final var request = post("/categories/_import")
+            .contentType("application/x-ndjson")
+            .content("{\"name\": \"Filmes\"}\n");
+
+        final var response = mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "/categories/_import/" + expectedId))
+            .andExpect(jsonPath("$.id", equalTo(expectedId)))
+            .andExpect(jsonPath("$.status", equalTo("PENDING")));
+
+        verify(categoryImportService, times(1)).submit(eq(CategoryImportFormat.NDJSON), any());
+    }
+
+    @Test
+    void givenAnUnsupportedContentType_whenCallsImportCategories_shouldReturnUnsupportedMediaType() throws Exception {
+        // when
+        final var request = post("/categories/_import")
+            .contentType("application/xml")
+            .content("<category/>");
+
+        final var response = mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isUnsupportedMediaType())
+            .andExpect(header().string("Accept", containsString("text/csv")));
+
+        verify(categoryImportService, never()).submit(any(), any());
+    }
+
+    @Test
+    void givenAnUnknownJobId_whenCallsGetImport_shouldReturnNotFound() throws Exception {
+        // given
+        when(categoryImportService.findById(any())).thenReturn(Optional.empty());
+
+        // when
+        final var response = mvc.perform(get("/categories/_import/{id}", "123")).andDo(print());
+
+        // then
+        response.andExpect(status().isNotFound());
+    }
+
+    @Test
+    void givenPersistedCategories_whenCallsExportCategories_shouldStreamOneJsonPerLine() throws Exception {
+        // given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryOutput> aConsumer = invocation.getArgument(0);
+            aConsumer.accept(CategoryOutput.from(filmes));
+            aConsumer.accept(CategoryOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        // when
+        final var result = mvc.perform(get("/categories/_export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        final var response = mvc.perform(asyncDispatch(result)).andDo(print());
+
+        // then
+        final var actualLines = response.andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "application/x-ndjson"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"categories.ndjson\""))
+            .andReturn().getResponse().getContentAsString(UTF_8)
+            .split("\n");
+
+        assertEquals(2, actualLines.length);
+        assertEquals(filmes.getId().getValue(), mapper.readTree(actualLines[0]).get("id").asText());
+        assertEquals("Séries", mapper.readTree(actualLines[1]).get("name").asText());
+    }
+
+    @Test
+    void givenCsvFormat_whenCallsExportCategories_shouldStreamAHeaderAndOneRowPerCategory() throws Exception {
+        // given
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryOutput> aConsumer = invocation.getArgument(0);
+            aConsumer.accept(CategoryOutput.from(filmes));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        // when
+        final var result = mvc.perform(get("/categories/_export").queryParam("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        final var response = mvc.perform(asyncDispatch(result)).andDo(print());
+
+        // then
+        final var actualLines = response.andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+            .andReturn().getResponse().getContentAsString(UTF_8)
+            .split("\n");
+
+        assertEquals(2, actualLines.length);
+        assertEquals("id,name,description,is_active,created_at,updated_at,deleted_at", actualLines[0]);
+        assertTrue(actualLines[1].startsWith(filmes.getId().getValue() + ",Filmes,A categoria mais assistida,true,"));
+    }
+
+    @Test
+    void givenAnUnsupportedFormat_whenCallsExportCategories_shouldReturnUnprocessableEntity() throws Exception {
+        // when
+        final var response = mvc.perform(get("/categories/_export").queryParam("format", "xml")).andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.message", equalTo("'xml' is not a supported export format")));
+
+        verify(exportCategoriesUseCase, never()).execute(any());
+    }
+
+    private ResultActions performAsync(final RequestBuilder aRequest) throws Exception {
+        final var result = mvc.perform(aRequest)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        return mvc.perform(asyncDispatch(result)).andDo(print());
+    }
 }
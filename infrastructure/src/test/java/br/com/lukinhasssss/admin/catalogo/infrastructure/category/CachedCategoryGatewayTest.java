@@ -0,0 +1,204 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private CachedCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = new CachedCategoryGateway(delegate, 100, Duration.ofMinutes(10), Duration.ofMinutes(10), Duration.ofSeconds(5));
+        categoryGateway.bindTo(registry);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsFindByIdAgain_shouldNotCallTheGateway() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        final var firstCategory = categoryGateway.findById(expectedId).get();
+        final var secondCategory = categoryGateway.findById(expectedId).get();
+
+        assertEquals(expectedId, secondCategory.getId());
+        assertEquals(1, registry.get("cache.gets").tags("cache", "category", "result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("cache.gets").tags("cache", "category", "result", "miss").functionCounter().count());
+
+        verify(delegate, times(1)).findById(expectedId);
+    }
+
+    @Test
+    void givenACachedCategory_whenTheReturnedCategoryIsModified_shouldNotChangeTheCachedOne() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.of(aCategory));
+
+        categoryGateway.findById(expectedId).get().update("Séries", null, false);
+
+        final var actualCategory = categoryGateway.findById(expectedId).get();
+
+        assertEquals("Filmes", actualCategory.getName());
+        assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    void givenAnUnknownId_whenCallsFindByIdAgain_shouldCacheTheMiss() {
+        final var expectedId = CategoryID.from("123");
+
+        when(delegate.findById(expectedId)).thenReturn(Optional.empty());
+
+        assertTrue(categoryGateway.findById(expectedId).isEmpty());
+        assertTrue(categoryGateway.findById(expectedId).isEmpty());
+
+        verify(delegate, times(1)).findById(expectedId);
+    }
+
+    @Test
+    void givenSomeCachedIds_whenCallsFindAllByIds_shouldLoadOnlyTheOthersInASingleCall() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var unknownId = CategoryID.from("123");
+
+        when(delegate.findById(filmes.getId())).thenReturn(Optional.of(filmes));
+        when(delegate.findAllByIds(Set.of(series.getId(), unknownId))).thenReturn(List.of(series));
+
+        categoryGateway.findById(filmes.getId());
+
+        final var actualCategories = categoryGateway.findAllByIds(Set.of(filmes.getId(), series.getId(), unknownId));
+
+        assertEquals(
+            Set.of(filmes.getId(), series.getId()),
+            actualCategories.stream().map(Category::getId).collect(Collectors.toSet())
+        );
+
+        // Os ids encontrados e o inexistente ficam no cache, inclusive para o findById
+        assertTrue(categoryGateway.findById(unknownId).isEmpty());
+        assertEquals(2, categoryGateway.findAllByIds(Set.of(filmes.getId(), series.getId(), unknownId)).size());
+
+        verify(delegate, times(1)).findAllByIds(any());
+        verify(delegate, never()).findById(unknownId);
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsUpdate_shouldInvalidateIt() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+        final var expectedId = aCategory.getId();
+        final var anUpdatedCategory = aCategory.clone().update("Filmes", null, true);
+
+        when(delegate.findById(expectedId))
+            .thenReturn(Optional.of(aCategory))
+            .thenReturn(Optional.of(anUpdatedCategory));
+        when(delegate.update(any())).thenAnswer(returnsFirstArg());
+
+        categoryGateway.findById(expectedId);
+        categoryGateway.update(anUpdatedCategory);
+
+        assertEquals("Filmes", categoryGateway.findById(expectedId).get().getName());
+
+        verify(delegate, times(2)).findById(expectedId);
+    }
+
+    @Test
+    void givenACachedMiss_whenCallsCreateAll_shouldInvalidateIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(aCategory));
+        when(delegate.createAll(any())).thenAnswer(returnsFirstArg());
+
+        assertTrue(categoryGateway.findById(expectedId).isEmpty());
+
+        categoryGateway.createAll(List.of(aCategory));
+
+        assertTrue(categoryGateway.findById(expectedId).isPresent());
+    }
+
+    @Test
+    void givenACachedMissAndACachedCategory_whenCallsSaveAll_shouldInvalidateBoth() {
+        final var aCreated = Category.newCategory("Filmes", null, true);
+        final var anUpdated = Category.newCategory("Séries", null, true);
+
+        when(delegate.findById(aCreated.getId()))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(aCreated));
+        when(delegate.findById(anUpdated.getId()))
+            .thenReturn(Optional.of(anUpdated))
+            .thenReturn(Optional.of(anUpdated.clone().update("Séries", "Longas", true)));
+
+        categoryGateway.findById(aCreated.getId());
+        categoryGateway.findById(anUpdated.getId());
+
+        categoryGateway.saveAll(List.of(aCreated), List.of(anUpdated));
+
+        assertTrue(categoryGateway.findById(aCreated.getId()).isPresent());
+        assertEquals("Longas", categoryGateway.findById(anUpdated.getId()).get().getDescription());
+    }
+
+    @Test
+    void givenACachedCategory_whenCallsDeleteById_shouldInvalidateIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(expectedId))
+            .thenReturn(Optional.of(aCategory))
+            .thenReturn(Optional.empty());
+
+        categoryGateway.findById(expectedId);
+        categoryGateway.deleteById(expectedId);
+
+        assertTrue(categoryGateway.findById(expectedId).isEmpty());
+
+        verify(delegate, times(1)).deleteById(expectedId);
+    }
+
+    @Test
+    void givenARecentlyUpdatedCategory_whenCallsFindByIdOnReplica_shouldLoadItFromThePrimary() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+        final var expectedId = aCategory.getId();
+        final var usedReplica = new ArrayList<Boolean>();
+
+        when(delegate.update(any())).then(returnsFirstArg());
+        when(delegate.findById(expectedId)).then(invocation -> {
+            usedReplica.add(DataSourceRouting.useReplica());
+            return Optional.of(aCategory);
+        });
+
+        DataSourceRouting.onReplica(() -> categoryGateway.findById(expectedId));
+        categoryGateway.update(aCategory);
+        DataSourceRouting.onReplica(() -> categoryGateway.findById(expectedId));
+
+        assertEquals(List.of(true, false), usedReplica);
+    }
+}
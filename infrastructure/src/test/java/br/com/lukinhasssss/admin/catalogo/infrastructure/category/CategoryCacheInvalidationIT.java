@@ -0,0 +1,110 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.IntegrationTest;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sobe uma segunda aplicação (outra instância) apontando para o mesmo banco e verifica que
+ * as alterações feitas em uma invalidam o cache da outra
+ */
+@IntegrationTest
+@TestPropertySource(properties = "category.cache.invalidation.poll-interval=50")
+class CategoryCacheInvalidationIT {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private ConfigurableApplicationContext otherNode;
+
+    @BeforeEach
+    void startOtherNode() {
+        otherNode = new SpringApplicationBuilder(WebServerConfig.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test-integration")
+            .run("--category.cache.invalidation.poll-interval=50");
+
+        // Garante que a outra instância já marcou de onde ler o log antes das alterações do teste
+        otherNode.getBean(CategoryCacheInvalidationPoller.class).poll();
+    }
+
+    @AfterEach
+    void stopOtherNode() {
+        otherNode.close();
+    }
+
+    @Test
+    void givenACategoryCachedInAnotherNode_whenCallsUpdate_shouldInvalidateItThere() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+        final var expectedId = aCategory.getId();
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var otherGateway = otherNode.getBean(CachedCategoryGateway.class);
+
+        assertEquals("Filme", otherGateway.findById(expectedId).get().getName());
+        assertEquals("Filme", otherGateway.findById(expectedId).get().getName());
+        assertEquals(1, otherNode.getBean(MeterRegistry.class).get("cache.gets").tags("cache", "category", "result", "hit").functionCounter().count());
+
+        categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+
+        assertTrue(eventually(() -> "Filmes".equals(otherGateway.findById(expectedId).get().getName())));
+    }
+
+    @Test
+    void givenACategoryCachedInAnotherNode_whenCallsDeleteById_shouldInvalidateItThere() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedId = aCategory.getId();
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var otherGateway = otherNode.getBean(CachedCategoryGateway.class);
+
+        assertTrue(otherGateway.findById(expectedId).isPresent());
+
+        categoryGateway.deleteById(expectedId);
+
+        assertTrue(eventually(() -> otherGateway.findById(expectedId).isEmpty()));
+    }
+
+    private static boolean eventually(final BooleanSupplier aCondition) {
+        final var deadline = Instant.now().plus(TIMEOUT);
+
+        while (Instant.now().isBefore(deadline)) {
+            if (aCondition.getAsBoolean())
+                return true;
+
+            try {
+                Thread.sleep(50);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource.DataSourceRouting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryCountExecutorTest {
+
+    private final CategoryCountExecutor countExecutor = new CategoryCountExecutor(1);
+
+    @AfterEach
+    void tearDown() {
+        countExecutor.destroy();
+    }
+
+    @Test
+    void givenAQuery_whenCallsSubmit_shouldRunItInAnotherThread() {
+        final var caller = Thread.currentThread();
+
+        final var actualThread = countExecutor.submit(Thread::currentThread).get();
+
+        assertNotEquals(caller, actualThread);
+    }
+
+    @Test
+    void givenAQueryOnReplica_whenCallsSubmit_shouldKeepTheRouting() {
+        assertTrue(DataSourceRouting.onReplica(() -> countExecutor.submit(DataSourceRouting::useReplica)).get());
+        assertFalse(countExecutor.submit(DataSourceRouting::useReplica).get());
+    }
+
+    @Test
+    void givenAllThreadsBusy_whenCallsSubmit_shouldRunItInTheCallerThread() throws InterruptedException {
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        final var busy = countExecutor.submit(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return 0L;
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        final var actualThread = countExecutor.submit(Thread::currentThread).get();
+
+        release.countDown();
+
+        assertEquals(Thread.currentThread(), actualThread);
+        assertEquals(0L, busy.get());
+    }
+
+    @Test
+    void givenAFailingQuery_whenCallsGet_shouldRethrowTheOriginalException() {
+        final var expectedException = new IllegalStateException("Connection refused");
+
+        final var aResult = countExecutor.submit(() -> {
+            throw expectedException;
+        });
+
+        final var actualException = assertThrows(IllegalStateException.class, aResult::get);
+
+        assertSame(expectedException, actualException);
+    }
+
+    private static void awaitQuietly(final CountDownLatch aLatch) {
+        try {
+            aLatch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
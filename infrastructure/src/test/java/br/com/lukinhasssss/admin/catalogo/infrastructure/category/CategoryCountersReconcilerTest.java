@@ -0,0 +1,98 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.MySQLGatewayTest;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryStats;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryCounterSlots;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryCountersJpaEntity;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryCountersRepository;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+class CategoryCountersReconcilerTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryCountersRepository categoryCountersRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void givenMissingOrDriftedCounters_whenCallsReconcile_shouldFixThemFromTheTable() {
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Animes", null, false))
+        ));
+
+        final var reconciler = new CategoryCountersReconciler(
+            categoryCountersRepository, categoryRepository, new TransactionTemplate(transactionManager)
+        );
+
+        // Sem as linhas dos contadores elas são recriadas
+        assertTrue(reconciler.reconcile());
+        assertEquals(new CategoryStats(3, 2, 1), categoryCountersRepository.findStats().orElseThrow());
+
+        assertFalse(reconciler.reconcile());
+
+        categoryCountersRepository.increment(-1, 1);
+
+        // O teste roda em uma única transação, então descartamos os contadores já carregados pela reconciliação anterior
+        entityManager.clear();
+
+        assertTrue(reconciler.reconcile());
+        assertEquals(new CategoryStats(3, 2, 1), categoryCountersRepository.findStats().orElseThrow());
+    }
+
+    @Test
+    void givenIncrementsSpreadOverTheSlots_whenCallsReconcile_shouldSumThemAndFoldTheFixIntoTheFirstSlot() {
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", null, false))
+        ));
+
+        final var reconciler = new CategoryCountersReconciler(
+            categoryCountersRepository, categoryRepository, new TransactionTemplate(transactionManager)
+        );
+
+        categoryCountersRepository.insertIfMissing();
+
+        for (int i = 0; i < 64; i++)
+            categoryCountersRepository.increment(1, 1);
+
+        entityManager.clear();
+
+        final var slots = categoryCountersRepository.findAll();
+
+        assertEquals(CategoryCounterSlots.SLOTS, slots.size());
+        assertTrue(slots.stream().filter(slot -> slot.getTotalCount() > 0).count() > 1);
+        assertEquals(new CategoryStats(64, 64, 0), categoryCountersRepository.findStats().orElseThrow());
+
+        assertTrue(reconciler.reconcile());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(new CategoryStats(2, 1, 1), categoryCountersRepository.findStats().orElseThrow());
+        assertEquals(
+            List.of(2L, 0L),
+            categoryCountersRepository.findAll(Sort.by("id")).stream().map(CategoryCountersJpaEntity::getTotalCount).distinct().toList()
+        );
+    }
+}
@@ -3,13 +3,36 @@ package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
 import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
 import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryStats;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySummary;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySuggestion;
 import br.com.lukinhasssss.admin.catalogo.MySQLGatewayTest;
+import br.com.lukinhasssss.admin.catalogo.SqlStatementRecorder;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.NotFoundException;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.VersionConflictException;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryChangeRepository;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryCountersRepository;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryIds;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,6 +45,15 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryChangeRepository categoryChangeRepository;
+
+    @Autowired
+    private CategoryCountersRepository categoryCountersRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
 //    @Test
 //    void testInjectedDependencies() {
 //        assertNotNull(categoryGateway);
@@ -63,6 +95,24 @@ class CategoryMySQLGatewayTest {
         assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldStoreTheIdsAsSixteenBytes() {
+        final var aCategory = categoryGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var actualStoredIds = entityManager
+            .createNativeQuery("SELECT c.id, l.category_id FROM category c JOIN category_change_log l ON l.category_id = c.id")
+            .getResultList();
+
+        assertEquals(1, actualStoredIds.size());
+
+        final var actualRow = (Object[]) actualStoredIds.get(0);
+
+        assertEquals(aCategory.getId().getValue(), CategoryIds.fromBinary((byte[]) actualRow[0]));
+        assertEquals(16, ((byte[]) actualRow[1]).length);
+        assertEquals(aCategory.getId(), categoryGateway.findById(aCategory.getId()).orElseThrow().getId());
+        assertTrue(categoryGateway.findById(CategoryID.from("not-an-uuid")).isEmpty());
+    }
+
     @Test
     void givenAValidCategory_whenCallsUpdate_shouldReturnCategoryUpdated() {
         final var expectedName = "Filmes";
@@ -104,7 +154,8 @@ class CategoryMySQLGatewayTest {
         assertEquals(expectedName, actualEntity.getName());
         assertEquals(expectedDescription, actualEntity.getDescription());
         assertEquals(expectedIsActive, actualEntity.isActive());
-        assertEquals(aCategory.getCreatedAt(), actualEntity.getCreatedAt());
+        // O update não passa pelo contexto de persistência, então a entidade vem do banco arredondada para DATETIME(6)
+        assertTrue(Duration.between(aCategory.getCreatedAt(), actualEntity.getCreatedAt()).abs().toNanos() < 1_000);
         assertTrue(aCategory.getUpdatedAt().isBefore(actualEntity.getUpdatedAt()));
         assertEquals(aCategory.getDeletedAt(), actualEntity.getDeletedAt());
         assertNull(actualEntity.getDeletedAt());
@@ -190,7 +241,7 @@ class CategoryMySQLGatewayTest {
 
         assertEquals(3, categoryRepository.count());
 
-        final var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        final var query = CategorySearchQuery.with(0, 1, "", "name", "asc");
         final var actualResult = categoryGateway.findAll(query);
 
         assertEquals(expectedPage, actualResult.currentPage());
@@ -208,7 +259,7 @@ class CategoryMySQLGatewayTest {
 
         assertEquals(0, categoryRepository.count());
 
-        final var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        final var query = CategorySearchQuery.with(0, 1, "", "name", "asc");
         final var actualResult = categoryGateway.findAll(query);
 
         assertEquals(expectedPage, actualResult.currentPage());
@@ -237,7 +288,7 @@ class CategoryMySQLGatewayTest {
 
         assertEquals(3, categoryRepository.count());
 
-        var query = new CategorySearchQuery(0, 1, "", "name", "asc");
+        var query = CategorySearchQuery.with(0, 1, "", "name", "asc");
         var actualResult = categoryGateway.findAll(query);
 
         assertEquals(expectedPage, actualResult.currentPage());
@@ -247,7 +298,7 @@ class CategoryMySQLGatewayTest {
         assertEquals(animes.getId(), actualResult.items().get(0).getId());
 
         expectedPage = 1;
-        query = new CategorySearchQuery(1, 1, "", "name", "asc");
+        query = CategorySearchQuery.with(1, 1, "", "name", "asc");
         actualResult = categoryGateway.findAll(query);
 
         assertEquals(expectedPage, actualResult.currentPage());
@@ -257,7 +308,7 @@ class CategoryMySQLGatewayTest {
         assertEquals(filmes.getId(), actualResult.items().get(0).getId());
 
         expectedPage = 2;
-        query = new CategorySearchQuery(2, 1, "", "name", "asc");
+        query = CategorySearchQuery.with(2, 1, "", "name", "asc");
         actualResult = categoryGateway.findAll(query);
 
         assertEquals(expectedPage, actualResult.currentPage());
@@ -287,7 +338,7 @@ class CategoryMySQLGatewayTest {
 
         assertEquals(3, categoryRepository.count());
 
-        final var query = new CategorySearchQuery(0, 1, "Film", "name", "asc");
+        final var query = CategorySearchQuery.with(0, 1, "Film", "name", "asc");
         final var actualResult = categoryGateway.findAll(query);
 
         assertEquals(expectedPage, actualResult.currentPage());
@@ -317,7 +368,7 @@ class CategoryMySQLGatewayTest {
 
         assertEquals(3, categoryRepository.count());
 
-        final var query = new CategorySearchQuery(0, 1, "MAIS ASSISTIDA", "name", "asc");
+        final var query = CategorySearchQuery.with(0, 1, "MAIS ASSISTIDA", "name", "asc");
         final var actualResult = categoryGateway.findAll(query);
 
         assertEquals(expectedPage, actualResult.currentPage());
@@ -326,4 +377,585 @@ class CategoryMySQLGatewayTest {
         assertEquals(expectedPerPage, actualResult.items().size());
         assertEquals(series.getId(), actualResult.items().get(0).getId());
     }
+
+    @Test
+    void givenTermsWithoutAccents_whenCallsFindAll_shouldMatchAccentedNamesAndDescriptions() {
+        final var acao = Category.newCategory("Ação", null, true);
+        final var ficcao = Category.newCategory("Sci-Fi", "Ficção científica", true);
+        final var drama = Category.newCategory("Drama", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(acao),
+            CategoryJpaEntity.from(ficcao),
+            CategoryJpaEntity.from(drama)
+        ));
+
+        final var actualAcao = categoryGateway.findAll(CategorySearchQuery.with(0, 10, "ACAO", "name", "asc"));
+        final var actualFiccao = categoryGateway.findAll(CategorySearchQuery.with(0, 10, "ficcao cientifica", "name", "asc"));
+
+        assertEquals(1, actualAcao.total());
+        assertEquals(acao.getId(), actualAcao.items().get(0).getId());
+        assertEquals(1, actualFiccao.total());
+        assertEquals(ficcao.getId(), actualFiccao.items().get(0).getId());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsSuggest_shouldReturnActiveCategoriesStartingWithThePrefix() {
+        final var acao = Category.newCategory("Ação", null, true);
+        final var acaoEAventura = Category.newCategory("Ação e Aventura", null, true);
+        final var acaoAntiga = Category.newCategory("Ação Antiga", null, false);
+        final var faccao = Category.newCategory("Facção", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(acaoEAventura),
+            CategoryJpaEntity.from(acao),
+            CategoryJpaEntity.from(acaoAntiga),
+            CategoryJpaEntity.from(faccao)
+        ));
+
+        final var actualSuggestions = categoryGateway.suggest("AÇA", 10);
+
+        assertEquals(List.of(acao.getId(), acaoEAventura.getId()), actualSuggestions.stream().map(CategorySuggestion::id).toList());
+        assertEquals("Ação", actualSuggestions.get(0).name());
+        assertEquals(1, categoryGateway.suggest("aca", 1).size());
+        assertTrue(categoryGateway.suggest("%", 10).isEmpty());
+    }
+
+    @Test
+    void givenAValidCategory_whenCallsCreateOrUpdate_shouldPersistTheNormalizedSearchColumns() {
+        final var aCategory = Category.newCategory("Ação", "Filmes de AÇÃO", true);
+
+        categoryGateway.create(aCategory);
+        categoryGateway.update(aCategory.clone().update("Ficção", null, true));
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+
+        assertEquals("ficcao", actualEntity.getNameSearch());
+        assertNull(actualEntity.getDescriptionSearch());
+    }
+
+    @Test
+    void givenFollowCursorPagination_whenCallsFindAllWithNextCursor_shouldReturnPaginated() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var animes = Category.newCategory("Animes", null, true);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(animes))
+        );
+
+        assertEquals(3, categoryRepository.count());
+
+        var query = CategorySearchQuery.with(0, 1, "", "name", "asc");
+        var actualResult = categoryGateway.findAll(query);
+
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(animes.getId(), actualResult.items().get(0).getId());
+        assertNotNull(actualResult.nextCursor());
+
+        // As páginas por cursor não executam o COUNT, o total fica com a primeira página
+        query = CategorySearchQuery.builder(0, 1, "", "name", "asc").after(actualResult.nextCursor()).build();
+        actualResult = categoryGateway.findAll(query);
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertTrue(actualResult.hasNext());
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        assertNotNull(actualResult.nextCursor());
+
+        query = CategorySearchQuery.builder(0, 1, "", "name", "asc").after(actualResult.nextCursor()).build();
+        actualResult = categoryGateway.findAll(query);
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertFalse(actualResult.hasNext());
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void givenCategoriesWithSameName_whenCallsFindAllWithCursorDesc_shouldUseIdAsTiebreaker() {
+        final var first = Category.newCategory("Filmes", null, true);
+        final var second = Category.newCategory("Filmes", null, true);
+        final var animes = Category.newCategory("Animes", null, true);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(first),
+            CategoryJpaEntity.from(second),
+            CategoryJpaEntity.from(animes))
+        );
+
+        final var expectedIds = Stream.of(first, second)
+            .map(Category::getId)
+            .sorted(Comparator.comparing(CategoryID::getValue).reversed())
+            .toList();
+
+        var actualResult = categoryGateway.findAll(CategorySearchQuery.with(0, 1, "", "name", "desc"));
+
+        assertEquals(expectedIds.get(0), actualResult.items().get(0).getId());
+
+        actualResult = categoryGateway.findAll(
+            CategorySearchQuery.builder(0, 1, "", "name", "desc").after(actualResult.nextCursor()).build()
+        );
+
+        assertEquals(expectedIds.get(1), actualResult.items().get(0).getId());
+
+        actualResult = categoryGateway.findAll(
+            CategorySearchQuery.builder(0, 1, "", "name", "desc").after(actualResult.nextCursor()).build()
+        );
+
+        assertEquals(animes.getId(), actualResult.items().get(0).getId());
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    void givenAnInvalidCursor_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+
+        final var query = CategorySearchQuery.builder(0, 1, "", "name", "asc").after("invalid-cursor").build();
+
+        final var actualException =
+            assertThrows(DomainException.class, () -> categoryGateway.findAll(query));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenAValidCategory_whenCallsCreate_shouldInsertIntoCategoryWithoutSelectingIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        final var statements = recordStatements();
+
+        try {
+            categoryGateway.create(aCategory);
+            entityManager.flush();
+        } finally {
+            SqlStatementRecorder.stop();
+        }
+
+        // Além do INSERT também são gravados o category_change_log e o category_counters
+        assertEquals(0, SqlStatementRecorder.count(statements, "SELECT", "category"));
+        assertEquals(1, SqlStatementRecorder.count(statements, "INSERT", "category"));
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdate_shouldUpdateCategoryWithoutSelectingIt() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var statements = recordStatements();
+
+        try {
+            categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+            entityManager.flush();
+        } finally {
+            SqlStatementRecorder.stop();
+        }
+
+        assertEquals(0, SqlStatementRecorder.count(statements, "SELECT", "category"));
+        assertEquals(1, SqlStatementRecorder.count(statements, "UPDATE", "category"));
+        assertEquals("Filmes", categoryRepository.findById(aCategory.getId().getValue()).get().getName());
+    }
+
+    @Test
+    void givenANonPersistedCategory_whenCallsUpdate_shouldThrowNotFoundException() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+        final var expectedErrorMessage = "Category with ID %s was not found".formatted(aCategory.getId().getValue());
+
+        final var actualException =
+            assertThrows(NotFoundException.class, () -> categoryGateway.update(aCategory));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsDeleteById_shouldDeleteFromCategoryWithoutSelectingIt() {
+        final var aCategory = Category.newCategory("Filmes", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var statements = recordStatements();
+
+        try {
+            categoryGateway.deleteById(aCategory.getId());
+            entityManager.flush();
+        } finally {
+            SqlStatementRecorder.stop();
+        }
+
+        assertEquals(0, SqlStatementRecorder.count(statements, "SELECT", "category"));
+        assertEquals(1, SqlStatementRecorder.count(statements, "DELETE", "category"));
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    void givenAPrePersistedCategory_whenCallsUpdate_shouldIncrementVersion() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var actualCategory = categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+
+        assertEquals(1, actualCategory.getVersion());
+        assertEquals(1, categoryRepository.findById(aCategory.getId().getValue()).get().getVersion());
+    }
+
+    @Test
+    void givenAStaleVersion_whenCallsUpdate_shouldThrowVersionConflictException() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+        final var expectedErrorMessage = "Category with ID %s does not match the expected version 0"
+            .formatted(aCategory.getId().getValue());
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+
+        final var actualException = assertThrows(
+            VersionConflictException.class,
+            () -> categoryGateway.update(aCategory.clone().update("Séries", null, true))
+        );
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals("Filmes", categoryRepository.findById(aCategory.getId().getValue()).get().getName());
+    }
+
+    @Test
+    void givenAnInactiveCategory_whenCallsUpdateToInactiveWithoutReading_shouldKeepDeletedAt() {
+        final var aCategory = Category.newCategory("Filmes", null, false);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+        entityManager.clear();
+
+        final var expectedDeletedAt = categoryRepository.findById(aCategory.getId().getValue()).get().getDeletedAt();
+
+        final var now = Instant.now();
+        final var aBlindUpdate = Category.with(aCategory.getId(), null, null, true, now, now, null, 0)
+            .update("Filmes", null, false);
+
+        categoryGateway.update(aBlindUpdate);
+
+        final var actualEntity = categoryRepository.findById(aCategory.getId().getValue()).get();
+
+        assertFalse(actualEntity.isActive());
+        assertEquals(expectedDeletedAt, actualEntity.getDeletedAt());
+        assertEquals(1, actualEntity.getVersion());
+    }
+
+    @Test
+    void givenValidCategories_whenCallsCreateAll_shouldInsertThemInASingleBatch() {
+        final var categories = List.of(
+            Category.newCategory("Filmes", null, true),
+            Category.newCategory("Séries", null, true),
+            Category.newCategory("Documentários", null, false)
+        );
+
+        final var statistics = statistics();
+
+        final var actualCategories = categoryGateway.createAll(categories);
+        entityManager.flush();
+
+        // O batch de INSERTs, o INSERT no category_change_log e o UPDATE do category_counters
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getEntityInsertCount());
+        assertEquals(3, categoryRepository.count());
+        assertEquals(categories.stream().map(Category::getId).toList(), actualCategories.stream().map(Category::getId).toList());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsUpdateAll_shouldLoadThemOnceAndUpdateInASingleBatch() {
+        final var filmes = Category.newCategory("Filme", null, true);
+        final var series = Category.newCategory("Serie", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        final var statistics = statistics();
+
+        final var actualCategories = categoryGateway.updateAll(List.of(
+            filmes.clone().update("Filmes", null, true),
+            series.clone().update("Séries", null, false)
+        ));
+
+        // Os UPDATEs do category_counters (ativadas e inativadas), o SELECT ... IN, o batch de UPDATEs e o INSERT no category_change_log
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getEntityUpdateCount());
+        assertTrue(actualCategories.stream().allMatch(aCategory -> aCategory.getVersion() == 1));
+        assertEquals("Filmes", categoryRepository.findById(filmes.getId().getValue()).get().getName());
+        assertFalse(categoryRepository.findById(series.getId().getValue()).get().isActive());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllByIds_shouldReturnOnlyTheStoredOnes() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        final var actualCategories = categoryGateway.findAllByIds(Set.of(filmes.getId(), CategoryID.from("123")));
+
+        assertEquals(1, actualCategories.size());
+        assertEquals(filmes.getId(), actualCategories.get(0).getId());
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsStreamAll_shouldDeliverEachOneWithoutKeepingThemManaged() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+        entityManager.clear();
+
+        final var actualNames = new ArrayList<String>();
+
+        categoryGateway.streamAll(aCategory -> actualNames.add(aCategory.getName()));
+
+        assertEquals(2, actualNames.size());
+        assertTrue(actualNames.containsAll(List.of("Filmes", "Séries")));
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void givenAValidCategory_whenCallsCreateUpdateOrDelete_shouldLogTheChange() {
+        final var aCategory = Category.newCategory("Filme", null, true);
+        final var expectedId = aCategory.getId().getValue();
+
+        categoryGateway.create(aCategory);
+        categoryGateway.update(aCategory.clone().update("Filmes", null, true));
+        categoryGateway.deleteById(aCategory.getId());
+
+        final var actualChanges = categoryChangeRepository.findAllChangedAfter(Instant.EPOCH);
+
+        assertEquals(3, actualChanges.size());
+        assertTrue(actualChanges.stream().allMatch(aChange -> expectedId.equals(aChange.getCategoryId())));
+    }
+
+    @Test
+    void givenPrePersistedCategories_whenCallsFindAllSummaries_shouldReturnPaginatedWithoutHydratingEntities() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, false);
+        final var animes = Category.newCategory("Animes", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(animes))
+        );
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        final var actualResult = categoryGateway.findAllSummaries(CategorySearchQuery.with(0, 2, "", "name", "desc"));
+
+        assertEquals(0, actualResult.currentPage());
+        assertEquals(2, actualResult.perPage());
+        assertEquals(3, actualResult.total());
+        assertEquals(2, actualResult.items().size());
+
+        final var actualSummary = actualResult.items().get(1);
+
+        assertEquals(filmes.getId(), actualSummary.id());
+        assertEquals(filmes.getName(), actualSummary.name());
+        assertEquals(filmes.getDescription(), actualSummary.description());
+        assertEquals(filmes.isActive(), actualSummary.isActive());
+        assertTrue(Duration.between(filmes.getCreatedAt(), actualSummary.createdAt()).abs().toNanos() < 1_000);
+        assertNull(actualSummary.deletedAt());
+        assertNotNull(actualResult.items().get(0).deletedAt());
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void givenAQueryWithoutDescription_whenCallsFindAllSummaries_shouldNotReturnDescription() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(filmes));
+
+        final var aQuery = CategorySearchQuery.builder(0, 10, "", "name", "asc").includeDescription(false).build();
+        final var actualResult = categoryGateway.findAllSummaries(aQuery);
+
+        assertEquals(1, actualResult.total());
+        assertEquals(filmes.getName(), actualResult.items().get(0).name());
+        assertNull(actualResult.items().get(0).description());
+    }
+
+    @Test
+    void givenAPageSmallerThanPerPage_whenCallsFindAllSummaries_shouldNotExecuteTheCountQuery() {
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)));
+
+        final var statistics = statistics();
+
+        final var actualResult = categoryGateway.findAllSummaries(CategorySearchQuery.with(0, 10, "", "name", "asc"));
+
+        assertEquals(1, actualResult.total());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenTheCountersRow_whenCallsCreateUpdateAndDelete_shouldKeepTheCountersInSync() {
+        categoryCountersRepository.insertIfMissing();
+
+        final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategory("Séries", null, false));
+        categoryGateway.createAll(List.of(Category.newCategory("Animes", null, true)));
+
+        assertEquals(new CategoryStats(3, 2, 1), categoryGateway.countAll());
+
+        categoryGateway.update(series.clone().update("Séries", null, true));
+        assertEquals(new CategoryStats(3, 3, 0), categoryGateway.countAll());
+
+        // Salvar sem alterar o status não pode contar a categoria de novo
+        categoryGateway.updateAll(List.of(filmes.clone().update("Filmes", "Longas", true)));
+        assertEquals(new CategoryStats(3, 3, 0), categoryGateway.countAll());
+
+        categoryGateway.deleteById(filmes.getId());
+        assertEquals(new CategoryStats(2, 2, 0), categoryGateway.countAll());
+    }
+
+    @Test
+    void givenTheCountersRow_whenCallsFindAllSummariesWithoutTerms_shouldReadTheTotalFromTheCounters() {
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Animes", null, true)))
+        );
+
+        // Contadores propositalmente divergentes, para provar de onde o total foi lido
+        categoryCountersRepository.insertIfMissing();
+        categoryCountersRepository.increment(5, 5);
+
+        assertEquals(5, categoryGateway.findAllSummaries(CategorySearchQuery.with(0, 1, "", "name", "asc")).total());
+        assertEquals(5, categoryGateway.findAll(CategorySearchQuery.with(0, 1, "", "name", "asc")).total());
+        assertEquals(1, categoryGateway.findAllSummaries(CategorySearchQuery.with(0, 1, "film", "name", "asc")).total());
+    }
+
+    @Test
+    void givenNoCountersRow_whenCallsStats_shouldCountTheTable() {
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", null, false)))
+        );
+
+        assertEquals(new CategoryStats(2, 1, 1), categoryGateway.countAll());
+        assertEquals(2, categoryGateway.findAll(CategorySearchQuery.with(0, 1, "", "name", "asc")).total());
+    }
+
+    @Test
+    void givenWithTotalFalse_whenCallsFindAllSummaries_shouldReturnHasNextWithoutTheCountQuery() {
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+            CategoryJpaEntity.from(Category.newCategory("Animes", null, true)))
+        );
+
+        final var statistics = statistics();
+
+        var actualResult = categoryGateway.findAllSummaries(
+            CategorySearchQuery.builder(0, 2, "", "name", "asc").withTotal(false).build()
+        );
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertTrue(actualResult.hasNext());
+        assertEquals(List.of("Animes", "Filmes"), actualResult.items().stream().map(CategorySummary::name).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        actualResult = categoryGateway.findAllSummaries(
+            CategorySearchQuery.builder(1, 2, "", "name", "asc").withTotal(false).build()
+        );
+
+        assertFalse(actualResult.hasNext());
+        assertEquals(List.of("Séries"), actualResult.items().stream().map(CategorySummary::name).toList());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenWithTotalFalseAndACursor_whenCallsFindAll_shouldNotExecuteTheCountQuery() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var animes = Category.newCategory("Animes", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(animes))
+        );
+
+        final var statistics = statistics();
+
+        var actualResult = categoryGateway.findAll(CategorySearchQuery.builder(0, 1, "", "name", "asc").withTotal(false).build());
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertTrue(actualResult.hasNext());
+        assertEquals(animes.getId(), actualResult.items().get(0).getId());
+
+        actualResult = categoryGateway.findAll(
+            CategorySearchQuery.builder(0, 2, "", "name", "asc")
+                .after(actualResult.nextCursor())
+                .withTotal(false)
+                .build()
+        );
+
+        assertFalse(actualResult.hasNext());
+        assertNull(actualResult.nextCursor());
+        assertEquals(List.of(filmes.getId(), series.getId()), actualResult.items().stream().map(Category::getId).toList());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenFollowCursorPaginationByUpdatedAt_whenCallsFindAllSummaries_shouldReturnPaginated() {
+        final var now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        final var filmes = Category.with(CategoryID.unique(), "Filmes", null, true, now, now.plusSeconds(2), null);
+        final var series = Category.with(CategoryID.unique(), "Séries", null, true, now, now, null);
+        final var animes = Category.with(CategoryID.unique(), "Animes", null, true, now, now.plusSeconds(1), null);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(animes))
+        );
+
+        final var expectedIds = List.of(series.getId(), animes.getId(), filmes.getId());
+        final var actualIds = new ArrayList<CategoryID>();
+
+        var actualResult = categoryGateway.findAllSummaries(CategorySearchQuery.with(0, 2, "", "updatedAt", "asc"));
+        actualResult.items().forEach(aSummary -> actualIds.add(aSummary.id()));
+
+        assertNotNull(actualResult.nextCursor());
+
+        actualResult = categoryGateway.findAllSummaries(
+            CategorySearchQuery.builder(0, 2, "", "updatedAt", "asc").after(actualResult.nextCursor()).build()
+        );
+        actualResult.items().forEach(aSummary -> actualIds.add(aSummary.id()));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        assertNull(actualResult.nextCursor());
+        assertEquals(expectedIds, actualIds);
+    }
+
+    private List<String> recordStatements() {
+        // Descarrega o que estiver pendente (ex: a limpeza feita pelo MySQLCleanUpExtension) antes de começar a registrar
+        entityManager.flush();
+        return SqlStatementRecorder.start();
+    }
+
+    private Statistics statistics() {
+        // Descarrega o que estiver pendente (ex: a limpeza feita pelo MySQLCleanUpExtension) antes de zerar as estatísticas
+        entityManager.flush();
+
+        final var statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+
+        statistics.clear();
+
+        return statistics;
+    }
 }
@@ -0,0 +1,59 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.MySQLGatewayTest;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@MySQLGatewayTest
+class CategorySearchColumnsBackfillTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void givenCategoriesWithoutSearchColumns_whenCallsRun_shouldFillThemInBatchesWithoutChangingTheVersion() {
+        final var acao = Category.newCategory("Ação", "Filmes de AÇÃO", true);
+        final var ficcao = Category.newCategory("Ficção", null, true);
+        final var drama = Category.newCategory("Drama", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+            CategoryJpaEntity.from(acao),
+            CategoryJpaEntity.from(ficcao),
+            CategoryJpaEntity.from(drama)
+        ));
+
+        // Simula as linhas gravadas antes da V4
+        entityManager.createNativeQuery("UPDATE category SET name_search = NULL, description_search = NULL").executeUpdate();
+        entityManager.clear();
+
+        final var backfill = new CategorySearchColumnsBackfill(categoryRepository, new TransactionTemplate(transactionManager), 2);
+
+        assertEquals(3, backfill.run());
+        assertEquals(0, backfill.run());
+
+        final var actualAcao = categoryRepository.findById(acao.getId().getValue()).get();
+        final var actualFiccao = categoryRepository.findById(ficcao.getId().getValue()).get();
+
+        assertEquals("acao", actualAcao.getNameSearch());
+        assertEquals("filmes de acao", actualAcao.getDescriptionSearch());
+        assertEquals(0, actualAcao.getVersion());
+        assertEquals("ficcao", actualFiccao.getNameSearch());
+        assertNull(actualFiccao.getDescriptionSearch());
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.IntegrationTest;
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Busca por terms com o índice Lucene habilitado, comparada com a mesma busca feita direto no banco (LIKE)
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+    "category.search.enabled=true",
+    "category.search.index-path=${java.io.tmpdir}/adm-catalogo-test/category-search-it"
+})
+class CategorySearchIT {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Autowired
+    private SearchIndexedCategoryGateway searchIndexedCategoryGateway;
+
+    @BeforeEach
+    void mockUp() {
+        // O MySQLCleanUpExtension limpa só o banco, a reconstrução esvazia o índice
+        searchIndexedCategoryGateway.rebuild();
+
+        // Na ordem dos bytes do name os acentuados e as maiúsculas ficariam separados das minúsculas
+        categoryGateway.createAll(List.of(
+            Category.newCategory("Zumbis", "Filmes de zumbis", true),
+            Category.newCategory("animes", "Filmes animados", true),
+            Category.newCategory("Épicos", "Filmes épicos", true),
+            Category.newCategory("Ação", "Filmes de ação", true),
+            Category.newCategory("Bíblicos", "Filmes bíblicos", true)
+        ));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"asc", "desc"})
+    void givenTermsSortedByName_whenCallsFindAll_shouldReturnTheSameOrderFromTheIndexAndFromTheDatabase(final String direction) {
+        final var aQuery = CategorySearchQuery.with(0, 10, "filmes", "name", direction);
+
+        final var expectedNames = "asc".equals(direction)
+            ? List.of("Ação", "animes", "Bíblicos", "Épicos", "Zumbis")
+            : List.of("Zumbis", "Épicos", "Bíblicos", "animes", "Ação");
+
+        final var actualIndexed = categoryGateway.findAll(aQuery);
+        final var actualDatabase = categoryMySQLGateway.findAll(aQuery);
+
+        assertEquals(expectedNames, actualIndexed.items().stream().map(Category::getName).toList());
+        assertEquals(ids(actualDatabase), ids(actualIndexed));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"name", "createdAt", "updatedAt"})
+    void givenTermsAndTheNextCursor_whenCallsFindAll_shouldWalkEveryPageThroughTheIndex(final String sort) {
+        final var expectedIds = ids(categoryGateway.findAll(CategorySearchQuery.with(0, 10, "filmes", sort, "desc")));
+        final var actualIds = new ArrayList<CategoryID>();
+
+        var actualPage = categoryGateway.findAll(CategorySearchQuery.with(0, 2, "filmes", sort, "desc"));
+        actualIds.addAll(ids(actualPage));
+
+        while (actualPage.nextCursor() != null) {
+            final var aQuery = CategorySearchQuery.builder(0, 2, "filmes", sort, "desc")
+                .after(actualPage.nextCursor())
+                .build();
+            actualPage = categoryGateway.findAll(aQuery);
+            actualIds.addAll(ids(actualPage));
+
+            // O banco entende o mesmo cursor, na mesma ordem (é para onde a busca vai enquanto o índice é reconstruído)
+            assertEquals(ids(categoryMySQLGateway.findAll(aQuery)), ids(actualPage));
+        }
+
+        assertEquals(5, expectedIds.size());
+        assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    void givenTermsSortedByRelevance_whenCallsFindAll_shouldReturnTheNameMatchesFirstAndWalkTheNextCursor() {
+        categoryGateway.create(Category.newCategory("Terror", "Filmes de zumbis", true));
+
+        final var expectedNames = List.of("Zumbis", "Terror");
+        final var actualNames = new ArrayList<String>();
+
+        var actualPage = categoryGateway.findAll(CategorySearchQuery.with(0, 1, "zumbis", CategorySearchQuery.RELEVANCE, "desc"));
+        actualPage.items().forEach(it -> actualNames.add(it.getName()));
+
+        while (actualPage.nextCursor() != null) {
+            final var aQuery = CategorySearchQuery.builder(0, 1, "zumbis", CategorySearchQuery.RELEVANCE, "desc")
+                .after(actualPage.nextCursor())
+                .build();
+
+            actualPage = categoryGateway.findAll(aQuery);
+            actualPage.items().forEach(it -> actualNames.add(it.getName()));
+        }
+
+        assertEquals(expectedNames, actualNames);
+    }
+
+    @Test
+    void givenTermsSortedByRelevance_whenTheIndexIsNotUsed_shouldFallBackToTheNameOrderWithoutCursor() {
+        categoryGateway.create(Category.newCategory("Terror", "Filmes de zumbis", true));
+
+        final var aQuery = CategorySearchQuery.with(0, 1, "zumbis", CategorySearchQuery.RELEVANCE, "desc");
+        final var actualFirstPage = categoryMySQLGateway.findAll(aQuery);
+        final var actualSecondPage = categoryMySQLGateway.findAll(CategorySearchQuery.with(1, 1, "zumbis", CategorySearchQuery.RELEVANCE, "desc"));
+
+        // O banco não calcula relevância, segue a ordem do name_search e pagina apenas por offset
+        assertEquals(2, actualFirstPage.total());
+        assertEquals("Zumbis", actualFirstPage.items().get(0).getName());
+        assertEquals("Terror", actualSecondPage.items().get(0).getName());
+        assertNull(actualFirstPage.nextCursor());
+    }
+
+    private static List<CategoryID> ids(final Pagination<Category> aPage) {
+        return aPage.items().stream().map(Category::getId).toList();
+    }
+}
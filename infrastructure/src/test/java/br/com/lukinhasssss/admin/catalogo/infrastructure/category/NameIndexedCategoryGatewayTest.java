@@ -0,0 +1,127 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySuggestion;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.fuzzy.CategoryTrigramIndex;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.suggest.CategorySuggestIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NameIndexedCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private NameIndexedCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = new NameIndexedCategoryGateway(delegate, new CategorySuggestIndex(), new CategoryTrigramIndex(0.5));
+    }
+
+    @Test
+    void givenATrieNotBuiltYet_whenCallsSuggest_shouldFallBackToTheGateway() {
+        when(delegate.suggest("fil", 10)).thenReturn(List.of());
+
+        categoryGateway.suggest("fil", 10);
+
+        verify(delegate, times(1)).suggest("fil", 10);
+    }
+
+    @Test
+    void givenARebuiltTrie_whenCallsSuggest_shouldNotCallTheGateway() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        rebuildWith(filmes, Category.newCategory("Séries", null, false));
+
+        final var actualSuggestions = categoryGateway.suggest("fil", 10);
+
+        assertEquals(List.of(new CategorySuggestion(filmes.getId(), "Filmes")), actualSuggestions);
+        assertTrue(categoryGateway.suggest("ser", 10).isEmpty());
+        verify(delegate, never()).suggest(any(), anyInt());
+    }
+
+    @Test
+    void givenAWrite_whenCallsSuggest_shouldReflectItImmediately() {
+        rebuildWith();
+
+        final var aCategory = Category.newCategory("Documentários", null, true);
+
+        when(delegate.create(aCategory)).then(returnsFirstArg());
+
+        categoryGateway.create(aCategory);
+        assertEquals(1, categoryGateway.suggest("doc", 10).size());
+
+        categoryGateway.deleteById(aCategory.getId());
+        assertTrue(categoryGateway.suggest("doc", 10).isEmpty());
+    }
+
+    @Test
+    void givenACategoryChangedElsewhere_whenCallsReindex_shouldUpdateOrRemoveItFromTheTrie() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        rebuildWith(filmes, series);
+
+        when(delegate.findAllByIds(Set.of(filmes.getId(), series.getId())))
+            .thenReturn(List.of(filmes.clone().update("Documentários", null, true)));
+
+        categoryGateway.reindex(List.of(filmes.getId(), series.getId()));
+
+        assertTrue(categoryGateway.suggest("fil", 10).isEmpty());
+        assertTrue(categoryGateway.suggest("ser", 10).isEmpty());
+        assertEquals(1, categoryGateway.suggest("doc", 10).size());
+    }
+
+    @Test
+    void givenAFuzzyQuery_whenCallsFindAll_shouldSearchTheTrigramsAndLoadOnlyThePage() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var filmesAntigos = Category.newCategory("Filmes Antigos", null, false);
+
+        rebuildWith(filmes, filmesAntigos, Category.newCategory("Séries", null, true));
+
+        when(delegate.findAllByIds(Set.of(filmes.getId(), filmesAntigos.getId())))
+            .thenReturn(List.of(filmesAntigos, filmes));
+
+        final var aQuery = CategorySearchQuery.builder(0, 10, "flmes", "createdAt", "desc").fuzzy(true).build();
+        final var actualResult = categoryGateway.findAll(aQuery);
+
+        assertEquals(2, actualResult.total());
+        assertEquals(List.of(filmes, filmesAntigos), actualResult.items());
+        verify(delegate, never()).findAll(any());
+    }
+
+    @Test
+    void givenAFuzzyQueryBeforeTheRebuild_whenCallsFindAllSummaries_shouldFallBackToTheGateway() {
+        final var aQuery = CategorySearchQuery.builder(0, 10, "flmes", "name", "asc").fuzzy(true).build();
+
+        categoryGateway.findAllSummaries(aQuery);
+
+        verify(delegate, times(1)).findAllSummaries(aQuery);
+    }
+
+    private void rebuildWith(final Category... categories) {
+        doAnswer(invocation -> {
+            final Consumer<Category> aConsumer = invocation.getArgument(0);
+            List.of(categories).forEach(aConsumer);
+            return null;
+        }).when(delegate).streamAll(any());
+
+        categoryGateway.rebuild();
+    }
+}
@@ -0,0 +1,218 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryGateway;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySearchQuery;
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.domain.pagination.Pagination;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.search.CategorySearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexedCategoryGatewayTest {
+
+    @TempDir
+    Path indexPath;
+
+    @Mock
+    private CategoryGateway delegate;
+
+    private CategorySearchIndex searchIndex;
+    private SearchIndexedCategoryGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new CategorySearchIndex(indexPath);
+        categoryGateway = new SearchIndexedCategoryGateway(delegate, searchIndex);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void givenARebuiltIndex_whenCallsFindAllWithTerms_shouldLoadTheIndexIdsInTheIndexOrder() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var animes = Category.newCategory("Animes", "Filmes e séries japonesas", true);
+
+        rebuildWith(filmes, animes);
+
+        when(delegate.findAllByIds(Set.of(filmes.getId(), animes.getId()))).thenReturn(List.of(filmes, animes));
+
+        final var actualPage = categoryGateway.findAll(CategorySearchQuery.with(0, 10, "film", "name", "asc"));
+
+        assertEquals(2, actualPage.total());
+        assertEquals(List.of(animes.getId(), filmes.getId()), actualPage.items().stream().map(Category::getId).toList());
+        verify(delegate, never()).findAll(any());
+    }
+
+    @Test
+    void givenAnIndexNotBuiltYet_whenCallsFindAllWithTerms_shouldFallBackToTheGateway() {
+        final var aQuery = CategorySearchQuery.with(0, 10, "film", "name", "asc");
+
+        when(delegate.findAll(aQuery)).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        categoryGateway.findAll(aQuery);
+
+        verify(delegate, times(1)).findAll(aQuery);
+    }
+
+    @Test
+    void givenAnUnsupportedSort_whenCallsFindAll_shouldFallBackToTheGateway() {
+        rebuildWith();
+
+        final var anUnsupportedSortQuery = CategorySearchQuery.with(0, 10, "film", "active", "asc");
+
+        when(delegate.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        categoryGateway.findAll(anUnsupportedSortQuery);
+
+        verify(delegate, times(1)).findAll(anUnsupportedSortQuery);
+    }
+
+    @Test
+    void givenTermsAndTheNextCursor_whenCallsFindAll_shouldKeepPagingThroughTheIndex() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var animes = Category.newCategory("Animes", "Filmes japoneses", true);
+        final var curtas = Category.newCategory("Curtas", "Filmes curtos", true);
+
+        rebuildWith(filmes, animes, curtas);
+
+        when(delegate.findAllByIds(any())).thenAnswer(invocation -> {
+            final Set<CategoryID> anIds = invocation.getArgument(0);
+            return Stream.of(filmes, animes, curtas).filter(aCategory -> anIds.contains(aCategory.getId())).toList();
+        });
+
+        final var actualFirstPage = categoryGateway.findAll(CategorySearchQuery.with(0, 2, "film", "name", "asc"));
+
+        assertEquals(3, actualFirstPage.total());
+        assertEquals(List.of(animes.getId(), curtas.getId()), actualFirstPage.items().stream().map(Category::getId).toList());
+        assertNotNull(actualFirstPage.nextCursor());
+
+        final var actualSecondPage = categoryGateway.findAll(
+            CategorySearchQuery.builder(0, 2, "film", "name", "asc").after(actualFirstPage.nextCursor()).build()
+        );
+
+        // Assim como no banco, as páginas por cursor não informam o total
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualSecondPage.total());
+        assertFalse(actualSecondPage.hasNext());
+        assertEquals(List.of(filmes.getId()), actualSecondPage.items().stream().map(Category::getId).toList());
+        assertNull(actualSecondPage.nextCursor());
+        verify(delegate, never()).findAll(any());
+    }
+
+    @Test
+    void givenACursorWithAnInvalidValue_whenCallsFindAll_shouldFailAsAnInvalidCursor() {
+        rebuildWith();
+
+        final var anInvalidCursor = new CategoryCursor("createdAt", CategoryID.unique().getValue(), "ontem").encode();
+        final var aQuery = CategorySearchQuery.builder(0, 10, "film", "createdAt", "asc")
+            .after(anInvalidCursor)
+            .build();
+
+        final var actualException = assertThrows(DomainException.class, () -> categoryGateway.findAll(aQuery));
+
+        assertEquals("'after' is not a valid cursor", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenAWrite_whenCallsFindAllSummaries_shouldFindItThroughTheIndex() {
+        rebuildWith();
+
+        final var aCategory = Category.newCategory("Documentários", "Histórias reais", true);
+
+        when(delegate.create(aCategory)).then(returnsFirstArg());
+        when(delegate.findAllByIds(Set.of(aCategory.getId()))).thenReturn(List.of(aCategory));
+
+        categoryGateway.create(aCategory);
+
+        final var actualPage = categoryGateway.findAllSummaries(
+            CategorySearchQuery.builder(0, 10, "documentarios", "name", "asc").includeDescription(false).build()
+        );
+
+        assertEquals(1, actualPage.total());
+        assertEquals(aCategory.getId(), actualPage.items().get(0).id());
+        assertNull(actualPage.items().get(0).description());
+    }
+
+    @Test
+    void givenACategoryChangedElsewhere_whenCallsReindex_shouldUpdateOrRemoveItFromTheIndex() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        rebuildWith(filmes, series);
+
+        final var updatedFilmes = filmes.clone().update("Documentários", null, true);
+
+        when(delegate.findAllByIds(Set.of(filmes.getId(), series.getId()))).thenReturn(List.of(updatedFilmes));
+
+        categoryGateway.reindex(List.of(filmes.getId(), series.getId()));
+
+        assertEquals(0, searchIndex.search("filmes", "name", true, 0, 10).get().total());
+        assertEquals(0, searchIndex.search("series", "name", true, 0, 10).get().total());
+        assertEquals(List.of(filmes.getId()), searchIndex.search("documentarios", "name", true, 0, 10).get().ids());
+    }
+
+    @Test
+    void givenAnUpdateWithoutTheStoredCreatedAt_whenCallsUpdate_shouldIndexTheCategoryReadFromTheDatabase() {
+        final var filmes = Category.with(CategoryID.unique(), "Filmes", null, true, Instant.parse("2020-01-01T00:00:00Z"), Instant.now(), null, 0);
+        final var series = Category.with(CategoryID.unique(), "Filmes em séries", null, true, Instant.parse("2021-01-01T00:00:00Z"), Instant.now(), null, 0);
+
+        rebuildWith(filmes, series);
+
+        // Aggregate do PUT com If-Match, montado sem ler a categoria: o createdAt é o instante do update
+        final var anExpected = Category.with(filmes.getId(), null, null, true, Instant.now(), Instant.now(), null, 0)
+            .update("Filmes clássicos", null, true);
+
+        final var stored = Category.with(filmes.getId(), "Filmes clássicos", null, true, filmes.getCreatedAt(), anExpected.getUpdatedAt(), null, 1);
+
+        when(delegate.update(anExpected)).then(returnsFirstArg());
+        when(delegate.findAllByIds(Set.of(filmes.getId()))).thenReturn(List.of(stored));
+
+        categoryGateway.update(anExpected);
+
+        assertEquals(List.of(filmes.getId(), series.getId()), searchIndex.search("filmes", "createdAt", true, 0, 10).get().ids());
+        assertEquals(List.of(filmes.getId()), searchIndex.search("classicos", "createdAt", true, 0, 10).get().ids());
+    }
+
+    @Test
+    void givenAFailingIndex_whenCallsDeleteById_shouldKeepTheDatabaseWrite() throws IOException {
+        searchIndex.close();
+
+        categoryGateway.deleteById(CategoryID.from("123"));
+
+        verify(delegate, times(1)).deleteById(CategoryID.from("123"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuildWith(final Category... categories) {
+        doAnswer(invocation -> {
+            final Consumer<Category> aConsumer = invocation.getArgument(0);
+            List.of(categories).forEach(aConsumer);
+            return null;
+        }).when(delegate).streamAll(any());
+
+        categoryGateway.rebuild();
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.fuzzy;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryTrigramIndexTest {
+
+    private final CategoryTrigramIndex trigramIndex = new CategoryTrigramIndex(0.5);
+
+    @Test
+    void givenATermWithATypo_whenCallsSearch_shouldReturnTheSimilarNames() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var amazon = Category.newCategory("Amazon Originals", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        trigramIndex.index(List.of(filmes, amazon, series));
+
+        assertEquals(List.of(filmes.getId()), trigramIndex.search("flmes", 0, 10).ids());
+        assertEquals(List.of(amazon.getId()), trigramIndex.search("AMAZN", 0, 10).ids());
+        assertEquals(List.of(series.getId()), trigramIndex.search("serie", 0, 10).ids());
+        assertTrue(trigramIndex.search("documentarios", 0, 10).ids().isEmpty());
+    }
+
+    @Test
+    void givenSeveralMatches_whenCallsSearch_shouldOrderBySimilarityAndPaginate() {
+        final var filmesAntigos = Category.newCategory("Filmes Antigos", null, true);
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var films = Category.newCategory("Films", null, true);
+
+        trigramIndex.index(List.of(filmesAntigos, filmes, films));
+
+        final var actualResult = trigramIndex.search("filmes", 0, 2);
+
+        assertEquals(3, actualResult.total());
+        assertEquals(List.of(filmes.getId(), filmesAntigos.getId()), actualResult.ids());
+        assertEquals(List.of(films.getId()), trigramIndex.search("filmes", 2, 2).ids());
+    }
+
+    @Test
+    void givenAHigherThreshold_whenCallsSearch_shouldDiscardTheLessSimilarNames() {
+        final var strictIndex = new CategoryTrigramIndex(0.9);
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        strictIndex.index(List.of(filmes));
+
+        assertTrue(strictIndex.search("flmes", 0, 10).ids().isEmpty());
+        assertEquals(List.of(filmes.getId()), strictIndex.search("filmes", 0, 10).ids());
+    }
+
+    @Test
+    void givenARenamedOrDeletedCategory_whenCallsSearch_shouldNotReturnTheOldName() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        trigramIndex.index(List.of(filmes, series));
+        trigramIndex.index(List.of(filmes.clone().update("Documentários", null, true)));
+        trigramIndex.delete(List.of(series.getId()));
+
+        assertTrue(trigramIndex.search("filmes", 0, 10).ids().isEmpty());
+        assertTrue(trigramIndex.search("series", 0, 10).ids().isEmpty());
+        assertEquals(List.of(filmes.getId()), trigramIndex.search("documentario", 0, 10).ids());
+    }
+
+    @Test
+    void givenAnInvalidThreshold_whenCallsNew_shouldThrowAnException() {
+        assertThrows(IllegalArgumentException.class, () -> new CategoryTrigramIndex(0));
+        assertThrows(IllegalArgumentException.class, () -> new CategoryTrigramIndex(1.5));
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing;
+
+import io.vavr.collection.Iterator;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryImportFormatTest {
+
+    @Test
+    void givenANdjsonBody_whenCallsRead_shouldReturnOneRecordPerLine() throws Exception {
+        final var body = """
+            {"name": "Filmes", "description": "A categoria mais assistida", "is_active": true}
+            {"name": "Séries", "is_active": false}
+            """;
+
+        final var aFormat = CategoryImportFormat.of("application/x-ndjson");
+
+        try (final var records = aFormat.read(new ByteArrayInputStream(body.getBytes(UTF_8)))) {
+            final var actualRecords = Iterator.ofAll(records).toJavaList();
+
+            assertEquals(CategoryImportFormat.NDJSON, aFormat);
+            assertEquals(2, actualRecords.size());
+            assertEquals("Filmes", actualRecords.get(0).name());
+            assertEquals("A categoria mais assistida", actualRecords.get(0).description());
+            assertEquals("Séries", actualRecords.get(1).name());
+            assertFalse(actualRecords.get(1).active());
+        }
+    }
+
+    @Test
+    void givenACsvBodyWithHeader_whenCallsRead_shouldReturnOneRecordPerRow() throws Exception {
+        final var body = """
+            name,description,is_active
+            Filmes,A categoria mais assistida,true
+            Séries,,false
+            """;
+
+        final var aFormat = CategoryImportFormat.of("text/csv;charset=UTF-8");
+
+        try (final var records = aFormat.read(new ByteArrayInputStream(body.getBytes(UTF_8)))) {
+            final var actualRecords = Iterator.ofAll(records).toJavaList();
+
+            assertEquals(CategoryImportFormat.CSV, aFormat);
+            assertEquals(2, actualRecords.size());
+            assertEquals("Filmes", actualRecords.get(0).name());
+            assertTrue(actualRecords.get(0).active());
+            assertEquals("Séries", actualRecords.get(1).name());
+            assertFalse(actualRecords.get(1).active());
+        }
+    }
+
+    @Test
+    void givenAnUnsupportedContentType_whenCallsOf_shouldThrowHttpMediaTypeNotSupportedException() {
+        final var expectedSupportedTypes = List.of(MediaType.APPLICATION_NDJSON, MediaType.parseMediaType("text/csv"));
+
+        final var actualException =
+            assertThrows(HttpMediaTypeNotSupportedException.class, () -> CategoryImportFormat.of("application/xml"));
+
+        assertEquals(MediaType.APPLICATION_XML, actualException.getContentType());
+        assertEquals(expectedSupportedTypes, actualException.getSupportedMediaTypes());
+    }
+}
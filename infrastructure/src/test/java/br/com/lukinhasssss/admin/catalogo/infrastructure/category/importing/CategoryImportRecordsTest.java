@@ -0,0 +1,67 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.importing;
+
+import br.com.lukinhasssss.admin.catalogo.domain.exceptions.DomainException;
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryImportRecordsTest {
+
+    @Test
+    void givenAMalformedNdjsonLineBetweenValidOnes_whenIterates_shouldFailOnlyThatRecordAndContinue() throws Exception {
+        final var body = """
+            {"name": "Filmes", "is_active": true}
+            {"name": "Quebrado", "is_active": talvez}
+            {"name": "Errado", "is_active": [1]}
+
+            {"name": "Séries", "is_active": false}
+            """;
+
+        final var actualRecords = readAll(CategoryImportFormat.NDJSON, body);
+
+        assertEquals(4, actualRecords.size());
+        assertEquals("Filmes", ((CreateCategoryRequest) actualRecords.get(0)).name());
+        assertTrue(((DomainException) actualRecords.get(1)).getMessage().startsWith("malformed record: "));
+        assertTrue(((DomainException) actualRecords.get(2)).getMessage().startsWith("malformed record: "));
+        assertEquals("Séries", ((CreateCategoryRequest) actualRecords.get(3)).name());
+    }
+
+    @Test
+    void givenAMalformedCsvRowBetweenValidOnes_whenIterates_shouldFailOnlyThatRowAndContinue() throws Exception {
+        final var body = """
+            name,description,is_active
+            Filmes,,true
+            Quebrado,,talvez
+            Séries,,false
+            """;
+
+        final var actualRecords = readAll(CategoryImportFormat.CSV, body);
+
+        assertEquals(3, actualRecords.size());
+        assertEquals("Filmes", ((CreateCategoryRequest) actualRecords.get(0)).name());
+        assertTrue(((DomainException) actualRecords.get(1)).getMessage().startsWith("malformed record: "));
+        assertEquals("Séries", ((CreateCategoryRequest) actualRecords.get(2)).name());
+    }
+
+    private static List<Object> readAll(final CategoryImportFormat aFormat, final String body) throws Exception {
+        final var actualRecords = new ArrayList<>();
+
+        try (final var records = aFormat.read(new ByteArrayInputStream(body.getBytes(UTF_8)))) {
+            while (records.hasNext()) {
+                try {
+                    actualRecords.add(records.next());
+                } catch (final DomainException ex) {
+                    actualRecords.add(ex);
+                }
+            }
+        }
+
+        return actualRecords;
+    }
+}
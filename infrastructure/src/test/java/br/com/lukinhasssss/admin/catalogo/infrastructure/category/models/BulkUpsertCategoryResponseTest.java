@@ -0,0 +1,36 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import br.com.lukinhasssss.admin.catalogo.JacksonTest;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+import java.util.List;
+
+@JacksonTest
+class BulkUpsertCategoryResponseTest {
+
+    @Autowired
+    private JacksonTester<BulkUpsertCategoryResponse> json;
+
+    @Test
+    void testMarshall() throws Exception {
+        final var expectedIndex = 3;
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var response = new BulkUpsertCategoryResponse(
+            expectedIndex,
+            null,
+            null,
+            List.of(new Error(expectedErrorMessage))
+        );
+
+        final var actualJson = json.write(response);
+
+        Assertions.assertThat(actualJson)
+            .hasJsonPathValue("$.index", expectedIndex)
+            .hasJsonPathValue("$.errors[0].message", expectedErrorMessage);
+    }
+}
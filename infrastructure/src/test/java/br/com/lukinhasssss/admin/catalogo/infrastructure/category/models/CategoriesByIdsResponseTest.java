@@ -0,0 +1,36 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import br.com.lukinhasssss.admin.catalogo.JacksonTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+import java.time.Instant;
+import java.util.List;
+
+@JacksonTest
+class CategoriesByIdsResponseTest {
+
+    @Autowired
+    private JacksonTester<CategoriesByIdsResponse> json;
+
+    @Test
+    void testMarshall() throws Exception {
+        final var expectedId = "123";
+        final var expectedName = "Filmes";
+        final var expectedMissingId = "456";
+
+        final var response = new CategoriesByIdsResponse(
+            List.of(new CategoryResponse(expectedId, expectedName, null, true, Instant.now(), Instant.now(), null)),
+            List.of(expectedMissingId)
+        );
+
+        final var actualJson = json.write(response);
+
+        Assertions.assertThat(actualJson)
+            .hasJsonPathValue("$.items[0].id", expectedId)
+            .hasJsonPathValue("$.items[0].name", expectedName)
+            .hasJsonPathValue("$.missing[0]", expectedMissingId);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import br.com.lukinhasssss.admin.catalogo.JacksonTest;
+import br.com.lukinhasssss.admin.catalogo.application.category.importing.ImportCategoriesOutput.ImportCategoryError;
+import br.com.lukinhasssss.admin.catalogo.domain.validation.Error;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+import java.time.Instant;
+import java.util.List;
+
+@JacksonTest
+class CategoryImportJobResponseTest {
+
+    @Autowired
+    private JacksonTester<CategoryImportJobResponse> json;
+
+    @Test
+    void testMarshall() throws Exception {
+        final var expectedId = "123";
+        final var expectedStatus = "COMPLETED";
+        final var expectedErrorMessage = "'name' should not be null";
+        final var expectedCreatedAt = Instant.now();
+        final var expectedFinishedAt = Instant.now();
+
+        final var response = new CategoryImportJobResponse(
+            expectedId,
+            expectedStatus,
+            3,
+            2,
+            1,
+            List.of(new ImportCategoryError(2, List.of(new Error(expectedErrorMessage)))),
+            null,
+            expectedCreatedAt,
+            expectedFinishedAt
+        );
+
+        final var actualJson = json.write(response);
+
+        Assertions.assertThat(actualJson)
+            .hasJsonPathValue("$.id", expectedId)
+            .hasJsonPathValue("$.status", expectedStatus)
+            .hasJsonPathValue("$.processed", 3)
+            .hasJsonPathValue("$.imported", 2)
+            .hasJsonPathValue("$.failed", 1)
+            .hasJsonPathValue("$.errors[0].record", 2)
+            .hasJsonPathValue("$.errors[0].errors[0].message", expectedErrorMessage)
+            .hasJsonPathValue("$.created_at", expectedCreatedAt.toString())
+            .hasJsonPathValue("$.finished_at", expectedFinishedAt.toString());
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import br.com.lukinhasssss.admin.catalogo.JacksonTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+@JacksonTest
+class CategoryStatsResponseTest {
+
+    @Autowired
+    private JacksonTester<CategoryStatsResponse> json;
+
+    @Test
+    void testMarshall() throws Exception {
+        final var expectedTotal = 10L;
+        final var expectedActive = 7L;
+        final var expectedInactive = 3L;
+
+        final var response = new CategoryStatsResponse(expectedTotal, expectedActive, expectedInactive);
+
+        final var actualJson = json.write(response);
+
+        Assertions.assertThat(actualJson)
+            .hasJsonPathValue("$.total", expectedTotal)
+            .hasJsonPathValue("$.active", expectedActive)
+            .hasJsonPathValue("$.inactive", expectedInactive);
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import br.com.lukinhasssss.admin.catalogo.JacksonTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+@JacksonTest
+class CategorySuggestResponseTest {
+
+    @Autowired
+    private JacksonTester<CategorySuggestResponse> json;
+
+    @Test
+    void testMarshall() throws Exception {
+        final var expectedId = "123";
+        final var expectedName = "Ação";
+
+        final var response = new CategorySuggestResponse(expectedId, expectedName);
+
+        final var actualJson = json.write(response);
+
+        Assertions.assertThat(actualJson)
+            .hasJsonPathValue("$.id", expectedId)
+            .hasJsonPathValue("$.name", expectedName);
+    }
+}
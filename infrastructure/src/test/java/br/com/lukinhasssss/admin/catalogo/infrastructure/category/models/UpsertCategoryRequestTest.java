@@ -0,0 +1,44 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.models;
+
+import br.com.lukinhasssss.admin.catalogo.JacksonTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.json.JacksonTester;
+
+@JacksonTest
+class UpsertCategoryRequestTest {
+
+    @Autowired
+    private JacksonTester<UpsertCategoryRequest> json;
+
+    @Test
+    void testUnmarshall() throws Exception {
+        final var expectedId = "123";
+        final var expectedName = "Filmes";
+        final var expectedDescription = "A categoria mais assistida";
+        final var expectedIsActive = false;
+
+        final var json = """
+            {
+              "id": "%s",
+              "name": "%s",
+              "description": "%s",
+              "is_active": "%s"
+            }
+            """.formatted(
+            expectedId,
+            expectedName,
+            expectedDescription,
+            expectedIsActive
+        );
+
+        final var actualJson = this.json.parse(json);
+
+        Assertions.assertThat(actualJson)
+            .hasFieldOrPropertyWithValue("id", expectedId)
+            .hasFieldOrPropertyWithValue("name", expectedName)
+            .hasFieldOrPropertyWithValue("description", expectedDescription)
+            .hasFieldOrPropertyWithValue("active", expectedIsActive);
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.search;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategorySearchIndexTest {
+
+    @TempDir
+    Path indexPath;
+
+    private CategorySearchIndex searchIndex;
+
+    private final Category filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+    private final Category series = Category.newCategory("Séries", "Episódios semanais", true);
+    private final Category animes = Category.newCategory("Animes", "Séries japonesas", true);
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new CategorySearchIndex(indexPath);
+        searchIndex.index(List.of(filmes, series, animes));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void givenAPrefix_whenCallsSearch_shouldMatchTheBeginningOfTheTerms() {
+        final var actualResult = searchIndex.search("fil", "name", true, 0, 10).get();
+
+        assertEquals(1, actualResult.total());
+        assertEquals(List.of(filmes.getId()), actualResult.ids());
+    }
+
+    @Test
+    void givenTermsWithoutAccentsAndCase_whenCallsSearch_shouldMatchTheFoldedTerms() {
+        final var actualResult = searchIndex.search("SERIES", "name", true, 0, 10).get();
+
+        // "Séries" no name da própria categoria e no description de Animes
+        assertEquals(2, actualResult.total());
+        assertEquals(List.of(animes.getId(), series.getId()), actualResult.ids());
+    }
+
+    @Test
+    void givenRelevanceSort_whenCallsSearch_shouldRankMatchesOnTheNameFirst() {
+        final var actualResult = searchIndex.search("series", CategorySearchIndex.RELEVANCE, false, 0, 10).get();
+
+        assertEquals(List.of(series.getId(), animes.getId()), actualResult.ids());
+    }
+
+    @Test
+    void givenMoreTerms_whenCallsSearch_shouldRequireAllOfThem() {
+        final var actualResult = searchIndex.search("series jap", "name", true, 0, 10).get();
+
+        assertEquals(List.of(animes.getId()), actualResult.ids());
+    }
+
+    @Test
+    void givenAPage_whenCallsSearch_shouldReturnTheTotalAndOnlyThePageIds() {
+        final var actualResult = searchIndex.search("a", "name", false, 1, 1).get();
+
+        // "A categoria..." e "Animes"; ordenado por name desc: Filmes, Animes
+        assertEquals(2, actualResult.total());
+        assertEquals(List.of(animes.getId()), actualResult.ids());
+    }
+
+    @Test
+    void givenThePositionOfTheLastItem_whenCallsSearch_shouldReturnTheFollowingPageInTheSameOrderAsTheOffset() {
+        final var expectedIds = searchIndex.search("a", "createdAt", false, 0, 10).get().ids();
+        final var actualIds = new ArrayList<CategoryID>();
+
+        var actualResult = searchIndex.search("a", "createdAt", false, null, 0, 1).get();
+        actualIds.addAll(actualResult.ids());
+
+        while (actualResult.next() != null) {
+            actualResult = searchIndex.search("a", "createdAt", false, actualResult.next(), 0, 1).get();
+            actualIds.addAll(actualResult.ids());
+            assertEquals(expectedIds.size(), actualResult.total());
+        }
+
+        assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    void givenAPositionWithAValueOfAnotherType_whenCallsSearch_shouldFail() {
+        final var aPosition = new CategorySearchIndex.Position(filmes.getId().getValue(), "Filmes");
+
+        assertThrows(IllegalArgumentException.class, () -> searchIndex.search("a", "createdAt", true, aPosition, 0, 1));
+    }
+
+    @Test
+    void givenADeletedCategory_whenCallsSearch_shouldNotReturnIt() {
+        searchIndex.delete(List.of(filmes.getId(), CategoryID.from("123")));
+
+        assertEquals(0, searchIndex.search("filmes", "name", true, 0, 10).get().total());
+    }
+
+    @Test
+    void givenAnUpdatedCategory_whenCallsIndexAgain_shouldReplaceTheDocument() {
+        searchIndex.index(List.of(filmes.clone().update("Documentários", null, true)));
+
+        assertEquals(0, searchIndex.search("filmes", "name", true, 0, 10).get().total());
+        assertEquals(List.of(filmes.getId()), searchIndex.search("documentarios", "name", true, 0, 10).get().ids());
+    }
+
+    @Test
+    void givenTermsWithoutTokens_whenCallsSearch_shouldReturnEmpty() {
+        assertTrue(searchIndex.search("%", "name", true, 0, 10).isEmpty());
+    }
+
+    @Test
+    void givenAnUnknownSort_whenCallsSupports_shouldReturnFalse() {
+        assertTrue(CategorySearchIndex.supports("name"));
+        assertTrue(CategorySearchIndex.supports(CategorySearchIndex.RELEVANCE));
+        assertFalse(CategorySearchIndex.supports("active"));
+    }
+}
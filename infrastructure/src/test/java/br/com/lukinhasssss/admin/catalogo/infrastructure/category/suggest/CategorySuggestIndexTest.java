@@ -0,0 +1,76 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.category.suggest;
+
+import br.com.lukinhasssss.admin.catalogo.domain.category.Category;
+import br.com.lukinhasssss.admin.catalogo.domain.category.CategorySuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategorySuggestIndexTest {
+
+    private final CategorySuggestIndex suggestIndex = new CategorySuggestIndex();
+
+    @Test
+    void givenAPrefix_whenCallsSuggest_shouldReturnTheMatchingNamesInAlphabeticalOrder() {
+        final var acaoEAventura = Category.newCategory("Ação e Aventura", null, true);
+        final var acao = Category.newCategory("Ação", null, true);
+        final var animes = Category.newCategory("Animes", null, true);
+
+        suggestIndex.index(List.of(acaoEAventura, acao, animes));
+
+        assertEquals(List.of(acao.getId(), acaoEAventura.getId()), ids(suggestIndex.suggest("ACA", 10)));
+        assertEquals(List.of(acao.getId(), acaoEAventura.getId(), animes.getId()), ids(suggestIndex.suggest("a", 10)));
+        assertEquals("Ação", suggestIndex.suggest("ação", 1).get(0).name());
+    }
+
+    @Test
+    void givenALimit_whenCallsSuggest_shouldReturnAtMostLimitSuggestions() {
+        suggestIndex.index(List.of(
+            Category.newCategory("Filmes", null, true),
+            Category.newCategory("Filmes Antigos", null, true),
+            Category.newCategory("Filmes Nacionais", null, true)
+        ));
+
+        assertEquals(2, suggestIndex.suggest("fil", 2).size());
+        assertTrue(suggestIndex.suggest("series", 10).isEmpty());
+    }
+
+    @Test
+    void givenARenamedOrDeactivatedCategory_whenCallsIndexAgain_shouldReplaceOrRemoveIt() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        suggestIndex.index(List.of(filmes, series));
+        suggestIndex.index(List.of(
+            filmes.clone().update("Documentários", null, true),
+            series.clone().update("Séries", null, false)
+        ));
+
+        assertTrue(suggestIndex.suggest("fil", 10).isEmpty());
+        assertTrue(suggestIndex.suggest("ser", 10).isEmpty());
+        assertEquals(List.of(filmes.getId()), ids(suggestIndex.suggest("doc", 10)));
+        assertEquals(1, suggestIndex.size());
+    }
+
+    @Test
+    void givenADeletedCategory_whenCallsSuggest_shouldNotReturnItButKeepTheOthersOnThePath() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var filmesAntigos = Category.newCategory("Filmes Antigos", null, true);
+
+        suggestIndex.index(List.of(filmes, filmesAntigos));
+        suggestIndex.delete(List.of(filmesAntigos.getId()));
+
+        assertEquals(List.of(filmes.getId()), ids(suggestIndex.suggest("filmes", 10)));
+
+        suggestIndex.delete(List.of(filmes.getId()));
+
+        assertTrue(suggestIndex.suggest("f", 10).isEmpty());
+        assertEquals(0, suggestIndex.size());
+    }
+
+    private static List<?> ids(final List<CategorySuggestion> suggestions) {
+        return suggestions.stream().map(CategorySuggestion::id).toList();
+    }
+}
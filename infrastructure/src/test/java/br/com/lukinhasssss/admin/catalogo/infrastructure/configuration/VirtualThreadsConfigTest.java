@@ -0,0 +1,39 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsConfigTest {
+
+    @Test
+    void givenAJavaVersionOlderThan21_whenChecksTheRuntime_shouldFailWithTheVersionInTheMessage() {
+        final var expectedErrorMessage =
+            "The virtual-threads profile requires Java 21 or newer, but the runtime is Java 17: upgrade the runtime or remove the profile from spring.profiles.active";
+
+        final var actualException = assertThrows(IllegalStateException.class, () -> VirtualThreadsConfig.checkRuntime(17));
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenJava21_whenChecksTheRuntime_shouldPass() {
+        assertDoesNotThrow(() -> VirtualThreadsConfig.checkRuntime(21));
+    }
+
+    @Test
+    void givenTheProfileOnAnOlderRuntime_whenStartsTheContext_shouldFailAtStartup() {
+        assumeTrue(Runtime.version().feature() < VirtualThreadsConfig.MIN_JAVA_VERSION);
+
+        new ApplicationContextRunner()
+            .withPropertyValues("spring.profiles.active=virtual-threads")
+            .withUserConfiguration(VirtualThreadsConfig.class)
+            .run(context -> assertThat(context).hasFailed()
+                .getFailure()
+                .getRootCause()
+                .hasMessageStartingWith("The virtual-threads profile requires Java 21 or newer"));
+    }
+}
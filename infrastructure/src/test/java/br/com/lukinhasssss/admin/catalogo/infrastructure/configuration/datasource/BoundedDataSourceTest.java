@@ -0,0 +1,72 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BoundedDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection aConnection;
+
+    private BoundedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new BoundedDataSource(pool, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void givenAllConnectionsBorrowed_whenCallsGetConnection_shouldTimeOutInTheQueue() throws SQLException {
+        when(pool.getConnection()).thenReturn(aConnection);
+
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(pool, times(1)).getConnection();
+    }
+
+    @Test
+    void givenAConnectionClosedTwice_whenCallsGetConnection_shouldReleaseOnlyOnePermit() throws SQLException {
+        when(pool.getConnection()).thenReturn(aConnection);
+
+        final var actualConnection = dataSource.getConnection();
+        actualConnection.close();
+        actualConnection.close();
+
+        verify(aConnection, times(2)).close();
+
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    @Test
+    void givenAPoolFailure_whenCallsGetConnection_shouldReleaseThePermit() throws SQLException {
+        when(pool.getConnection())
+            .thenThrow(new SQLTransientConnectionException("Connection is not available"))
+            .thenReturn(aConnection);
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        final var actualConnection = dataSource.getConnection();
+
+        assertNotNull(actualConnection);
+        assertEquals(actualConnection, actualConnection);
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.Cookie;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @Test
+    void givenAWriteRequest_whenFiltered_shouldReturnTheReadPrimaryCookie() throws Exception {
+        final var request = new MockHttpServletRequest("PUT", "/categories/123");
+        final var response = new MockHttpServletResponse();
+        final var now = Instant.now();
+
+        filter.doFilter(request, response, (req, res) -> {});
+
+        final var actualCookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        assertNotNull(actualCookie);
+        assertEquals(5, actualCookie.getMaxAge());
+        assertTrue(Long.parseLong(actualCookie.getValue()) >= now.plusSeconds(5).toEpochMilli());
+    }
+
+    @Test
+    void givenAReadRequest_whenFiltered_shouldNotReturnTheReadPrimaryCookie() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/categories"), response, (req, res) -> {});
+
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+    @Test
+    void givenARequestWithAValidCookie_whenFiltered_shouldPinTheRequestToPrimary() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/categories");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(Instant.now().plusSeconds(5).toEpochMilli())));
+
+        final var usedReplica = new AtomicBoolean(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), onReplica(usedReplica));
+
+        assertFalse(usedReplica.get());
+        assertTrue(DataSourceRouting.onReplica(DataSourceRouting::useReplica));
+    }
+
+    @Test
+    void givenARequestWithAnExpiredCookie_whenFiltered_shouldUseReplica() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/categories");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(Instant.now().minusSeconds(1).toEpochMilli())));
+
+        final var usedReplica = new AtomicBoolean(false);
+
+        filter.doFilter(request, new MockHttpServletResponse(), onReplica(usedReplica));
+
+        assertTrue(usedReplica.get());
+    }
+
+    private static FilterChain onReplica(final AtomicBoolean usedReplica) {
+        return (req, res) -> usedReplica.set(DataSourceRouting.onReplica(DataSourceRouting::useReplica));
+    }
+}
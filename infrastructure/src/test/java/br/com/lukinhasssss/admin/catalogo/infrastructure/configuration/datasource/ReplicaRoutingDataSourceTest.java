@@ -0,0 +1,137 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection firstReplicaConnection;
+
+    @Mock
+    private Connection secondReplicaConnection;
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica));
+    }
+
+    @Test
+    void givenNoRouting_whenCallsGetConnection_shouldUsePrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertEquals(primaryConnection, dataSource.getConnection());
+
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+
+    @Test
+    void givenOnReplica_whenCallsGetConnection_shouldAlternateBetweenReplicas() throws SQLException {
+        when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+
+        final var actualConnections = DataSourceRouting.onReplica(() -> List.of(
+            getConnection(), getConnection(), getConnection()
+        ));
+
+        assertEquals(List.of(firstReplicaConnection, secondReplicaConnection, firstReplicaConnection), actualConnections);
+
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void givenOnPrimaryInsideOnReplica_whenCallsGetConnection_shouldUsePrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        final var actualConnection = DataSourceRouting.onReplica(() -> DataSourceRouting.onPrimary(this::getConnection));
+
+        assertEquals(primaryConnection, actualConnection);
+    }
+
+    @Test
+    void givenAThreadPinnedToPrimary_whenCallsGetConnectionOnReplica_shouldUsePrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        DataSourceRouting.pinToPrimary();
+        try {
+            assertEquals(primaryConnection, DataSourceRouting.onReplica(this::getConnection));
+        } finally {
+            DataSourceRouting.unpin();
+        }
+
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+
+    @Test
+    void givenAThreadPinnedToPrimary_whenSubmitsToAPropagatingExecutor_shouldUsePrimaryOnTheOtherThread() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        final var anExecutor = Executors.newSingleThreadExecutor();
+
+        DataSourceRouting.pinToPrimary();
+        try {
+            final var actualConnection = CompletableFuture.supplyAsync(
+                () -> DataSourceRouting.onReplica(this::getConnection),
+                DataSourceRouting.propagating(anExecutor)
+            );
+
+            assertEquals(primaryConnection, actualConnection.join());
+        } finally {
+            DataSourceRouting.unpin();
+            anExecutor.shutdownNow();
+        }
+
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+
+    @Test
+    void givenNoReplicas_whenCallsGetConnectionOnReplica_shouldUsePrimary() throws SQLException {
+        final var aDataSource = new ReplicaRoutingDataSource(primary, List.of());
+
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertEquals(primaryConnection, DataSourceRouting.onReplica(() -> {
+            try {
+                return aDataSource.getConnection();
+            } catch (final SQLException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }));
+    }
+
+    private Connection getConnection() {
+        try {
+            return dataSource.getConnection();
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.lukinhasssss.admin.catalogo.infrastructure.configuration.usecases;
+
+import br.com.lukinhasssss.admin.catalogo.infrastructure.category.CategoryCountExecutor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UseCaseExecutorConfigTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final int THREADS = 3;
+    private static final int COUNT_THREADS = 1;
+
+    private HikariDataSource pool;
+    private UseCaseExecutor useCaseExecutor;
+    private CategoryCountExecutor countExecutor;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:use_case_executor_config_test");
+        pool.setMaximumPoolSize(POOL_SIZE);
+        pool.setConnectionTimeout(250);
+
+        useCaseExecutor = new UseCaseExecutorConfig().useCaseExecutor(THREADS, 100, COUNT_THREADS, POOL_SIZE, POOL_SIZE);
+        countExecutor = new CategoryCountExecutor(COUNT_THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCaseExecutor.destroy();
+        countExecutor.destroy();
+        pool.close();
+    }
+
+    @Test
+    void givenMoreThreadsThanConnections_whenCreatesTheExecutor_shouldFailAtStartup() {
+        final var expectedErrorMessage =
+            "category.async.threads (20) + category.list.count-threads (8) must not exceed the connection pool size (20)";
+
+        final var actualException = assertThrows(
+            IllegalStateException.class,
+            () -> new UseCaseExecutorConfig().useCaseExecutor(20, 500, 8, 20, 30)
+        );
+
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    void givenABurstOfTermSearches_whenThreadsFitThePool_shouldNeverTimeOutWaitingForAConnection() {
+        // Cada busca segura a conexão por mais tempo que o connection-timeout: só passa se nenhuma precisar esperar pelo pool
+        final var searches = IntStream.range(0, 12)
+            .mapToObj(i -> CompletableFuture.supplyAsync(this::searchWithCount, useCaseExecutor.get()))
+            .toList();
+
+        searches.forEach(aSearch -> assertEquals(2, aSearch.join()));
+    }
+
+    /**
+     * Como no CategoryMySQLGateway.findAll: o COUNT é submetido antes e roda na sua conexão enquanto a página usa outra
+     */
+    private int searchWithCount() {
+        final var total = countExecutor.submit(this::holdConnection);
+        return holdConnection() + total.get();
+    }
+
+    private int holdConnection() {
+        try (final var aConnection = pool.getConnection()) {
+            Thread.sleep(300);
+            return aConnection.isValid(1) ? 1 : 0;
+        } catch (final SQLException ex) {
+            throw new IllegalStateException(ex);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}